@@ -0,0 +1,144 @@
+package com.sprints.room_booking_system.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprints.room_booking_system.RoomBookingSystemApplication;
+import com.sprints.room_booking_system.dto.BookingDto;
+import com.sprints.room_booking_system.model.*;
+import com.sprints.room_booking_system.repository.BookingRepository;
+import com.sprints.room_booking_system.repository.BuildingRepository;
+import com.sprints.room_booking_system.repository.RoomRepository;
+import com.sprints.room_booking_system.repository.UserRepository;
+import com.sprints.room_booking_system.service.BookingService;
+import com.sprints.room_booking_system.service.impl.BookingServiceImpl;
+import jakarta.validation.Validator;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.util.AopTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the application against the in-memory H2 "test" profile and generates a booking calendar:
+ * every room is booked for one-hour slots between 08:00 and 18:00 across the next {@code days} days.
+ * The context is shared by all benchmark threads of one fork.
+ */
+@State(Scope.Benchmark)
+public class BookingDataset {
+
+    private static final int FIRST_SLOT_HOUR = 8;
+    private static final int SLOTS_PER_DAY = 10;
+
+    @Param({"20"})
+    public int rooms;
+
+    @Param({"30"})
+    public int days;
+
+    ConfigurableApplicationContext context;
+    BookingRepository bookingRepository;
+    BookingServiceImpl bookingService;
+    Validator validator;
+    ObjectMapper objectMapper;
+
+    Long hotRoomId;
+    LocalDateTime conflictStart;
+    LocalDateTime conflictEnd;
+    LocalDateTime freeStart;
+    LocalDateTime freeEnd;
+    BookingDto freeSlotRequest;
+
+    @Setup(Level.Trial)
+    public void start() {
+        // Passed as arguments so they win over spring.profiles.active in application.yml
+        context = new SpringApplicationBuilder(RoomBookingSystemApplication.class)
+                .run("--spring.profiles.active=test",
+                        "--server.port=0",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.sprints.room_booking_system=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.springframework.security=WARN",
+                        "--management.tracing.sampling.probability=0.0");
+        bookingRepository = context.getBean(BookingRepository.class);
+        // Unwrap the AOP proxy so mapping is measured the way the service calls it internally
+        bookingService = AopTestUtils.getTargetObject(context.getBean(BookingService.class));
+        validator = context.getBean(Validator.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    private void seed() {
+        Building building = context.getBean(BuildingRepository.class)
+                .save(Building.builder().name("Benchmark Hall").location("Campus").build());
+        User user = context.getBean(UserRepository.class).save(User.builder()
+                .name("Benchmark User")
+                .email("benchmark.user@university.edu")
+                .password("not-used")
+                .role(UserRole.FACULTY)
+                .isActive(true)
+                .build());
+
+        List<Room> roomList = new ArrayList<>();
+        for (int i = 0; i < rooms; i++) {
+            roomList.add(Room.builder()
+                    .name("Benchmark Room " + i)
+                    .capacity(30)
+                    .floorNumber(i % 5)
+                    .building(building)
+                    .features(new ArrayList<>())
+                    .isActive(true)
+                    .build());
+        }
+        roomList = context.getBean(RoomRepository.class).saveAll(roomList);
+
+        LocalDate firstDay = LocalDate.now().plusDays(1);
+        List<Booking> bookings = new ArrayList<>(rooms * days * SLOTS_PER_DAY);
+        for (Room room : roomList) {
+            for (int day = 0; day < days; day++) {
+                for (int slot = 0; slot < SLOTS_PER_DAY; slot++) {
+                    LocalDateTime start = firstDay.plusDays(day).atTime(FIRST_SLOT_HOUR + slot, 0);
+                    bookings.add(Booking.builder()
+                            .room(room)
+                            .user(user)
+                            .startTime(start)
+                            .endTime(start.plusHours(1))
+                            .purpose("Lecture " + slot)
+                            .status(slot % 3 == 0 ? BookingStatus.PENDING : BookingStatus.APPROVED)
+                            .createdAt(LocalDateTime.now())
+                            .build());
+                }
+            }
+        }
+        bookingRepository.saveAll(bookings);
+
+        hotRoomId = roomList.get(0).getId();
+        LocalDate middleDay = firstDay.plusDays(days / 2);
+        conflictStart = middleDay.atTime(LocalTime.of(11, 30));
+        conflictEnd = conflictStart.plusHours(1);
+        freeStart = middleDay.atTime(LocalTime.of(19, 0));
+        freeEnd = freeStart.plusHours(1);
+        freeSlotRequest = BookingDto.builder()
+                .roomId(hotRoomId)
+                .userId(user.getId())
+                .startTime(freeStart)
+                .endTime(freeEnd)
+                .purpose("Benchmark seminar")
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.sprints.room_booking_system.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.sprints.room_booking_system.dto.BookingDto;
+import com.sprints.room_booking_system.model.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping ({@code BookingServiceImpl.toDto}) and JSON serialization of a booking list
+ * with the application's configured ObjectMapper.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingMappingBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Bookings {
+
+        @Param({"100"})
+        public int size;
+
+        List<Booking> entities;
+        List<BookingDto> dtos;
+
+        @Setup(Level.Trial)
+        public void build(BookingDataset data) {
+            Room room = Room.builder().id(1L).name("Room").capacity(30).floorNumber(1).isActive(true).build();
+            User user = User.builder().id(1L).name("User").email("user@university.edu").role(UserRole.STUDENT).build();
+            LocalDateTime start = LocalDateTime.now().plusDays(1);
+            entities = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                entities.add(Booking.builder()
+                        .id((long) i)
+                        .room(room)
+                        .user(user)
+                        .startTime(start.plusHours(i))
+                        .endTime(start.plusHours(i + 1))
+                        .purpose("Lecture " + i)
+                        .status(BookingStatus.APPROVED)
+                        .build());
+            }
+            dtos = entities.stream().map(data.bookingService::toDto).toList();
+        }
+    }
+
+    @Benchmark
+    public BookingDto toDto(BookingDataset data, Bookings bookings) {
+        return data.bookingService.toDto(bookings.entities.get(0));
+    }
+
+    @Benchmark
+    public List<BookingDto> toDtoList(BookingDataset data, Bookings bookings) {
+        return bookings.entities.stream().map(data.bookingService::toDto).toList();
+    }
+
+    @Benchmark
+    public byte[] serializeBookingList(BookingDataset data, Bookings bookings) throws JsonProcessingException {
+        return data.objectMapper.writeValueAsBytes(bookings.dtos);
+    }
+}
@@ -0,0 +1,35 @@
+package com.sprints.room_booking_system.benchmark;
+
+import com.sprints.room_booking_system.dto.BookingDto;
+import jakarta.validation.ConstraintViolation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overlap detection as issued by the service ({@code hasOverlappingBookings}) and by bean validation
+ * of an incoming {@link BookingDto}, which runs the same query through {@code @NoOverlap}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConflictCheckBenchmark {
+
+    @Benchmark
+    public boolean overlapConflicting(BookingDataset data) {
+        return data.bookingRepository.hasOverlappingBookings(data.hotRoomId, data.conflictStart, data.conflictEnd);
+    }
+
+    @Benchmark
+    public boolean overlapFree(BookingDataset data) {
+        return data.bookingRepository.hasOverlappingBookings(data.hotRoomId, data.freeStart, data.freeEnd);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<BookingDto>> validateBookingDto(BookingDataset data) {
+        return data.validator.validate(data.freeSlotRequest);
+    }
+}
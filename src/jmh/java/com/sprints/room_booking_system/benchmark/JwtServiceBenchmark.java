@@ -0,0 +1,46 @@
+package com.sprints.room_booking_system.benchmark;
+
+import com.sprints.room_booking_system.security.JwtService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HS256 token generation and verification as done on login and on every authenticated request.
+ * Runs without a Spring context; the service is configured with the application's default settings.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    private static final String USERNAME = "benchmark.user@university.edu";
+
+    private JwtService jwtService;
+    private Map<String, Object> claims;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secret", "very-secret-demo-key-please-change");
+        ReflectionTestUtils.setField(jwtService, "expirationMs", 86_400_000L);
+        claims = Map.of("role", "ROLE_STUDENT");
+        token = jwtService.generateToken(USERNAME, claims);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(USERNAME, claims);
+    }
+
+    @Benchmark
+    public boolean verifyToken() {
+        return jwtService.isTokenValid(token, USERNAME);
+    }
+}
@@ -0,0 +1,93 @@
+package com.sprints.room_booking_system.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Thin JSON-over-HTTP client for the REST API. Every call reports its latency and status to the
+ * endpoint's {@link EndpointStats}; transport failures are recorded as status 0 (an error).
+ */
+final class ApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+
+    ApiClient(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    Response send(String method, String path, String token, Map<String, ?> body, EndpointStats stats) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        if (body != null) {
+            request.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(toJson(body)));
+        } else {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+
+        long start = System.nanoTime();
+        int status = 0;
+        String responseBody = "";
+        try {
+            HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            status = response.statusCode();
+            responseBody = response.body();
+        } catch (IOException e) {
+            responseBody = e.toString();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            responseBody = e.toString();
+        }
+        if (stats != null) {
+            stats.record(System.nanoTime() - start, status);
+        }
+        return new Response(status, responseBody);
+    }
+
+    JsonNode json(Response response) {
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            throw new IllegalStateException("Unexpected response body: " + response.body(), e);
+        }
+    }
+
+    ObjectMapper objectMapper() {
+        return objectMapper;
+    }
+
+    private String toJson(Map<String, ?> body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot serialize request body", e);
+        }
+    }
+
+    record Response(int status, String body) {
+
+        boolean ok() {
+            return status >= 200 && status < 300;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.sprints.room_booking_system.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram (microsecond resolution, up to one minute) and outcome counters for one endpoint.
+ * Recording is lock-free so virtual users never contend on the statistics.
+ */
+final class EndpointStats {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Recorder recorder = new Recorder(MAX_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    void record(long elapsedNanos, int status) {
+        recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), MAX_TRACKABLE_MICROS));
+        if (status >= 200 && status < 300) {
+            successes.increment();
+        } else if (status == 409) {
+            conflicts.increment();
+        } else {
+            errors.increment();
+        }
+    }
+
+    void reset() {
+        recorder.reset();
+        successes.reset();
+        conflicts.reset();
+        errors.reset();
+    }
+
+    /**
+     * Summary for the report; conflicts (409) are expected under contention and are not errors.
+     */
+    Map<String, Object> summarize(double elapsedSeconds) {
+        Histogram histogram = recorder.getIntervalHistogram();
+        long total = successes.sum() + conflicts.sum() + errors.sum();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", total);
+        summary.put("successes", successes.sum());
+        summary.put("conflicts", conflicts.sum());
+        summary.put("errors", errors.sum());
+        summary.put("errorRate", total == 0 ? 0.0 : (double) errors.sum() / total);
+        summary.put("throughputPerSecond", elapsedSeconds <= 0 ? 0.0 : total / elapsedSeconds);
+        summary.put("p50Ms", millis(histogram.getValueAtPercentile(50)));
+        summary.put("p99Ms", millis(histogram.getValueAtPercentile(99)));
+        summary.put("p999Ms", millis(histogram.getValueAtPercentile(99.9)));
+        summary.put("maxMs", millis(histogram.getMaxValue()));
+        return summary;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
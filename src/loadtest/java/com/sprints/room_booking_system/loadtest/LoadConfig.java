@@ -0,0 +1,68 @@
+package com.sprints.room_booking_system.loadtest;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Harness settings, parsed from {@code --name=value} arguments.
+ * Without {@code --base-url} the application is started in-process on the H2 "test" profile.
+ */
+record LoadConfig(
+        String baseUrl,
+        int users,
+        int admins,
+        int rooms,
+        int warmupSeconds,
+        int durationSeconds,
+        long thinkTimeMillis,
+        Map<Operation, Integer> mix,
+        long seed,
+        Path report,
+        Path baseline,
+        double maxP99Regression,
+        double maxErrorRate) {
+
+    static LoadConfig parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        String baseline = values.getOrDefault("baseline", "");
+        return new LoadConfig(
+                values.getOrDefault("base-url", ""),
+                Integer.parseInt(values.getOrDefault("users", "50")),
+                Integer.parseInt(values.getOrDefault("admins", "2")),
+                Integer.parseInt(values.getOrDefault("rooms", "20")),
+                Integer.parseInt(values.getOrDefault("warmup", "10")),
+                Integer.parseInt(values.getOrDefault("duration", "60")),
+                Long.parseLong(values.getOrDefault("think-time-ms", "0")),
+                parseMix(values.getOrDefault("mix", "create:35,availability:45,approve:10,cancel:10")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Path.of(values.getOrDefault("report", "target/loadtest/report.json")),
+                baseline.isBlank() ? null : Path.of(baseline),
+                Double.parseDouble(values.getOrDefault("max-p99-regression", "0.20")),
+                Double.parseDouble(values.getOrDefault("max-error-rate", "0.01")));
+    }
+
+    boolean embedded() {
+        return baseUrl.isBlank();
+    }
+
+    private static Map<Operation, Integer> parseMix(String spec) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Mix entries look like create:40, got: " + entry);
+            }
+            mix.put(Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,348 @@
+package com.sprints.room_booking_system.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sprints.room_booking_system.RoomBookingSystemApplication;
+import com.sprints.room_booking_system.model.UserRole;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end load driver: registers and logs in a population of users, then lets one virtual thread per
+ * user replay the configured traffic mix (booking creates, availability checks, admin approvals and
+ * cancellations) against the full stack. Reports p50/p99/p99.9, throughput and errors per endpoint, and
+ * fails with exit code 1 when p99 or the error rate regress against a baseline report.
+ *
+ * <pre>
+ * ./mvnw -Ploadtest -DskipTests verify
+ * ./mvnw -Ploadtest -DskipTests verify -Dloadtest.args="--base-url=http://localhost:8080 --users=200 --duration=120"
+ * ./mvnw -Ploadtest -DskipTests verify -Dloadtest.args="--baseline=loadtest-baseline.json"
+ * </pre>
+ */
+public final class LoadHarness {
+
+    private static final int BOOKING_HORIZON_DAYS = 60;
+    private static final int FIRST_HOUR = 8;
+    private static final int BOOKABLE_HOURS = 10;
+    private static final String PASSWORD = "LoadTest#2024";
+
+    private final LoadConfig config;
+    private final ApiClient api;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<Operation, EndpointStats> operationStats = new EnumMap<>(Operation.class);
+    private final EndpointStats loginStats = new EndpointStats();
+    private final ConcurrentLinkedQueue<Long> pendingApprovals = new ConcurrentLinkedQueue<>();
+    private final int totalWeight;
+
+    private List<Session> admins;
+    private List<Session> users;
+    private List<Long> roomIds;
+    /** Logins all happen while signing up the users, so their throughput is over that phase, not the measurement */
+    private double loginSeconds;
+    private volatile boolean running = true;
+
+    private LoadHarness(LoadConfig config, String baseUrl) {
+        this.config = config;
+        this.api = new ApiClient(baseUrl);
+        for (Operation operation : Operation.values()) {
+            operationStats.put(operation, new EndpointStats());
+        }
+        this.totalWeight = config.mix().values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadConfig config = LoadConfig.parse(args);
+        ConfigurableApplicationContext context = config.embedded() ? startEmbedded() : null;
+        boolean passed;
+        try {
+            String baseUrl = context != null
+                    ? "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    : config.baseUrl();
+            passed = new LoadHarness(config, baseUrl).run();
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    private static ConfigurableApplicationContext startEmbedded() {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        // Arguments rather than defaults so they win over spring.profiles.active in application.yml
+        return new SpringApplicationBuilder(RoomBookingSystemApplication.class)
+                .run("--spring.profiles.active=test",
+                        "--server.port=0",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.sprints.room_booking_system=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.springframework.security=WARN",
+                        "--app.sql.budget.fail-on-exceed=false",
+                        "--app.logging.request.success-sample-rate=0");
+    }
+
+    private boolean run() throws Exception {
+        setUp();
+
+        ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int i = 0; i < users.size(); i++) {
+            int index = i;
+            tasks.add(workers.submit(() -> virtualUser(index)));
+        }
+
+        TimeUnit.SECONDS.sleep(config.warmupSeconds());
+        operationStats.values().forEach(EndpointStats::reset);
+        long measureStart = System.nanoTime();
+        TimeUnit.SECONDS.sleep(config.durationSeconds());
+        running = false;
+        double elapsedSeconds = (System.nanoTime() - measureStart) / 1e9;
+        for (Future<?> task : tasks) {
+            task.get();
+        }
+        workers.shutdown();
+
+        Map<String, Map<String, Object>> endpoints = new LinkedHashMap<>();
+        endpoints.put(Operation.LOGIN_ENDPOINT, loginStats.summarize(loginSeconds));
+        for (Operation operation : Operation.values()) {
+            endpoints.put(operation.endpoint(), operationStats.get(operation).summarize(elapsedSeconds));
+        }
+        writeReport(endpoints, elapsedSeconds);
+        print(endpoints);
+        return checkGate(endpoints);
+    }
+
+    private void setUp() throws Exception {
+        long loginStart = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Session>> adminSessions = new ArrayList<>();
+            for (int i = 0; i < config.admins(); i++) {
+                int index = i;
+                adminSessions.add(executor.submit(() -> registerAndLogin("admin", index, UserRole.ADMIN)));
+            }
+            List<Future<Session>> userSessions = new ArrayList<>();
+            for (int i = 0; i < config.users(); i++) {
+                int index = i;
+                UserRole role = i % 4 == 0 ? UserRole.FACULTY : UserRole.STUDENT;
+                userSessions.add(executor.submit(() -> registerAndLogin("user", index, role)));
+            }
+            admins = collect(adminSessions);
+            users = collect(userSessions);
+        }
+        loginSeconds = (System.nanoTime() - loginStart) / 1e9;
+
+        Session admin = admins.get(0);
+        ApiClient.Response building = api.send("POST", "/api/v1/buildings", admin.token(),
+                Map.of("name", "Load Test Hall " + runId, "location", "Campus"), null);
+        long buildingId = api.json(require(building, "create building")).get("id").asLong();
+        roomIds = new ArrayList<>();
+        for (int i = 0; i < config.rooms(); i++) {
+            ApiClient.Response room = api.send("POST", "/api/v1/rooms", admin.token(), Map.of(
+                    "name", "LT-" + runId + "-" + i,
+                    "capacity", 40,
+                    "floorNumber", i % 4,
+                    "buildingId", buildingId), null);
+            roomIds.add(api.json(require(room, "create room")).get("id").asLong());
+        }
+        System.out.printf("Logged in %d users and %d admins, created %d rooms; warming up for %ds%n",
+                users.size(), admins.size(), roomIds.size(), config.warmupSeconds());
+    }
+
+    private Session registerAndLogin(String kind, int index, UserRole role) {
+        String email = "lt-" + runId + "-" + kind + index + "@university.edu";
+        ApiClient.Response registered = api.send("POST", "/api/v1/auth/register", null, Map.of(
+                "name", "Load " + kind + " " + index,
+                "email", email,
+                "password", PASSWORD,
+                "role", role.name()), null);
+        long userId = api.json(require(registered, "register " + email)).get("id").asLong();
+        ApiClient.Response login = api.send("POST", "/api/v1/auth/login", null,
+                Map.of("email", email, "password", PASSWORD), loginStats);
+        String token = api.json(require(login, "login " + email)).get("token").asText();
+        return new Session(userId, token);
+    }
+
+    private void virtualUser(int index) {
+        Random random = new Random(config.seed() + index);
+        Session user = users.get(index);
+        Session admin = admins.get(index % admins.size());
+        Deque<Long> ownBookings = new ArrayDeque<>();
+        int approveWeight = config.mix().getOrDefault(Operation.APPROVE, 0);
+        int cancelWeight = config.mix().getOrDefault(Operation.CANCEL, 0);
+
+        while (running) {
+            Operation operation = Operation.pick(config.mix(), totalWeight, random);
+            switch (operation) {
+                case AVAILABILITY -> checkAvailability(user, random);
+                case APPROVE -> {
+                    Long bookingId = pendingApprovals.poll();
+                    if (bookingId == null) {
+                        createBooking(user, random, ownBookings, approveWeight, cancelWeight);
+                    } else {
+                        api.send("PATCH", "/api/v1/bookings/" + bookingId + "/approve?adminUserId=" + admin.userId(),
+                                admin.token(), null, operationStats.get(Operation.APPROVE));
+                    }
+                }
+                case CANCEL -> {
+                    Long bookingId = ownBookings.pollLast();
+                    if (bookingId == null) {
+                        createBooking(user, random, ownBookings, approveWeight, cancelWeight);
+                    } else {
+                        api.send("DELETE", "/api/v1/bookings/" + bookingId + "?userId=" + user.userId(),
+                                user.token(), null, operationStats.get(Operation.CANCEL));
+                    }
+                }
+                default -> createBooking(user, random, ownBookings, approveWeight, cancelWeight);
+            }
+            pause();
+        }
+    }
+
+    private void createBooking(Session user, Random random, Deque<Long> ownBookings, int approveWeight, int cancelWeight) {
+        LocalDateTime start = randomSlot(random);
+        ApiClient.Response response = api.send("POST", "/api/v1/bookings?userId=" + user.userId(), user.token(), Map.of(
+                "roomId", randomRoom(random),
+                "userId", user.userId(),
+                "startTime", start.toString(),
+                "endTime", start.plusHours(1).toString(),
+                "purpose", "Load test session"), operationStats.get(Operation.CREATE));
+        if (!response.ok()) {
+            return;
+        }
+        JsonNode id = api.json(response).get("id");
+        if (id == null || id.isNull()) {
+            return;
+        }
+        // Each booking is handed to exactly one follow-up so approvals never race with cancellations
+        if (random.nextInt(Math.max(1, approveWeight + cancelWeight)) < approveWeight) {
+            pendingApprovals.add(id.asLong());
+        } else {
+            ownBookings.addLast(id.asLong());
+        }
+    }
+
+    private void checkAvailability(Session user, Random random) {
+        LocalDateTime start = randomSlot(random);
+        api.send("GET", "/api/v1/rooms/availability?roomId=" + randomRoom(random)
+                        + "&startTime=" + start + "&endTime=" + start.plusHours(1),
+                user.token(), null, operationStats.get(Operation.AVAILABILITY));
+    }
+
+    private LocalDateTime randomSlot(Random random) {
+        return LocalDate.now()
+                .plusDays(1 + random.nextInt(BOOKING_HORIZON_DAYS))
+                .atTime(FIRST_HOUR + random.nextInt(BOOKABLE_HOURS), 0);
+    }
+
+    private long randomRoom(Random random) {
+        return roomIds.get(random.nextInt(roomIds.size()));
+    }
+
+    private void pause() {
+        if (config.thinkTimeMillis() <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(config.thinkTimeMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private void writeReport(Map<String, Map<String, Object>> endpoints, double elapsedSeconds) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("users", config.users());
+        report.put("rooms", config.rooms());
+        report.put("mix", config.mix());
+        report.put("measuredSeconds", elapsedSeconds);
+        report.put("endpoints", endpoints);
+        if (config.report().getParent() != null) {
+            Files.createDirectories(config.report().getParent());
+        }
+        api.objectMapper().writer(SerializationFeature.INDENT_OUTPUT).writeValue(config.report().toFile(), report);
+        System.out.println("Report written to " + config.report().toAbsolutePath());
+    }
+
+    private static void print(Map<String, Map<String, Object>> endpoints) {
+        System.out.printf("%-36s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "conflicts", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        endpoints.forEach((endpoint, stats) -> System.out.printf("%-36s %9d %7d %9d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint, stats.get("requests"), stats.get("errors"), stats.get("conflicts"),
+                stats.get("throughputPerSecond"), stats.get("p50Ms"), stats.get("p99Ms"),
+                stats.get("p999Ms"), stats.get("maxMs")));
+    }
+
+    /**
+     * Regression gate: error rate above the limit, or p99 worse than the baseline by more than the
+     * allowed fraction, fails the run.
+     */
+    private boolean checkGate(Map<String, Map<String, Object>> endpoints) throws IOException {
+        boolean passed = true;
+        for (Map.Entry<String, Map<String, Object>> entry : endpoints.entrySet()) {
+            double errorRate = (double) entry.getValue().get("errorRate");
+            if (errorRate > config.maxErrorRate()) {
+                System.out.printf("FAIL %s: error rate %.2f%% exceeds %.2f%%%n",
+                        entry.getKey(), errorRate * 100, config.maxErrorRate() * 100);
+                passed = false;
+            }
+        }
+        if (config.baseline() == null) {
+            return passed;
+        }
+
+        JsonNode baseline = api.objectMapper().readTree(config.baseline().toFile()).path("endpoints");
+        for (Map.Entry<String, Map<String, Object>> entry : endpoints.entrySet()) {
+            JsonNode previous = baseline.path(entry.getKey());
+            if (previous.isMissingNode() || previous.path("requests").asLong() == 0) {
+                continue;
+            }
+            double baselineP99 = previous.path("p99Ms").asDouble();
+            double currentP99 = (double) entry.getValue().get("p99Ms");
+            if (currentP99 > baselineP99 * (1 + config.maxP99Regression())) {
+                System.out.printf("FAIL %s: p99 %.2f ms vs baseline %.2f ms (allowed +%.0f%%)%n",
+                        entry.getKey(), currentP99, baselineP99, config.maxP99Regression() * 100);
+                passed = false;
+            }
+        }
+        return passed;
+    }
+
+    private static ApiClient.Response require(ApiClient.Response response, String step) {
+        if (!response.ok()) {
+            throw new IllegalStateException(step + " failed with HTTP " + response.status() + ": " + response.body());
+        }
+        return response;
+    }
+
+    private static <T> List<T> collect(List<Future<T>> futures) throws Exception {
+        List<T> results = new ArrayList<>(futures.size());
+        for (Future<T> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    private record Session(long userId, String token) {
+    }
+}
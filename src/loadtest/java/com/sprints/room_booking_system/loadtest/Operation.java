@@ -0,0 +1,40 @@
+package com.sprints.room_booking_system.loadtest;
+
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Operations a virtual user replays, and the endpoint each one is reported under.
+ */
+enum Operation {
+    CREATE("POST /api/v1/bookings"),
+    AVAILABILITY("GET /api/v1/rooms/availability"),
+    APPROVE("PATCH /api/v1/bookings/{id}/approve"),
+    CANCEL("DELETE /api/v1/bookings/{id}");
+
+    static final String LOGIN_ENDPOINT = "POST /api/v1/auth/login";
+
+    private final String endpoint;
+
+    Operation(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Weighted pick over the configured mix.
+     */
+    static Operation pick(Map<Operation, Integer> mix, int totalWeight, Random random) {
+        int ticket = random.nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            ticket -= entry.getValue();
+            if (ticket < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty traffic mix");
+    }
+}
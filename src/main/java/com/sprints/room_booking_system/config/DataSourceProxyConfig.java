@@ -0,0 +1,50 @@
+package com.sprints.room_booking_system.config;
+
+import com.sprints.room_booking_system.metrics.SqlStatementListener;
+import io.micrometer.observation.ObservationRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import net.ttddyy.observation.tracing.DataSourceObservationListener;
+import net.ttddyy.observation.tracing.JdbcObservationDocumentation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.EnumSet;
+
+/**
+ * Wraps the application DataSource in a JDBC proxy so every statement can be counted, timed
+ * and traced as a child span of the current observation.
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource
+                        && DATA_SOURCE_BEAN.equals(beanName)
+                        && !(bean instanceof ProxyDataSource)) {
+                    DataSourceObservationListener observationListener = new DataSourceObservationListener(
+                            () -> observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
+                    observationListener.setIncludeParameterValues(false);
+                    observationListener.setSupportedTypes(EnumSet.of(
+                            JdbcObservationDocumentation.CONNECTION, JdbcObservationDocumentation.QUERY));
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new SqlStatementListener())
+                            .listener(observationListener)
+                            .methodListener(observationListener)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
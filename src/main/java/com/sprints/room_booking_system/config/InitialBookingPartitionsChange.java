@@ -0,0 +1,83 @@
+package com.sprints.room_booking_system.config;
+
+import com.sprints.room_booking_system.service.impl.BookingPartitionMaintainer;
+import liquibase.change.custom.CustomSqlChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+import liquibase.statement.SqlStatement;
+import liquibase.statement.core.RawParameterizedSqlStatement;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Changelog 008: partitions {@code bookings} by month with bounds taken from the data at migration
+ * time rather than from the changelog, so existing rows land in their own monthly partitions and
+ * {@code p_future} starts out empty.
+ */
+public class InitialBookingPartitionsChange implements CustomSqlChange {
+
+    private Integer monthsAhead = 3;
+    private List<YearMonth> months;
+
+    public void setMonthsAhead(Integer monthsAhead) {
+        this.monthsAhead = monthsAhead;
+    }
+
+    @Override
+    public SqlStatement[] generateStatements(Database database) throws CustomChangeException {
+        LocalDate earliest = null;
+        LocalDate latest = null;
+        if (database.getConnection() instanceof JdbcConnection jdbc) {
+            Connection connection = jdbc.getUnderlyingConnection();
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT MIN(start_time), MAX(start_time) FROM bookings")) {
+                if (rs.next()) {
+                    earliest = toLocalDate(rs.getTimestamp(1));
+                    latest = toLocalDate(rs.getTimestamp(2));
+                }
+            } catch (SQLException e) {
+                throw new CustomChangeException("Cannot read the booking date range", e);
+            }
+        }
+        months = BookingPartitionMaintainer.initialMonths(earliest, latest, LocalDate.now(), monthsAhead);
+        return new SqlStatement[]{new RawParameterizedSqlStatement(BookingPartitionMaintainer.partitionBySql(months))};
+    }
+
+    @Override
+    public String getConfirmationMessage() {
+        return "bookings partitioned by month: " + (months == null ? "none"
+                : BookingPartitionMaintainer.partitionName(months.get(0)) + " to "
+                + BookingPartitionMaintainer.partitionName(months.get(months.size() - 1)));
+    }
+
+    @Override
+    public void setUp() {
+    }
+
+    @Override
+    public void setFileOpener(ResourceAccessor resourceAccessor) {
+    }
+
+    @Override
+    public ValidationErrors validate(Database database) {
+        ValidationErrors errors = new ValidationErrors();
+        if (monthsAhead == null || monthsAhead < 0) {
+            errors.addError("monthsAhead must be zero or more");
+        }
+        return errors;
+    }
+
+    private static LocalDate toLocalDate(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime().toLocalDate() : null;
+    }
+}
@@ -0,0 +1,136 @@
+package com.sprints.room_booking_system.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary.
+ * <p>
+ * Must sit behind a {@code LazyConnectionDataSourceProxy}: the transaction's read-only flag is only
+ * known once the first statement runs, not when the transaction manager opens the connection.
+ * The replica is skipped while it is unreachable or, if {@code lag-query} is set, while it lags
+ * more than {@code max-lag} behind the primary; both are re-checked every {@code check-interval}.
+ * A replica connection that cannot be obtained falls back to the primary immediately.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final Duration maxLag;
+    private final String lagQuery;
+    private final Counter fallbacks;
+    private volatile boolean replicaUsable = true;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, Duration maxLag, String lagQuery,
+                                    MeterRegistry registry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+        this.fallbacks = Counter.builder("datasource.replica.fallbacks")
+                .description("Read-only transactions served by the primary because the replica was unavailable")
+                .register(registry);
+        Gauge.builder("datasource.replica.usable", this, routing -> routing.replicaUsable ? 1 : 0)
+                .description("1 while read-only transactions are routed to the replica")
+                .register(registry);
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && replicaUsable
+                ? Target.REPLICA
+                : Target.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() == Target.REPLICA) {
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                markReplica(false, "connection failed: " + e.getMessage());
+                fallbacks.increment();
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (determineCurrentLookupKey() == Target.REPLICA) {
+            try {
+                return replica.getConnection(username, password);
+            } catch (SQLException e) {
+                markReplica(false, "connection failed: " + e.getMessage());
+                fallbacks.increment();
+            }
+        }
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * Re-check whether the replica is reachable and fresh enough to serve reads.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replica.check-interval:5s}")
+    public void checkReplica() {
+        try (Connection connection = replica.getConnection()) {
+            if (!StringUtils.hasText(lagQuery)) {
+                markReplica(connection.isValid(VALIDATION_TIMEOUT_SECONDS), "validation failed");
+                return;
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet lag = statement.executeQuery(lagQuery)) {
+                if (!lag.next() || lag.getObject(1) == null) {
+                    markReplica(false, "replication lag unknown");
+                    return;
+                }
+                Duration current = Duration.ofMillis(Math.round(lag.getDouble(1) * 1000));
+                markReplica(current.compareTo(maxLag) <= 0, "lagging " + current + " behind the primary");
+            }
+        } catch (SQLException e) {
+            markReplica(false, "health check failed: " + e.getMessage());
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    private void markReplica(boolean usable, String reason) {
+        if (replicaUsable == usable) {
+            return;
+        }
+        replicaUsable = usable;
+        if (usable) {
+            log.info("Replica is back, routing read-only transactions to it again");
+        } else {
+            log.warn("Routing read-only transactions to the primary: replica {}", reason);
+        }
+    }
+}
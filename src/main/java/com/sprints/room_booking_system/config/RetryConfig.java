@@ -0,0 +1,29 @@
+package com.sprints.room_booking_system.config;
+
+import com.sprints.room_booking_system.metrics.BookingMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.retry.annotation.EnableRetry;
+
+/**
+ * Enables {@code @Retryable}, used through {@link RetryOnVersionConflict}. The retry advice is
+ * ordered before the transaction advice, so each attempt runs in a fresh transaction.
+ */
+@Configuration
+@EnableRetry
+public class RetryConfig {
+
+    @Bean
+    public RetryListener bookingRetryListener(BookingMetrics bookingMetrics) {
+        return new RetryListener() {
+            @Override
+            public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback,
+                                                         Throwable throwable) {
+                bookingMetrics.versionConflict();
+            }
+        };
+    }
+}
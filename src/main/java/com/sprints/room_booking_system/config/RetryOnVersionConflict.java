@@ -0,0 +1,23 @@
+package com.sprints.room_booking_system.config;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+
+import java.lang.annotation.*;
+
+/**
+ * Retries a write that lost an optimistic version check, with jittered exponential backoff
+ * ({@code app.bookings.retry.*}); each retry is counted by {@code bookingRetryListener}.
+ */
+@Documented
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Retryable(retryFor = OptimisticLockingFailureException.class,
+        maxAttemptsExpression = "${app.bookings.retry.max-attempts:4}",
+        backoff = @Backoff(delayExpression = "${app.bookings.retry.delay-ms:20}",
+                maxDelayExpression = "${app.bookings.retry.max-delay-ms:200}",
+                multiplier = 2, random = true),
+        listeners = "bookingRetryListener")
+public @interface RetryOnVersionConflict {
+}
@@ -0,0 +1,12 @@
+package com.sprints.room_booking_system.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs such as the booking outbox relay.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -3,6 +3,8 @@ package com.sprints.room_booking_system.config;
 import com.sprints.room_booking_system.security.JwtAuthenticationFilter;
 import com.sprints.room_booking_system.security.RestAccessDeniedHandler;
 import com.sprints.room_booking_system.security.RestAuthenticationEntryPoint;
+import com.sprints.room_booking_system.tracing.ObservedPasswordEncoder;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -28,7 +30,7 @@ public class SecurityConfig {
     private final RestAccessDeniedHandler accessDeniedHandler;
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, AuthenticationProvider daoAuthenticationProvider) throws Exception {
         http
             .csrf(csrf -> csrf.disable())
             .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -38,6 +40,8 @@ public class SecurityConfig {
             )
             .authorizeHttpRequests(auth -> auth
                     .requestMatchers("/api/v1/auth/**").permitAll()
+                    // Scrape and liveness endpoints; prod binds them to the loopback management port
+                    .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                     // Room endpoints: POST/PUT/DELETE admin-only, GET authenticated
                     .requestMatchers(org.springframework.http.HttpMethod.POST, "/api/v1/rooms/**").hasRole("ADMIN")
                     .requestMatchers(org.springframework.http.HttpMethod.PUT, "/api/v1/rooms/**").hasRole("ADMIN")
@@ -46,16 +50,20 @@ public class SecurityConfig {
                     // Booking approvals admin-only
                     .requestMatchers(org.springframework.http.HttpMethod.PATCH, "/api/v1/bookings/*/approve").hasRole("ADMIN")
                     .requestMatchers(org.springframework.http.HttpMethod.PATCH, "/api/v1/bookings/*/reject").hasRole("ADMIN")
+                    .requestMatchers(org.springframework.http.HttpMethod.POST, "/api/v1/bookings/decisions").hasRole("ADMIN")
                     // Building endpoints: POST/PUT/DELETE admin-only, GET authenticated
                     .requestMatchers(org.springframework.http.HttpMethod.POST, "/api/v1/buildings/**").hasRole("ADMIN")
                     .requestMatchers(org.springframework.http.HttpMethod.PUT, "/api/v1/buildings/**").hasRole("ADMIN")
                     .requestMatchers(org.springframework.http.HttpMethod.DELETE, "/api/v1/buildings/**").hasRole("ADMIN")
                     .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/v1/buildings/**").authenticated()
 
+                    // Diagnostics (JFR recordings) admin-only
+                    .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
+
                     // Everything else requires authentication
                     .anyRequest().authenticated()
             )
-            .authenticationProvider(daoAuthenticationProvider())
+            .authenticationProvider(daoAuthenticationProvider)
             .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
         return http.build();
     }
@@ -67,15 +75,15 @@ public class SecurityConfig {
     
 
     @Bean
-    public AuthenticationProvider daoAuthenticationProvider() {
+    public AuthenticationProvider daoAuthenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(userDetailsService);
-        provider.setPasswordEncoder(passwordEncoder());
+        provider.setPasswordEncoder(passwordEncoder);
         return provider;
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(ObservationRegistry observationRegistry) {
+        return new ObservedPasswordEncoder(new BCryptPasswordEncoder(), observationRegistry);
     }
 }
@@ -0,0 +1,54 @@
+package com.sprints.room_booking_system.controller;
+
+import com.sprints.room_booking_system.dto.BookingDto;
+import com.sprints.room_booking_system.dto.BookingHistoryDto;
+import com.sprints.room_booking_system.dto.BookingSearchDto;
+import com.sprints.room_booking_system.service.BookingSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/search")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminBookingSearchController {
+    private final BookingSearchService bookingSearchService;
+
+    // Bookings by purpose, e.g. q="final exam" or q=CS101, filtered by status, room and start time
+    @GetMapping("/bookings")
+    public ResponseEntity<List<BookingDto>> searchBookings(
+            @RequestParam(value = "q", required = false) String text,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long roomId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(bookingSearchService.searchBookings(new BookingSearchDto(text, status, roomId, from, to, limit)));
+    }
+
+    // History entries by reason, filtered by action, room and action time
+    @GetMapping("/history")
+    public ResponseEntity<List<BookingHistoryDto>> searchHistory(
+            @RequestParam(value = "q", required = false) String text,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) Long roomId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(bookingSearchService.searchHistory(new BookingSearchDto(text, action, roomId, from, to, limit)));
+    }
+
+    // Reload the index in bulk from the database; returns the number of bookings indexed
+    @PostMapping("/rebuild")
+    public ResponseEntity<Integer> rebuild() {
+        return ResponseEntity.ok(bookingSearchService.rebuild());
+    }
+}
@@ -0,0 +1,66 @@
+package com.sprints.room_booking_system.controller;
+
+import com.sprints.room_booking_system.dto.JfrRecordingDto;
+import com.sprints.room_booking_system.jfr.JfrRecordingManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+@RestController
+@RequestMapping("/api/v1/admin/jfr")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminJfrController {
+    private final JfrRecordingManager jfrRecordingManager;
+
+    // Start the flight recording (no-op if already running)
+    @PostMapping("/start")
+    public ResponseEntity<JfrRecordingDto> start() {
+        return ResponseEntity.ok(jfrRecordingManager.start());
+    }
+
+    // Current recording
+    @GetMapping
+    public ResponseEntity<JfrRecordingDto> status() {
+        return ResponseEntity.ok(jfrRecordingManager.status());
+    }
+
+    // Dump the recorded window as a .jfr file; the recording keeps running.
+    // The file is deleted once it has been streamed, so dumps do not pile up on the server.
+    @PostMapping("/dump")
+    public ResponseEntity<Resource> dump() {
+        Path file = jfrRecordingManager.dump();
+        try {
+            long size = Files.size(file);
+            InputStream content = Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .contentLength(size)
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            ContentDisposition.attachment().filename(file.getFileName().toString()).build().toString())
+                    .body(new InputStreamResource(content));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read JFR dump " + file, e);
+        }
+    }
+
+    // Stop and discard the recording
+    @PostMapping("/stop")
+    public ResponseEntity<Void> stop() {
+        jfrRecordingManager.stop();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,6 +1,8 @@
 package com.sprints.room_booking_system.controller;
 
+import com.sprints.room_booking_system.dto.BookingDecisionResultDto;
 import com.sprints.room_booking_system.dto.BookingDto;
+import com.sprints.room_booking_system.dto.BulkBookingDecisionDto;
 import com.sprints.room_booking_system.model.Booking;
 import com.sprints.room_booking_system.service.BookingService;
 import jakarta.validation.Valid;
@@ -48,6 +50,15 @@ public class BookingController {
         return ResponseEntity.ok(rejected);
     }
 
+    // Approve or reject a batch of bookings (admin)
+    @PostMapping("/decisions")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<BookingDecisionResultDto>> decide(@Valid @RequestBody BulkBookingDecisionDto request,
+                                                                 @RequestParam Long adminUserId) {
+        List<BookingDecisionResultDto> outcomes = bookingService.decideBookings(request, adminUserId);
+        return ResponseEntity.ok(outcomes);
+    }
+
     // Cancel booking (requester or admin)
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAnyRole('STUDENT', 'FACULTY', 'ADMIN')")
@@ -1,6 +1,9 @@
 package com.sprints.room_booking_system.controller;
 
+import com.sprints.room_booking_system.dto.RoomAvailabilityResultDto;
 import com.sprints.room_booking_system.dto.RoomDto;
+import com.sprints.room_booking_system.dto.RoomFacetedSearchResultDto;
+import com.sprints.room_booking_system.dto.RoomSearchDto;
 import com.sprints.room_booking_system.model.Room;
 import com.sprints.room_booking_system.service.RoomService;
 import jakarta.validation.Valid;
@@ -19,6 +22,10 @@ import java.util.Optional;
 @RequestMapping("/api/v1/rooms")
 @RequiredArgsConstructor
 public class RoomController {
+
+    /** Set to true when a campus-wide search timed out before every building was checked */
+    public static final String SEARCH_TRUNCATED_HEADER = "X-Search-Truncated";
+
     private final RoomService roomService;
 
     // Admin: create room
@@ -58,6 +65,38 @@ public class RoomController {
         return ResponseEntity.noContent().build();
     }
 
+    // Campus-wide search: any available rooms for a time period
+    @GetMapping("/available")
+    @PreAuthorize("hasAnyRole('STUDENT', 'FACULTY', 'ADMIN')")
+    public ResponseEntity<List<RoomDto>> findAnyAvailable(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startTime,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endTime,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        RoomAvailabilityResultDto result = roomService.findAnyAvailableRooms(startTime, endTime,
+                Math.min(Math.max(limit, 1), 100));
+        return ResponseEntity.ok()
+                .header(SEARCH_TRUNCATED_HEADER, String.valueOf(result.isTruncated()))
+                .body(result.getRooms());
+    }
+
+    // Feature search: available rooms having all/any/none of the given features
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('STUDENT', 'FACULTY', 'ADMIN')")
+    public ResponseEntity<List<RoomDto>> searchAvailable(@Valid @ModelAttribute RoomSearchDto search) {
+        return ResponseEntity.ok(roomService.searchAvailableRooms(search));
+    }
+
+    // Faceted search: a page of matching rooms plus feature, building and capacity counts
+    @GetMapping("/search/facets")
+    @PreAuthorize("hasAnyRole('STUDENT', 'FACULTY', 'ADMIN')")
+    public ResponseEntity<RoomFacetedSearchResultDto> searchAvailableWithFacets(
+            @Valid @ModelAttribute RoomSearchDto search,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(roomService.searchAvailableRoomsWithFacets(search, Math.min(Math.max(limit, 1), 100)));
+    }
+
     // Availability check (student/faculty)
     @GetMapping("/availability")
     @PreAuthorize("hasAnyRole('STUDENT', 'FACULTY', 'ADMIN')")
@@ -0,0 +1,38 @@
+package com.sprints.room_booking_system.controller;
+
+import com.sprints.room_booking_system.dto.TypeaheadResultDto;
+import com.sprints.room_booking_system.search.TypeaheadIndex.Kind;
+import com.sprints.room_booking_system.service.TypeaheadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/v1/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final TypeaheadService typeaheadService;
+
+    /**
+     * Suggestions for a search box across rooms, buildings and features (and users, for admins).
+     */
+    @GetMapping("/typeahead")
+    public ResponseEntity<List<TypeaheadResultDto>> typeahead(@RequestParam("q") String query,
+                                                              @RequestParam(required = false) Set<Kind> types,
+                                                              @RequestParam(defaultValue = "10") int limit,
+                                                              Authentication authentication) {
+        Set<Kind> allowed = types == null || types.isEmpty() ? EnumSet.allOf(Kind.class) : EnumSet.copyOf(types);
+        boolean admin = authentication.getAuthorities().stream()
+                .anyMatch(authority -> authority.getAuthority().equals("ROLE_ADMIN"));
+        if (!admin) {
+            allowed.remove(Kind.USER);
+        }
+        return ResponseEntity.ok(typeaheadService.search(query, allowed, limit));
+    }
+}
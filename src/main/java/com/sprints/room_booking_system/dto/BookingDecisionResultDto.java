@@ -0,0 +1,27 @@
+package com.sprints.room_booking_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingDecisionResultDto {
+
+    public enum Outcome {
+        APPROVED,
+        REJECTED,
+        CONFLICT,
+        NOT_PENDING,
+        NOT_FOUND
+    }
+
+    private Long bookingId;
+
+    private Outcome outcome;
+
+    private String message;
+}
@@ -19,6 +19,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoOverlap(message = "The requested time slot overlaps with an existing booking")
 public class BookingDto {
+
+    private Long id;
     
     @NotNull(message = "Room ID is required")
     private Long roomId;
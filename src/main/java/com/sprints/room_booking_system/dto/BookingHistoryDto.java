@@ -0,0 +1,21 @@
+package com.sprints.room_booking_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingHistoryDto {
+    private Long id;
+    private Long bookingId;
+    private Long userId;
+    private String action;
+    private LocalDateTime actionTime;
+    private String reason;
+}
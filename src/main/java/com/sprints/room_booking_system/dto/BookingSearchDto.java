@@ -0,0 +1,26 @@
+package com.sprints.room_booking_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Full-text search over booking purposes or history reasons. {@code status} is the booking status,
+ * or the action for history; {@code from}/{@code to} bound the start time, or the action time for
+ * history. Null fields do not filter.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingSearchDto {
+    private String text;
+    private String status;
+    private Long roomId;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private int limit;
+}
@@ -0,0 +1,32 @@
+package com.sprints.room_booking_system.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkBookingDecisionDto {
+
+    public enum Decision {
+        APPROVE,
+        REJECT
+    }
+
+    @NotEmpty(message = "At least one booking ID is required")
+    @Size(max = 500, message = "At most 500 bookings can be decided at once")
+    private Set<Long> bookingIds;
+
+    @NotNull(message = "Decision is required")
+    private Decision decision;
+
+    private String reason;
+}
@@ -0,0 +1,20 @@
+package com.sprints.room_booking_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One facet value with the number of matching rooms: a feature or building id with its name, or a
+ * capacity threshold with a label such as "50+"
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetCountDto {
+    private Long value;
+    private String label;
+    private int count;
+}
@@ -0,0 +1,18 @@
+package com.sprints.room_booking_system.dto;
+
+import lombok.*;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JfrRecordingDto {
+    private Long id;
+    private String name;
+    private String state;
+    private Instant startTime;
+    private Long maxAgeSeconds;
+    private Long maxSizeBytes;
+}
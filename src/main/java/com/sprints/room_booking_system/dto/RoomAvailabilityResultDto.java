@@ -0,0 +1,21 @@
+package com.sprints.room_booking_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Free rooms found by a campus-wide search; {@code truncated} when the search timed out before
+ * every building was checked, so fewer rooms than asked for does not mean none are left
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomAvailabilityResultDto {
+    private List<RoomDto> rooms;
+    private boolean truncated;
+}
@@ -16,6 +16,8 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 public class RoomDto {
+
+    private Long id;
     
     @NotBlank(message = "Room name is required")
     private String name;
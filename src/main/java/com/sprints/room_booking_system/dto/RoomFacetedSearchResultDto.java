@@ -0,0 +1,23 @@
+package com.sprints.room_booking_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A page of free rooms together with facet counts over all of them ({@code total} rooms)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomFacetedSearchResultDto {
+    private List<RoomDto> rooms;
+    private int total;
+    private List<FacetCountDto> features;
+    private List<FacetCountDto> buildings;
+    private List<FacetCountDto> capacities;
+}
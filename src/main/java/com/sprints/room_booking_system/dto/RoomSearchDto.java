@@ -0,0 +1,50 @@
+package com.sprints.room_booking_system.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Free rooms for a time range, narrowed by features, building and capacity. A room matches when it
+ * has every feature in {@code allFeatureIds}, at least one in {@code anyFeatureIds} and none in
+ * {@code noneFeatureIds}; empty lists and null fields do not filter. Bound from the search request
+ * parameters, where the feature lists are {@code allFeatures}, {@code anyFeatures} and {@code noneFeatures}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomSearchDto {
+
+    @NotNull(message = "Start time is required")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime startTime;
+
+    @NotNull(message = "End time is required")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime endTime;
+
+    private List<Long> allFeatureIds;
+    private List<Long> anyFeatureIds;
+    private List<Long> noneFeatureIds;
+    private Long buildingId;
+    private Integer minCapacity;
+
+    public void setAllFeatures(List<Long> allFeatures) {
+        this.allFeatureIds = allFeatures;
+    }
+
+    public void setAnyFeatures(List<Long> anyFeatures) {
+        this.anyFeatureIds = anyFeatures;
+    }
+
+    public void setNoneFeatures(List<Long> noneFeatures) {
+        this.noneFeatureIds = noneFeatures;
+    }
+}
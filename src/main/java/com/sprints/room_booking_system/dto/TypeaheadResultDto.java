@@ -0,0 +1,15 @@
+package com.sprints.room_booking_system.dto;
+
+import com.sprints.room_booking_system.search.TypeaheadIndex;
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TypeaheadResultDto {
+    private TypeaheadIndex.Kind type;
+    private Long id;
+    private String label;
+    private String detail;
+}
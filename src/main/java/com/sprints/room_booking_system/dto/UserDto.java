@@ -14,6 +14,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class UserDto {
+
+    private Long id;
     
     @NotBlank(message = "Name is required")
     private String name;
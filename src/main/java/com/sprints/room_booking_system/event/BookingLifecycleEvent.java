@@ -0,0 +1,20 @@
+package com.sprints.room_booking_system.event;
+
+import com.sprints.room_booking_system.model.BookingEventType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by the outbox relay after a booking change has committed. Delivery is at least once,
+ * so listeners should be idempotent on {@code eventId}.
+ */
+public record BookingLifecycleEvent(Long eventId,
+                                    BookingEventType type,
+                                    Long bookingId,
+                                    Long roomId,
+                                    Long userId,
+                                    Long actorUserId,
+                                    LocalDateTime startTime,
+                                    LocalDateTime endTime,
+                                    LocalDateTime occurredAt) {
+}
@@ -1,16 +1,17 @@
 package com.sprints.room_booking_system.exception;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 import com.sprints.room_booking_system.exception.*;
+import com.sprints.room_booking_system.logging.TraceIds;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
@@ -35,6 +36,12 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(ex.getMessage(), HttpStatus.CONFLICT, request);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Object> handleOptimisticLocking(OptimisticLockingFailureException ex, WebRequest request) {
+        return buildErrorResponse("The booking was changed by another request, please try again",
+                HttpStatus.CONFLICT, request);
+    }
+
     @ExceptionHandler(InvalidBookingDateException.class)
     public ResponseEntity<Object> handleInvalidBookingDate(InvalidBookingDateException ex, WebRequest request) {
         return buildErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST, request);
@@ -57,7 +64,7 @@ public class GlobalExceptionHandler {
         body.put("error", status.getReasonPhrase());
         body.put("message", message);
         body.put("path", request.getDescription(false).replace("uri=", ""));
-        body.put("traceId", UUID.randomUUID().toString());
+        body.put("traceId", TraceIds.current());
         return new ResponseEntity<>(body, status);
     }
 }
@@ -0,0 +1,12 @@
+package com.sprints.room_booking_system.exception;
+
+/**
+ * Raised by {@code SqlBudgetFilter} when a request runs more SQL than its budget allows
+ * and the filter is configured to fail (test profile).
+ */
+public class SqlBudgetExceededException extends RuntimeException {
+
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
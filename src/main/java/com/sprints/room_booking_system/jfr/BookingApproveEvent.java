@@ -0,0 +1,33 @@
+package com.sprints.room_booking_system.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Duration of a successful {@code approveBooking}, including the final overlap re-check.
+ */
+@Name("room_booking.BookingApprove")
+@Label("Booking Approve")
+@Category({"Room Booking", "Booking"})
+@Description("PENDING booking approved by an admin")
+@StackTrace(false)
+public class BookingApproveEvent extends jdk.jfr.Event {
+
+    @Label("Room Id")
+    private long roomId;
+
+    @Label("Booking Id")
+    private long bookingId;
+
+    public void complete(Long roomId, Long bookingId) {
+        end();
+        if (shouldCommit()) {
+            this.roomId = JfrIds.of(roomId);
+            this.bookingId = JfrIds.of(bookingId);
+            commit();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.sprints.room_booking_system.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitted when an overlap check refuses a booking. The duration covers the overlap query, and the
+ * stack trace shows which path detected the conflict.
+ */
+@Name("room_booking.BookingConflict")
+@Label("Booking Conflict")
+@Category({"Room Booking", "Booking"})
+@Description("Booking refused because the room is already taken")
+public class BookingConflictEvent extends jdk.jfr.Event {
+
+    @Label("Room Id")
+    private long roomId;
+
+    @Label("Operation")
+    private String operation;
+
+    public void complete(Long roomId, String operation) {
+        end();
+        if (shouldCommit()) {
+            this.roomId = JfrIds.of(roomId);
+            this.operation = operation;
+            commit();
+        }
+    }
+}
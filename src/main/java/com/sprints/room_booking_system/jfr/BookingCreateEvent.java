@@ -0,0 +1,33 @@
+package com.sprints.room_booking_system.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Duration of a successful {@code createBooking}, from validation to the history insert.
+ */
+@Name("room_booking.BookingCreate")
+@Label("Booking Create")
+@Category({"Room Booking", "Booking"})
+@Description("Booking request accepted and stored as PENDING")
+@StackTrace(false)
+public class BookingCreateEvent extends jdk.jfr.Event {
+
+    @Label("Room Id")
+    private long roomId;
+
+    @Label("Booking Id")
+    private long bookingId;
+
+    public void complete(Long roomId, Long bookingId) {
+        end();
+        if (shouldCommit()) {
+            this.roomId = JfrIds.of(roomId);
+            this.bookingId = JfrIds.of(bookingId);
+            commit();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.sprints.room_booking_system.jfr;
+
+/**
+ * JFR fields cannot hold null, so missing ids are recorded as -1.
+ */
+final class JfrIds {
+
+    private static final long MISSING = -1L;
+
+    private JfrIds() {
+    }
+
+    static long of(Long id) {
+        return id != null ? id : MISSING;
+    }
+}
@@ -0,0 +1,125 @@
+package com.sprints.room_booking_system.jfr;
+
+import com.sprints.room_booking_system.dto.JfrRecordingDto;
+import com.sprints.room_booking_system.exception.ResourceNotFoundException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Owns the single on-demand flight recording used for incident diagnosis.
+ * The recording combines the JDK "default" settings (low overhead, safe for production) with the
+ * booking events from {@code jfr/room-booking.jfc}, keeps a rolling window bounded by age and size,
+ * and can be dumped to disk while it keeps running.
+ */
+@Component
+public class JfrRecordingManager {
+
+    static final String RECORDING_NAME = "room-booking";
+    private static final String BASE_CONFIGURATION = "default";
+    private static final String BOOKING_CONFIGURATION = "jfr/room-booking.jfc";
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneOffset.UTC);
+
+    private final Path dumpDirectory;
+    private final Duration maxAge;
+    private final long maxSizeBytes;
+
+    private Recording recording;
+
+    public JfrRecordingManager(@Value("${app.jfr.dump-directory:${java.io.tmpdir}/room-booking-jfr}") Path dumpDirectory,
+                               @Value("${app.jfr.max-age:30m}") Duration maxAge,
+                               @Value("${app.jfr.max-size-bytes:104857600}") long maxSizeBytes) {
+        this.dumpDirectory = dumpDirectory;
+        this.maxAge = maxAge;
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    /** Start the recording, or return the one already running */
+    public synchronized JfrRecordingDto start() {
+        if (recording == null || recording.getState() == RecordingState.CLOSED) {
+            Recording started = new Recording(settings());
+            started.setName(RECORDING_NAME);
+            started.setToDisk(true);
+            started.setMaxAge(maxAge);
+            started.setMaxSize(maxSizeBytes);
+            started.start();
+            recording = started;
+        }
+        return toDto(recording);
+    }
+
+    /** Find the running recording */
+    public synchronized JfrRecordingDto status() {
+        return toDto(running());
+    }
+
+    /** Write the recorded window to a new file, for the caller to delete; the recording keeps running */
+    public synchronized Path dump() {
+        Recording current = running();
+        try {
+            Files.createDirectories(dumpDirectory);
+            Path file = dumpDirectory.resolve(RECORDING_NAME + "-" + FILE_TIMESTAMP.format(Instant.now()) + ".jfr");
+            current.dump(file);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not dump JFR recording to " + dumpDirectory, e);
+        }
+    }
+
+    /** Stop and discard the running recording */
+    public synchronized void stop() {
+        Recording current = running();
+        current.close();
+        recording = null;
+    }
+
+    private Recording running() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            throw new ResourceNotFoundException("No JFR recording is running");
+        }
+        return recording;
+    }
+
+    private static Map<String, String> settings() {
+        try (Reader reader = new InputStreamReader(
+                new ClassPathResource(BOOKING_CONFIGURATION).getInputStream(), StandardCharsets.UTF_8)) {
+            Map<String, String> settings = new HashMap<>(Configuration.getConfiguration(BASE_CONFIGURATION).getSettings());
+            settings.putAll(Configuration.create(reader).getSettings());
+            return settings;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read JFR configuration", e);
+        } catch (ParseException e) {
+            throw new IllegalStateException("Invalid JFR configuration " + BOOKING_CONFIGURATION, e);
+        }
+    }
+
+    private static JfrRecordingDto toDto(Recording recording) {
+        return JfrRecordingDto.builder()
+                .id(recording.getId())
+                .name(recording.getName())
+                .state(recording.getState().name())
+                .startTime(recording.getStartTime())
+                .maxAgeSeconds(recording.getMaxAge() != null ? recording.getMaxAge().toSeconds() : null)
+                .maxSizeBytes(recording.getMaxSize())
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.sprints.room_booking_system.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Duration of one JWT signature and expiry check.
+ */
+@Name("room_booking.JwtVerify")
+@Label("JWT Verify")
+@Category({"Room Booking", "Security"})
+@Description("Bearer token parsed and verified")
+@StackTrace(false)
+public class JwtVerifyEvent extends jdk.jfr.Event {
+
+    @Label("Valid")
+    private boolean valid;
+
+    public void complete(boolean valid) {
+        end();
+        if (shouldCommit()) {
+            this.valid = valid;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.sprints.room_booking_system.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Duration and result size of an available-room search.
+ */
+@Name("room_booking.RoomAvailabilitySearch")
+@Label("Room Availability Search")
+@Category({"Room Booking", "Room"})
+@Description("Search for rooms free in a time window")
+@StackTrace(false)
+public class RoomAvailabilitySearchEvent extends jdk.jfr.Event {
+
+    @Label("Requested Features")
+    private int featureCount;
+
+    @Label("Result Size")
+    private int resultSize;
+
+    public void complete(int featureCount, int resultSize) {
+        end();
+        if (shouldCommit()) {
+            this.featureCount = featureCount;
+            this.resultSize = resultSize;
+            commit();
+        }
+    }
+}
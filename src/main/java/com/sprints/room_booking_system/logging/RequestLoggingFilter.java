@@ -6,31 +6,119 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Assigns the request trace id and writes one JSON line per request to the {@code REQUEST_LOG} logger.
+ * Runs ahead of the security chain so rejected requests are traced as well. Failed requests
+ * (status >= 400) are always logged; successful ones are sampled.
+ * Ordered just after the HTTP server observation filter: when tracing has already put the span's trace id
+ * in the MDC, that id is reused so log lines and exported spans share one key.
+ */
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
 public class RequestLoggingFilter extends OncePerRequestFilter {
 
-    private static final Logger logger = LoggerFactory.getLogger(RequestLoggingFilter.class);
+    private static final Logger requestLog = LoggerFactory.getLogger("REQUEST_LOG");
+
+    private static final int ERROR_STATUS = 400;
+    private static final int NANOS_PER_MICRO = 1000;
+    private static final int INITIAL_BUFFER = 256;
+    private static final int MAX_RETAINED_BUFFER = 4096;
+
+    private static final ThreadLocal<StringBuilder> BUFFER =
+            ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_BUFFER));
+
+    private final double successSampleRate;
+
+    public RequestLoggingFilter(@Value("${app.logging.request.success-sample-rate:1.0}") double successSampleRate) {
+        this.successSampleRate = successSampleRate;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        long start = System.currentTimeMillis();
+        String tracerId = MDC.get(TraceIds.MDC_KEY);
+        boolean ownsTraceId = tracerId == null;
+        String traceId = ownsTraceId ? TraceIds.resolve(request.getHeader(TraceIds.HEADER)) : tracerId;
+        if (ownsTraceId) {
+            MDC.put(TraceIds.MDC_KEY, traceId);
+        }
+        request.setAttribute(TraceIds.REQUEST_ATTRIBUTE, traceId);
+        response.setHeader(TraceIds.HEADER, traceId);
+
+        long start = System.nanoTime();
         try {
             filterChain.doFilter(request, response);
         } finally {
-            long duration = System.currentTimeMillis() - start;
-            logger.info("Request: {} {} | Status: {} | Duration: {} ms | User-Agent: {}",
-                    request.getMethod(),
-                    request.getRequestURI(),
-                    response.getStatus(),
-                    duration,
-                    request.getHeader("User-Agent"));
+            long durationNanos = System.nanoTime() - start;
+            int status = response.getStatus();
+            if (requestLog.isInfoEnabled() && isSampled(status)) {
+                requestLog.info(toJson(traceId, request, status, durationNanos));
+            }
+            if (ownsTraceId) {
+                MDC.remove(TraceIds.MDC_KEY);
+            }
+        }
+    }
+
+    private boolean isSampled(int status) {
+        return status >= ERROR_STATUS
+                || successSampleRate >= 1.0
+                || ThreadLocalRandom.current().nextDouble() < successSampleRate;
+    }
+
+    private static String toJson(String traceId, HttpServletRequest request, int status, long durationNanos) {
+        StringBuilder json = BUFFER.get();
+        json.setLength(0);
+        json.append("{\"ts\":").append(System.currentTimeMillis());
+        appendField(json, "traceId", traceId);
+        appendField(json, "method", request.getMethod());
+        appendField(json, "path", request.getRequestURI());
+        json.append(",\"status\":").append(status);
+        json.append(",\"durationUs\":").append(durationNanos / NANOS_PER_MICRO);
+        appendField(json, "userAgent", request.getHeader("User-Agent"));
+        json.append('}');
+        String line = json.toString();
+        if (json.capacity() > MAX_RETAINED_BUFFER) {
+            BUFFER.remove();
+        }
+        return line;
+    }
+
+    private static void appendField(StringBuilder json, String name, String value) {
+        json.append(",\"").append(name).append("\":");
+        if (value == null) {
+            json.append("null");
+            return;
+        }
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
         }
+        json.append('"');
     }
 }
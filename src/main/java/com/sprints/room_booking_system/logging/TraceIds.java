@@ -0,0 +1,77 @@
+package com.sprints.room_booking_system.logging;
+
+import org.slf4j.MDC;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Trace id helpers shared by the request logger and the error handlers.
+ * The id lives in the MDC under {@link #MDC_KEY} for the duration of a request, and is also kept as a
+ * request attribute because tracing scopes opened further down the chain clear the MDC key when they close.
+ */
+public final class TraceIds {
+
+    public static final String MDC_KEY = "traceId";
+    public static final String HEADER = "X-Trace-Id";
+    public static final String REQUEST_ATTRIBUTE = TraceIds.class.getName() + ".traceId";
+
+    private static final int MAX_INBOUND_LENGTH = 64;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private TraceIds() {
+    }
+
+    /**
+     * Trace id of the current request, or a fresh one when called outside a request.
+     */
+    public static String current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null
+                && attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof String requestTraceId) {
+            return requestTraceId;
+        }
+        String traceId = MDC.get(MDC_KEY);
+        return traceId != null ? traceId : generate();
+    }
+
+    /**
+     * Reuse a well-formed inbound id so callers can correlate across services, otherwise generate one.
+     */
+    public static String resolve(String inbound) {
+        return isWellFormed(inbound) ? inbound : generate();
+    }
+
+    /**
+     * 128-bit random id rendered as 32 lowercase hex characters (W3C trace-context compatible).
+     */
+    public static String generate() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        char[] out = new char[32];
+        writeHex(random.nextLong(), out, 0);
+        writeHex(random.nextLong(), out, 16);
+        return new String(out);
+    }
+
+    private static void writeHex(long value, char[] out, int offset) {
+        for (int i = 15; i >= 0; i--) {
+            out[offset + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+
+    private static boolean isWellFormed(String inbound) {
+        if (inbound == null || inbound.isEmpty() || inbound.length() > MAX_INBOUND_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < inbound.length(); i++) {
+            char c = inbound.charAt(i);
+            boolean allowed = (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '-';
+            if (!allowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
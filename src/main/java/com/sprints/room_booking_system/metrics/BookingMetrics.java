@@ -0,0 +1,108 @@
+package com.sprints.room_booking_system.metrics;
+
+import com.sprints.room_booking_system.model.BookingStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Business counters for the booking workflow, exported next to the service timers.
+ */
+@Component
+public class BookingMetrics {
+
+    private final Counter createConflicts;
+    private final Counter updateConflicts;
+    private final Counter approveConflicts;
+    private final Counter holidayRejections;
+    private final Counter approvals;
+    private final Counter versionConflicts;
+    private final Counter expirations;
+    private final Counter completions;
+    private final Counter archived;
+    private final Counter staleSlots;
+    private final Counter repairedOccupancies;
+    private final Counter unresolvedOccupancies;
+
+    public BookingMetrics(MeterRegistry registry) {
+        this.createConflicts = conflictCounter(registry, "create");
+        this.updateConflicts = conflictCounter(registry, "update");
+        this.approveConflicts = conflictCounter(registry, "approve");
+        this.holidayRejections = Counter.builder("booking.holiday.rejections")
+                .description("Booking requests rejected because they fall on a holiday")
+                .register(registry);
+        this.approvals = Counter.builder("booking.approvals")
+                .description("Bookings approved by an admin")
+                .register(registry);
+        this.versionConflicts = Counter.builder("booking.version.conflicts")
+                .description("Booking writes rolled back because a concurrent transaction changed the same rows")
+                .register(registry);
+        this.expirations = transitionCounter(registry, BookingStatus.EXPIRED);
+        this.completions = transitionCounter(registry, BookingStatus.COMPLETED);
+        this.archived = Counter.builder("booking.archived")
+                .description("Finished bookings moved to the archive tables")
+                .register(registry);
+        this.staleSlots = occupancyCounter(registry, "stale");
+        this.repairedOccupancies = occupancyCounter(registry, "repaired");
+        this.unresolvedOccupancies = occupancyCounter(registry, "unresolved");
+    }
+
+    public void createConflict() {
+        createConflicts.increment();
+    }
+
+    public void updateConflict() {
+        updateConflicts.increment();
+    }
+
+    public void approveConflict() {
+        approveConflicts.increment();
+    }
+
+    public void holidayRejection() {
+        holidayRejections.increment();
+    }
+
+    public void approval() {
+        approvals.increment();
+    }
+
+    public void versionConflict() {
+        versionConflicts.increment();
+    }
+
+    public void timedTransitions(BookingStatus status, int count) {
+        (status == BookingStatus.EXPIRED ? expirations : completions).increment(count);
+    }
+
+    public void archived(int count) {
+        archived.increment(count);
+    }
+
+    public void occupancyReconciled(int stale, int repaired, int unresolved) {
+        staleSlots.increment(stale);
+        repairedOccupancies.increment(repaired);
+        unresolvedOccupancies.increment(unresolved);
+    }
+
+    private static Counter occupancyCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("booking.occupancy.reconciled")
+                .description("Room slot rows (stale) or bookings (repaired, unresolved) fixed by the occupancy reconciler")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private static Counter conflictCounter(MeterRegistry registry, String operation) {
+        return Counter.builder("booking.conflicts")
+                .description("Booking operations refused because the room was already taken")
+                .tag("operation", operation)
+                .register(registry);
+    }
+
+    private static Counter transitionCounter(MeterRegistry registry, BookingStatus status) {
+        return Counter.builder("booking.timed.transitions")
+                .description("Bookings moved by the transition scheduler")
+                .tag("status", status.name())
+                .register(registry);
+    }
+}
@@ -0,0 +1,52 @@
+package com.sprints.room_booking_system.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivery health of the booking outbox: how far the relay is behind and how often listeners fail.
+ * The gauges are refreshed by the relay after each run rather than queried on scrape.
+ */
+@Component
+public class OutboxMetrics {
+
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong oldestAgeMillis = new AtomicLong();
+    private final Timer deliveryLag;
+    private final Counter deliveryFailures;
+
+    public OutboxMetrics(MeterRegistry registry) {
+        Gauge.builder("booking.outbox.backlog", backlog, AtomicLong::get)
+                .description("Booking events written but not yet delivered")
+                .register(registry);
+        Gauge.builder("booking.outbox.lag", oldestAgeMillis, age -> age.get() / 1000.0)
+                .description("Age of the oldest undelivered booking event")
+                .baseUnit("seconds")
+                .register(registry);
+        this.deliveryLag = Timer.builder("booking.outbox.delivery.lag")
+                .description("Time from a booking change to the delivery of its event")
+                .register(registry);
+        this.deliveryFailures = Counter.builder("booking.outbox.delivery.failures")
+                .description("Event deliveries that failed in a listener and will be retried")
+                .register(registry);
+    }
+
+    public void delivered(Duration lag) {
+        deliveryLag.record(lag);
+    }
+
+    public void deliveryFailure() {
+        deliveryFailures.increment();
+    }
+
+    public void pending(long events, Duration oldestAge) {
+        backlog.set(events);
+        oldestAgeMillis.set(oldestAge.toMillis());
+    }
+}
@@ -0,0 +1,158 @@
+package com.sprints.room_booking_system.metrics;
+
+import com.sprints.room_booking_system.exception.SqlBudgetExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks the JDBC statements issued while serving a request.
+ * The count and the total statement time go into the X-Sql-Statement-Count and X-Sql-Time-Us
+ * response headers and into per-URI metrics. Requests over budget are logged, or rejected when
+ * {@code app.sql.budget.fail-on-exceed} is set; the response is then buffered until the check so a
+ * rejection cannot arrive after the body has been committed.
+ * A budget has two limits: the total statement count and how often a single SQL string may repeat
+ * (the N+1 signature).
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    public static final String COUNT_HEADER = "X-Sql-Statement-Count";
+    public static final String TIME_HEADER = "X-Sql-Time-Us";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlBudgetFilter.class);
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxStatements;
+    private final int maxRepeatedStatements;
+    private final boolean failOnExceed;
+
+    public SqlBudgetFilter(MeterRegistry meterRegistry,
+                           @Value("${app.sql.budget.max-statements:30}") int maxStatements,
+                           @Value("${app.sql.budget.max-repeated-statements:10}") int maxRepeatedStatements,
+                           @Value("${app.sql.budget.fail-on-exceed:false}") boolean failOnExceed) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+        this.maxRepeatedStatements = maxRepeatedStatements;
+        this.failOnExceed = failOnExceed;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        SqlStatementStats stats = SqlStatementStats.begin();
+        ContentCachingResponseWrapper bufferedResponse = failOnExceed
+                ? new ContentCachingResponseWrapper(response)
+                : null;
+        StatsHeaderResponse trackedResponse = new StatsHeaderResponse(
+                bufferedResponse != null ? bufferedResponse : response, stats);
+        try {
+            filterChain.doFilter(request, trackedResponse);
+        } finally {
+            SqlStatementStats.end();
+        }
+        trackedResponse.writeHeaders();
+
+        String uri = uriTag(request);
+        record(uri, stats);
+        checkBudget(request, uri, stats);
+        if (bufferedResponse != null) {
+            bufferedResponse.copyBodyToResponse();
+        }
+    }
+
+    private void record(String uri, SqlStatementStats stats) {
+        DistributionSummary.builder("http.server.sql.statements")
+                .description("JDBC statements executed per HTTP request")
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getStatementCount());
+        Timer.builder("http.server.sql.time")
+                .description("Time spent in JDBC statements per HTTP request")
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getTotalNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private void checkBudget(HttpServletRequest request, String uri, SqlStatementStats stats) {
+        String violation = null;
+        if (stats.getStatementCount() > maxStatements) {
+            violation = "statements";
+        } else if (stats.getMostRepeatedCount() > maxRepeatedStatements) {
+            violation = "repeated";
+        }
+        if (violation == null) {
+            return;
+        }
+
+        Counter.builder("http.server.sql.budget.exceeded")
+                .tag("uri", uri)
+                .tag("reason", violation)
+                .register(meterRegistry)
+                .increment();
+        String message = String.format(
+                "SQL budget exceeded (%s) for %s %s: %d statements, most repeated %d times: %s",
+                violation, request.getMethod(), uri, stats.getStatementCount(),
+                stats.getMostRepeatedCount(), stats.getMostRepeatedSql());
+        if (failOnExceed) {
+            throw new SqlBudgetExceededException(message);
+        }
+        log.warn(message);
+    }
+
+    private static String uriTag(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_URI;
+    }
+
+    /**
+     * Adds the statement headers at the moment the response is committed, while headers can still be set.
+     * Bodies larger than the container buffer may commit before that hook fires; such
+     * responses carry no SQL headers but are still measured.
+     */
+    private static final class StatsHeaderResponse extends OnCommittedResponseWrapper {
+
+        private final SqlStatementStats stats;
+        private boolean headersWritten;
+
+        StatsHeaderResponse(HttpServletResponse response, SqlStatementStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeHeaders();
+        }
+
+        void writeHeaders() {
+            if (headersWritten || isCommitted()) {
+                return;
+            }
+            headersWritten = true;
+            setHeader(COUNT_HEADER, Integer.toString(stats.getStatementCount()));
+            setHeader(TIME_HEADER, Long.toString(TimeUnit.NANOSECONDS.toMicros(stats.getTotalNanos())));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.sprints.room_booking_system.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * Feeds every JDBC execution into the per-request {@link SqlStatementStats}.
+ * A batch counts as one statement because it is one round trip.
+ */
+public class SqlStatementListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null) {
+            stats.beforeStatement();
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null) {
+            String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+            stats.afterStatement(sql);
+        }
+    }
+}
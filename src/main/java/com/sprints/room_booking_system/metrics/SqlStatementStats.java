@@ -0,0 +1,76 @@
+package com.sprints.room_booking_system.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JDBC statement tally for the request bound to the current thread.
+ * Opened by {@link SqlBudgetFilter}; statements executed outside a request are not tracked.
+ */
+public final class SqlStatementStats {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private int statementCount;
+    private long totalNanos;
+    private long statementStartedAt;
+    private Map<String, Integer> executionsBySql;
+    private String mostRepeatedSql;
+    private int mostRepeatedCount;
+
+    SqlStatementStats() {
+    }
+
+    public static SqlStatementStats begin() {
+        SqlStatementStats stats = new SqlStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Stats of the request on this thread, or {@code null} when no request is being tracked.
+     */
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void beforeStatement() {
+        statementStartedAt = System.nanoTime();
+    }
+
+    void afterStatement(String sql) {
+        totalNanos += System.nanoTime() - statementStartedAt;
+        statementCount++;
+        if (executionsBySql == null) {
+            executionsBySql = new HashMap<>();
+        }
+        int executions = executionsBySql.merge(sql, 1, Integer::sum);
+        if (executions > mostRepeatedCount) {
+            mostRepeatedCount = executions;
+            mostRepeatedSql = sql;
+        }
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Highest number of times a single SQL string ran in this request; a high value is the N+1 signature.
+     */
+    public int getMostRepeatedCount() {
+        return mostRepeatedCount;
+    }
+
+    public String getMostRepeatedSql() {
+        return mostRepeatedSql;
+    }
+}
@@ -0,0 +1,52 @@
+package com.sprints.room_booking_system.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A finished booking moved out of {@code bookings} by the archiver. Keeps the original id;
+ * room and user are plain ids so archived rows never hold locks on the hot tables.
+ */
+@Entity
+@Table(name = "bookings_archive",
+        indexes = {
+                @Index(name = "idx_bookings_archive_user", columnList = "user_id"),
+                @Index(name = "idx_bookings_archive_room", columnList = "room_id"),
+                @Index(name = "idx_bookings_archive_status", columnList = "status")
+        })
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class ArchivedBooking {
+
+    @Id
+    private Long id;
+
+    private long version;
+
+    @Column(nullable = false)
+    private LocalDateTime startTime;
+
+    @Column(nullable = false)
+    private LocalDateTime endTime;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BookingStatus status;
+
+    private String purpose;
+
+    private LocalDateTime createdAt;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "room_id")
+    private Long roomId;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,35 @@
+package com.sprints.room_booking_system.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * History of an archived booking, moved together with it.
+ */
+@Entity
+@Table(name = "booking_history_archive",
+        indexes = @Index(name = "idx_booking_history_archive_booking", columnList = "booking_id"))
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class ArchivedBookingHistory {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String action;
+
+    private LocalDateTime actionTime;
+
+    private String reason;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "booking_id", nullable = false)
+    private Long bookingId;
+}
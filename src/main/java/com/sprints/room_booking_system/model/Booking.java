@@ -3,21 +3,35 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
+import java.time.Duration;
 import java.util.List;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name="bookings")
+@Table(name="bookings", indexes = {
+        @Index(name = "idx_bookings_room_status_time", columnList = "room_id, status, start_time, end_time"),
+        @Index(name = "idx_bookings_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_bookings_user_start", columnList = "user_id, start_time")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
 @Builder
 public class Booking {
 
+    /** Longest booking accepted; lets overlap queries bound start_time from below (partition pruning) */
+    public static final Duration MAX_DURATION = Duration.ofHours(24);
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "booking_ids")
+    @TableGenerator(name = "booking_ids", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = IdGenerators.BOOKINGS,
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
+    @Version
+    private long version;
+
     @NotNull(message = "Start time is required")
     @FutureOrPresent(message = "Start time must be in the present or future")
     private LocalDateTime startTime;
@@ -51,4 +65,11 @@ public class Booking {
     public void prePersist() {
         this.createdAt = LocalDateTime.now();
     }
+
+    /**
+     * Earliest start of a booking that can still overlap a range starting at {@code startTime}
+     */
+    public static LocalDateTime earliestOverlappingStart(LocalDateTime startTime) {
+        return startTime.minus(MAX_DURATION);
+    }
 }
@@ -0,0 +1,12 @@
+package com.sprints.room_booking_system.model;
+
+public enum BookingEventType {
+
+    CREATED,
+    UPDATED,
+    APPROVED,
+    REJECTED,
+    CANCELLED,
+    EXPIRED,
+    COMPLETED
+}
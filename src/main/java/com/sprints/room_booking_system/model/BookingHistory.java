@@ -8,7 +8,9 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name="booking_history")
+@Table(name="booking_history", indexes = {
+        @Index(name = "idx_booking_history_booking_time", columnList = "booking_id, action_time")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
@@ -16,13 +18,16 @@ import java.time.LocalDateTime;
 public class BookingHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "booking_history_ids")
+    @TableGenerator(name = "booking_history_ids", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = IdGenerators.BOOKING_HISTORY,
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @NotBlank(message = "Action is required")
     @Pattern(
-            regexp = "CREATED|APPROVED|REJECTED|CANCELLED",
-            message = "Action must be one of CREATED, APPROVED, REJECTED, CANCELLED"
+            regexp = "CREATED|UPDATED|APPROVED|REJECTED|CANCELLED|EXPIRED|COMPLETED",
+            message = "Action must be one of CREATED, UPDATED, APPROVED, REJECTED, CANCELLED, EXPIRED, COMPLETED"
     )
     @Column(nullable = false)
     private String action;
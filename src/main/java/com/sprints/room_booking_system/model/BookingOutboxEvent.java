@@ -0,0 +1,55 @@
+package com.sprints.room_booking_system.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A booking change waiting to be delivered to in-process listeners. Written in the same
+ * transaction as the change itself; {@code publishedAt} stays null until the relay delivers it.
+ */
+@Entity
+@Table(name = "booking_outbox",
+        indexes = @Index(name = "idx_booking_outbox_unpublished", columnList = "published_at, id"))
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class BookingOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull(message = "Event type is required")
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private BookingEventType eventType;
+
+    @NotNull(message = "Booking ID is required")
+    @Column(nullable = false)
+    private Long bookingId;
+
+    private Long roomId;
+
+    private Long userId;
+
+    private Long actorUserId;
+
+    private LocalDateTime startTime;
+
+    private LocalDateTime endTime;
+
+    @NotNull(message = "Creation time is required")
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt;
+
+    private int attempts;
+
+    @Column(length = 500)
+    private String lastError;
+}
@@ -5,5 +5,7 @@ public enum BookingStatus {
     PENDING,
     APPROVED,
     REJECTED,
-    CANCELLED
+    CANCELLED,
+    EXPIRED,
+    COMPLETED
 }
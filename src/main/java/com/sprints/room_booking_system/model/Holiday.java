@@ -5,7 +5,9 @@ import lombok.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name="holidays")
+@Table(name="holidays", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_holidays_date", columnNames = "date")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
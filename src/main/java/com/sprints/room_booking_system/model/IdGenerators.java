@@ -0,0 +1,21 @@
+package com.sprints.room_booking_system.model;
+
+/**
+ * Names for the table-backed id generators. Each row of {@code id_generator} holds the next free
+ * id of one table; Hibernate takes {@link #ALLOCATION_SIZE} ids per round trip (pooled-lo), and
+ * JDBC batch writers reserve their own blocks from the same row.
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "id_generator";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    public static final String BOOKINGS = "bookings";
+    public static final String BOOKING_HISTORY = "booking_history";
+    public static final String USERS = "users";
+
+    private IdGenerators() {
+    }
+}
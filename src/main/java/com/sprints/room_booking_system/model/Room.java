@@ -20,6 +20,9 @@ public class Room {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Version
+    private long version;
+
     @NotBlank(message = "Room name is required")
     @Column(nullable = false)
     private String name;
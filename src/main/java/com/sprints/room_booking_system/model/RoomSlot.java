@@ -0,0 +1,40 @@
+package com.sprints.room_booking_system.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * One fixed-length slot of a room held by an active (PENDING or APPROVED) booking. The primary key
+ * makes the database refuse a second booking of the same slot.
+ */
+@Entity
+@Table(name = "room_slots", indexes = @Index(name = "idx_room_slots_booking", columnList = "booking_id"))
+@IdClass(RoomSlot.Key.class)
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class RoomSlot {
+
+    @Id
+    @Column(name = "room_id")
+    private Long roomId;
+
+    @Id
+    @Column(name = "slot_start")
+    private LocalDateTime slotStart;
+
+    @Column(name = "booking_id", nullable = false)
+    private Long bookingId;
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Data
+    public static class Key implements Serializable {
+        private Long roomId;
+        private LocalDateTime slotStart;
+    }
+}
@@ -16,7 +16,10 @@ import java.util.List;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_ids")
+    @TableGenerator(name = "user_ids", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = IdGenerators.USERS,
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @NotBlank(message = "Name is required")
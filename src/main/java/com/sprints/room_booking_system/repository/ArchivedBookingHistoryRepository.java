@@ -0,0 +1,16 @@
+package com.sprints.room_booking_system.repository;
+
+import com.sprints.room_booking_system.model.ArchivedBookingHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ArchivedBookingHistoryRepository extends JpaRepository<ArchivedBookingHistory, Long> {
+
+    /**
+     * Find the history of an archived booking in the order it happened
+     */
+    List<ArchivedBookingHistory> findByBookingIdOrderByActionTimeAscIdAsc(Long bookingId);
+}
@@ -0,0 +1,27 @@
+package com.sprints.room_booking_system.repository;
+
+import com.sprints.room_booking_system.model.ArchivedBooking;
+import com.sprints.room_booking_system.model.BookingStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ArchivedBookingRepository extends JpaRepository<ArchivedBooking, Long> {
+
+    /**
+     * Find archived bookings by user
+     */
+    List<ArchivedBooking> findByUserId(Long userId);
+
+    /**
+     * Find archived bookings by room
+     */
+    List<ArchivedBooking> findByRoomId(Long roomId);
+
+    /**
+     * Find archived bookings by status
+     */
+    List<ArchivedBooking> findByStatus(BookingStatus status);
+}
@@ -0,0 +1,16 @@
+package com.sprints.room_booking_system.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Moves finished bookings and their history into the archive tables with set-based JDBC statements.
+ */
+public interface BookingArchiveBatchRepository {
+
+    /**
+     * Copy the bookings (and their history) into the archive and delete them from the hot tables;
+     * only bookings in a final status are moved. Returns the number of bookings archived.
+     */
+    int moveToArchive(Collection<Long> bookingIds, LocalDateTime archivedAt);
+}
@@ -0,0 +1,54 @@
+package com.sprints.room_booking_system.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@RequiredArgsConstructor
+class BookingArchiveBatchRepositoryImpl implements BookingArchiveBatchRepository {
+
+    private static final String FINAL_STATUSES = "('COMPLETED', 'CANCELLED', 'REJECTED', 'EXPIRED')";
+
+    private static final String COPY_BOOKINGS_SQL = """
+            INSERT INTO bookings_archive (id, version, start_time, end_time, status, purpose, created_at, user_id, room_id, archived_at)
+            SELECT id, version, start_time, end_time, status, purpose, created_at, user_id, room_id, :archivedAt
+            FROM bookings WHERE id IN (:ids) AND status IN\s""" + FINAL_STATUSES;
+
+    private static final String COPY_HISTORY_SQL = """
+            INSERT INTO booking_history_archive (id, action, action_time, reason, user_id, booking_id)
+            SELECT h.id, h.action, h.action_time, h.reason, h.user_id, h.booking_id
+            FROM booking_history h JOIN bookings_archive a ON a.id = h.booking_id
+            WHERE h.booking_id IN (:ids)""";
+
+    private static final String DELETE_HISTORY_SQL = """
+            DELETE FROM booking_history
+            WHERE booking_id IN (:ids) AND booking_id IN (SELECT id FROM bookings_archive WHERE id IN (:ids))""";
+
+    private static final String DELETE_BOOKINGS_SQL = """
+            DELETE FROM bookings
+            WHERE id IN (:ids) AND id IN (SELECT id FROM bookings_archive WHERE id IN (:ids))""";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public int moveToArchive(Collection<Long> bookingIds, LocalDateTime archivedAt) {
+        if (bookingIds.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", bookingIds)
+                .addValue("archivedAt", Timestamp.valueOf(archivedAt));
+        int archived = jdbcTemplate.update(COPY_BOOKINGS_SQL, params);
+        if (archived == 0) {
+            return 0;
+        }
+        jdbcTemplate.update(COPY_HISTORY_SQL, params);
+        jdbcTemplate.update(DELETE_HISTORY_SQL, params);
+        jdbcTemplate.update(DELETE_BOOKINGS_SQL, params);
+        return archived;
+    }
+}
@@ -0,0 +1,13 @@
+package com.sprints.room_booking_system.repository;
+
+import com.sprints.room_booking_system.model.BookingHistory;
+
+import java.util.List;
+
+/**
+ * Inserts history rows as a single JDBC batch; only the ids of the booking and user are read.
+ */
+public interface BookingHistoryBatchRepository {
+
+    void insertAll(List<BookingHistory> history);
+}
@@ -0,0 +1,44 @@
+package com.sprints.room_booking_system.repository;
+
+import com.sprints.room_booking_system.model.BookingHistory;
+import com.sprints.room_booking_system.model.IdGenerators;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+class BookingHistoryBatchRepositoryImpl implements BookingHistoryBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO booking_history (id, booking_id, user_id, action, action_time, reason) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdBlockAllocator idBlockAllocator;
+
+    BookingHistoryBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idBlockAllocator = new IdBlockAllocator(jdbcTemplate.getDataSource());
+    }
+
+    @Override
+    public void insertAll(List<BookingHistory> history) {
+        if (history.isEmpty()) {
+            return;
+        }
+        long nextId = idBlockAllocator.reserve(IdGenerators.BOOKING_HISTORY, history.size());
+        List<Object[]> rows = new ArrayList<>(history.size());
+        for (BookingHistory row : history) {
+            rows.add(new Object[]{
+                    nextId++,
+                    row.getBooking().getId(),
+                    row.getUser() == null ? null : row.getUser().getId(),
+                    row.getAction(),
+                    Timestamp.valueOf(row.getActionTime() == null ? LocalDateTime.now() : row.getActionTime()),
+                    row.getReason()
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+}
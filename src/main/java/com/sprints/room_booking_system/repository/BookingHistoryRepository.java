@@ -1,6 +1,7 @@
 package com.sprints.room_booking_system.repository;
 
 import com.sprints.room_booking_system.model.BookingHistory;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,11 +11,12 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface BookingHistoryRepository extends JpaRepository<BookingHistory, Long> {
+public interface BookingHistoryRepository extends JpaRepository<BookingHistory, Long>, BookingHistoryBatchRepository {
     
     /**
-     * Find history by booking
+     * Find history by booking, fetching the acting users in the same statement
      */
+    @EntityGraph(attributePaths = {"user", "booking"})
     List<BookingHistory> findByBookingId(Long bookingId);
     
     /**
@@ -0,0 +1,13 @@
+package com.sprints.room_booking_system.repository;
+
+import com.sprints.room_booking_system.model.BookingOutboxEvent;
+
+import java.util.List;
+
+/**
+ * Inserts outbox rows as a single JDBC batch.
+ */
+public interface BookingOutboxBatchRepository {
+
+    void insertAll(List<BookingOutboxEvent> events);
+}
@@ -0,0 +1,42 @@
+package com.sprints.room_booking_system.repository;
+
+import com.sprints.room_booking_system.model.BookingOutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+class BookingOutboxBatchRepositoryImpl implements BookingOutboxBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO booking_outbox (event_type, booking_id, room_id, user_id, "
+            + "actor_user_id, start_time, end_time, created_at, attempts) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<BookingOutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = events.stream()
+                .map(event -> new Object[]{
+                        event.getEventType().name(),
+                        event.getBookingId(),
+                        event.getRoomId(),
+                        event.getUserId(),
+                        event.getActorUserId(),
+                        timestamp(event.getStartTime()),
+                        timestamp(event.getEndTime()),
+                        timestamp(event.getCreatedAt() == null ? LocalDateTime.now() : event.getCreatedAt())
+                })
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    private static Timestamp timestamp(LocalDateTime time) {
+        return time == null ? null : Timestamp.valueOf(time);
+    }
+}
@@ -0,0 +1,65 @@
+package com.sprints.room_booking_system.repository;
+
+import com.sprints.room_booking_system.model.BookingOutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BookingOutboxRepository extends JpaRepository<BookingOutboxEvent, Long>, BookingOutboxBatchRepository {
+
+    /**
+     * Oldest undelivered events, locked for the relay; rows another relay holds are skipped where supported
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        SELECT e FROM BookingOutboxEvent e
+        WHERE e.publishedAt IS NULL AND e.attempts < :maxAttempts
+        ORDER BY e.id
+        """)
+    List<BookingOutboxEvent> findUndelivered(@Param("maxAttempts") int maxAttempts, Pageable page);
+
+    /**
+     * Mark events as delivered
+     */
+    @Modifying
+    @Query("UPDATE BookingOutboxEvent e SET e.publishedAt = :publishedAt WHERE e.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    /**
+     * Number of events still waiting for delivery
+     */
+    @Query("SELECT COUNT(e) FROM BookingOutboxEvent e WHERE e.publishedAt IS NULL AND e.attempts < :maxAttempts")
+    long countUndelivered(@Param("maxAttempts") int maxAttempts);
+
+    /**
+     * Creation time of the oldest event still waiting for delivery, or null when the outbox is drained
+     */
+    @Query("SELECT MIN(e.createdAt) FROM BookingOutboxEvent e WHERE e.publishedAt IS NULL AND e.attempts < :maxAttempts")
+    LocalDateTime findOldestUndeliveredCreatedAt(@Param("maxAttempts") int maxAttempts);
+
+    /**
+     * Ids of events delivered before {@code cutoff}, oldest first
+     */
+    @Query("SELECT e.id FROM BookingOutboxEvent e WHERE e.publishedAt < :cutoff ORDER BY e.id")
+    List<Long> findPublishedIdsBefore(@Param("cutoff") LocalDateTime cutoff, Pageable page);
+
+    /**
+     * Delete events by id
+     */
+    @Modifying
+    @Query("DELETE FROM BookingOutboxEvent e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
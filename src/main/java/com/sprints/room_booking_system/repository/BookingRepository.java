@@ -3,6 +3,7 @@ package com.sprints.room_booking_system.repository;
 import com.sprints.room_booking_system.dto.BookingDto;
 import com.sprints.room_booking_system.model.Booking;
 import com.sprints.room_booking_system.model.BookingStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -10,11 +11,13 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface BookingRepository extends JpaRepository<Booking, Long> {
+public interface BookingRepository extends JpaRepository<Booking, Long>, BookingStatusBatchRepository,
+        BookingArchiveBatchRepository {
     
     /**
      * Find bookings by user
@@ -60,22 +63,26 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     /**
      * Check if a booking overlaps with existing APPROVED/PENDING bookings
      * This is the key query for conflict detection
+     * (two slots overlap when each starts before the other ends; served by idx_bookings_room_status_time)
      */
     @Query("""
         SELECT COUNT(b) > 0 FROM Booking b 
         WHERE b.room.id = :roomId 
         AND b.status IN (com.sprints.room_booking_system.model.BookingStatus.PENDING,com.sprints.room_booking_system.model.BookingStatus.APPROVED)
         AND b.id != :excludeBookingId
-        AND (
-            (b.startTime <= :startTime AND b.endTime > :startTime) OR
-            (b.startTime < :endTime AND b.endTime >= :endTime) OR
-            (b.startTime >= :startTime AND b.endTime <= :endTime)
-        )
+        AND b.startTime >= :earliestStart AND b.startTime < :endTime AND b.endTime > :startTime
         """)
-    boolean hasOverlappingBookings(@Param("roomId") Long roomId, 
-                                   @Param("startTime") LocalDateTime startTime, 
-                                   @Param("endTime") LocalDateTime endTime,
-                                   @Param("excludeBookingId") Long excludeBookingId);
+    boolean hasOverlappingBookingsStartingFrom(@Param("roomId") Long roomId,
+                                               @Param("earliestStart") LocalDateTime earliestStart,
+                                               @Param("startTime") LocalDateTime startTime,
+                                               @Param("endTime") LocalDateTime endTime,
+                                               @Param("excludeBookingId") Long excludeBookingId);
+
+    default boolean hasOverlappingBookings(Long roomId, LocalDateTime startTime, LocalDateTime endTime,
+                                           Long excludeBookingId) {
+        return hasOverlappingBookingsStartingFrom(roomId, Booking.earliestOverlappingStart(startTime),
+                startTime, endTime, excludeBookingId);
+    }
     
     /**
      * Check if a new booking overlaps with existing APPROVED/PENDING bookings
@@ -85,23 +92,94 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
         WHERE b.room.id = :roomId 
 
         AND b.status IN (com.sprints.room_booking_system.model.BookingStatus.PENDING,com.sprints.room_booking_system.model.BookingStatus.APPROVED)
-        AND (
-            (b.startTime <= :startTime AND b.endTime > :startTime) OR
-            (b.startTime < :endTime AND b.endTime >= :endTime) OR
-            (b.startTime >= :startTime AND b.endTime <= :endTime)
-        )
+        AND b.startTime >= :earliestStart AND b.startTime < :endTime AND b.endTime > :startTime
         """)
-    boolean hasOverlappingBookings(@Param("roomId") Long roomId, 
-                                   @Param("startTime") LocalDateTime startTime, 
-                                   @Param("endTime") LocalDateTime endTime);
+    boolean hasOverlappingBookingsStartingFrom(@Param("roomId") Long roomId,
+                                               @Param("earliestStart") LocalDateTime earliestStart,
+                                               @Param("startTime") LocalDateTime startTime,
+                                               @Param("endTime") LocalDateTime endTime);
+
+    default boolean hasOverlappingBookings(Long roomId, LocalDateTime startTime, LocalDateTime endTime) {
+        return hasOverlappingBookingsStartingFrom(roomId, Booking.earliestOverlappingStart(startTime), startTime, endTime);
+    }
     
     /**
      * Soft delete/cancel booking by updating status
      */
     @Modifying
-    @Query("UPDATE Booking b SET b.status = :status WHERE b.id = :bookingId")
+    @Query("UPDATE Booking b SET b.status = :status, b.version = b.version + 1 WHERE b.id = :bookingId")
     int updateBookingStatus(@Param("bookingId") Long bookingId, @Param("status") BookingStatus status);
     
+    /**
+     * Load the decision columns of the given bookings in one statement
+     */
+    @Query("""
+        SELECT new com.sprints.room_booking_system.repository.BookingSlot(
+            b.id, b.room.id, b.user.id, b.startTime, b.endTime, b.status, b.createdAt, b.version)
+        FROM Booking b
+        WHERE b.id IN :ids
+        """)
+    List<BookingSlot> findSlotsByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Find APPROVED/PENDING bookings in any of the rooms that overlap the time range
+     */
+    @Query("""
+        SELECT new com.sprints.room_booking_system.repository.BookingSlot(
+            b.id, b.room.id, b.user.id, b.startTime, b.endTime, b.status, b.createdAt, b.version)
+        FROM Booking b
+        WHERE b.room.id IN :roomIds
+        AND b.status IN (com.sprints.room_booking_system.model.BookingStatus.PENDING,com.sprints.room_booking_system.model.BookingStatus.APPROVED)
+        AND b.startTime >= :earliestStart AND b.startTime < :endTime AND b.endTime > :startTime
+        """)
+    List<BookingSlot> findActiveSlotsInRoomsStartingFrom(@Param("roomIds") Collection<Long> roomIds,
+                                                         @Param("earliestStart") LocalDateTime earliestStart,
+                                                         @Param("startTime") LocalDateTime startTime,
+                                                         @Param("endTime") LocalDateTime endTime);
+
+    default List<BookingSlot> findActiveSlotsInRooms(Collection<Long> roomIds, LocalDateTime startTime,
+                                                     LocalDateTime endTime) {
+        return findActiveSlotsInRoomsStartingFrom(roomIds, Booking.earliestOverlappingStart(startTime), startTime, endTime);
+    }
+    
+    /**
+     * Move PENDING bookings to a new status in one statement; bookings no longer PENDING are left untouched
+     */
+    @Modifying
+    @Query("""
+        UPDATE Booking b SET b.status = :status, b.version = b.version + 1
+        WHERE b.id IN :ids
+        AND b.status = com.sprints.room_booking_system.model.BookingStatus.PENDING
+        """)
+    int updatePendingStatus(@Param("ids") Collection<Long> ids, @Param("status") BookingStatus status);
+    
+    /**
+     * Page through active bookings (PENDING or APPROVED) in id order, without loading their rooms and users
+     */
+    @Query("""
+        SELECT new com.sprints.room_booking_system.repository.BookingSlot(
+            b.id, b.room.id, b.user.id, b.startTime, b.endTime, b.status, b.createdAt, b.version)
+        FROM Booking b
+        WHERE b.id > :afterId
+        AND b.status IN (com.sprints.room_booking_system.model.BookingStatus.PENDING,com.sprints.room_booking_system.model.BookingStatus.APPROVED)
+        ORDER BY b.id
+        """)
+    List<BookingSlot> findActiveSlotsAfter(@Param("afterId") Long afterId, Pageable page);
+    
+    /**
+     * Oldest finished bookings (completed, cancelled, rejected or expired) that ended before the cutoff
+     */
+    @Query("""
+        SELECT b.id FROM Booking b
+        WHERE b.endTime < :cutoff
+        AND b.status IN (com.sprints.room_booking_system.model.BookingStatus.COMPLETED,
+                         com.sprints.room_booking_system.model.BookingStatus.CANCELLED,
+                         com.sprints.room_booking_system.model.BookingStatus.REJECTED,
+                         com.sprints.room_booking_system.model.BookingStatus.EXPIRED)
+        ORDER BY b.id
+        """)
+    List<Long> findArchivableIds(@Param("cutoff") LocalDateTime cutoff, Pageable page);
+    
     /**
      * Find active bookings (PENDING or APPROVED)
      */
@@ -115,13 +193,14 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     @Query("""
         SELECT b FROM Booking b 
         WHERE b.room.id = :roomId 
-        AND (
-            (b.startTime <= :startTime AND b.endTime > :startTime) OR
-            (b.startTime < :endTime AND b.endTime >= :endTime) OR
-            (b.startTime >= :startTime AND b.endTime <= :endTime)
-        )
+        AND b.startTime >= :earliestStart AND b.startTime < :endTime AND b.endTime > :startTime
         """)
-    List<Booking> findByRoomAndTimeRange(@Param("roomId") Long roomId,
-                                         @Param("startTime") LocalDateTime startTime, 
-                                         @Param("endTime") LocalDateTime endTime);
+    List<Booking> findByRoomAndTimeRangeStartingFrom(@Param("roomId") Long roomId,
+                                                     @Param("earliestStart") LocalDateTime earliestStart,
+                                                     @Param("startTime") LocalDateTime startTime,
+                                                     @Param("endTime") LocalDateTime endTime);
+
+    default List<Booking> findByRoomAndTimeRange(Long roomId, LocalDateTime startTime, LocalDateTime endTime) {
+        return findByRoomAndTimeRangeStartingFrom(roomId, Booking.earliestOverlappingStart(startTime), startTime, endTime);
+    }
 }
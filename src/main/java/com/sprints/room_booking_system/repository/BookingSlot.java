@@ -0,0 +1,22 @@
+package com.sprints.room_booking_system.repository;
+
+import com.sprints.room_booking_system.model.BookingStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * The columns needed to decide a booking, loaded without the eager room and user graphs.
+ */
+public record BookingSlot(Long id,
+                          Long roomId,
+                          Long userId,
+                          LocalDateTime startTime,
+                          LocalDateTime endTime,
+                          BookingStatus status,
+                          LocalDateTime createdAt,
+                          long version) {
+
+    public boolean overlaps(BookingSlot other) {
+        return startTime.isBefore(other.endTime) && endTime.isAfter(other.startTime);
+    }
+}
@@ -0,0 +1,17 @@
+package com.sprints.room_booking_system.repository;
+
+import com.sprints.room_booking_system.model.BookingStatus;
+
+import java.util.List;
+
+/**
+ * Status transitions for many bookings as a single JDBC batch, guarded by status and version.
+ */
+public interface BookingStatusBatchRepository {
+
+    /**
+     * Move each booking from the status and version it was read with to {@code status};
+     * returns the bookings that changed (rows modified concurrently are skipped)
+     */
+    List<BookingSlot> updateStatuses(List<BookingSlot> bookings, BookingStatus status);
+}
@@ -0,0 +1,66 @@
+package com.sprints.room_booking_system.repository;
+
+import com.sprints.room_booking_system.model.BookingStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+class BookingStatusBatchRepositoryImpl implements BookingStatusBatchRepository {
+
+    private static final String UPDATE_SQL = "UPDATE bookings SET status = ?, version = version + 1 "
+            + "WHERE id = ? AND status = ? AND version = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<BookingSlot> updateStatuses(List<BookingSlot> bookings, BookingStatus status) {
+        if (bookings.isEmpty()) {
+            return List.of();
+        }
+        List<Object[]> rows = bookings.stream()
+                .map(booking -> new Object[]{status.name(), booking.id(), booking.status().name(), booking.version()})
+                .toList();
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, rows);
+        List<BookingSlot> unknown = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == Statement.SUCCESS_NO_INFO) {
+                unknown.add(bookings.get(i));
+            }
+        }
+        Map<Long, Long> versions = unknown.isEmpty() ? Map.of() : versionsIn(unknown, status);
+        List<BookingSlot> updated = new ArrayList<>(bookings.size());
+        for (int i = 0; i < counts.length; i++) {
+            BookingSlot booking = bookings.get(i);
+            if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO
+                    && Long.valueOf(booking.version() + 1).equals(versions.get(booking.id()))) {
+                updated.add(booking);
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * Current version of those {@code bookings} now in {@code status}, for drivers that report no
+     * update counts (MySQL with rewritten batches). Read in the updating transaction, so under
+     * REPEATABLE READ a row only shows the bumped version if this batch bumped it.
+     */
+    private Map<Long, Long> versionsIn(List<BookingSlot> bookings, BookingStatus status) {
+        String sql = "SELECT id, version FROM bookings WHERE status = ? AND id IN ("
+                + String.join(", ", Collections.nCopies(bookings.size(), "?")) + ")";
+        List<Object> args = new ArrayList<>(bookings.size() + 1);
+        args.add(status.name());
+        bookings.forEach(booking -> args.add(booking.id()));
+        Map<Long, Long> versions = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            versions.put(rs.getLong(1), rs.getLong(2));
+        }, args.toArray());
+        return versions;
+    }
+}
@@ -0,0 +1,105 @@
+package com.sprints.room_booking_system.repository;
+
+import com.sprints.room_booking_system.model.IdGenerators;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Reserves blocks of ids from {@code id_generator} for rows written with plain JDBC, so they never
+ * collide with the blocks Hibernate's pooled generators take from the same rows.
+ * <p>
+ * Each reservation commits on its own connection, like Hibernate's generator, so the generator row
+ * is never locked for the length of a business transaction. Writers create their own instance; the
+ * application bean only catches the generator rows up with existing data at startup.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class IdBlockAllocator {
+
+    private static final String RESERVE_SQL = "UPDATE " + IdGenerators.TABLE
+            + " SET " + IdGenerators.VALUE_COLUMN + " = " + IdGenerators.VALUE_COLUMN + " + ?"
+            + " WHERE " + IdGenerators.NAME_COLUMN + " = ?";
+    private static final String READ_SQL = "SELECT " + IdGenerators.VALUE_COLUMN + " FROM " + IdGenerators.TABLE
+            + " WHERE " + IdGenerators.NAME_COLUMN + " = ?";
+
+    private final DataSource dataSource;
+
+    public IdBlockAllocator(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Make sure every generator starts after the ids already in its table, e.g. rows written before
+     * pooled ids existed or a generator row created by schema generation on a non-empty table.
+     */
+    @PostConstruct
+    public void initialize() {
+        for (String table : List.of(IdGenerators.BOOKINGS, IdGenerators.BOOKING_HISTORY, IdGenerators.USERS)) {
+            String nextFree = "(SELECT COALESCE(MAX(id), 0) + 1 FROM " + table + ")";
+            String catchUp = "UPDATE " + IdGenerators.TABLE + " SET " + IdGenerators.VALUE_COLUMN + " = " + nextFree
+                    + " WHERE " + IdGenerators.NAME_COLUMN + " = ? AND " + IdGenerators.VALUE_COLUMN + " < " + nextFree;
+            String insert = "INSERT INTO " + IdGenerators.TABLE
+                    + " (" + IdGenerators.NAME_COLUMN + ", " + IdGenerators.VALUE_COLUMN + ") VALUES (?, " + nextFree + ")";
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement read = connection.prepareStatement(READ_SQL);
+                 PreparedStatement update = connection.prepareStatement(catchUp);
+                 PreparedStatement create = connection.prepareStatement(insert)) {
+                read.setString(1, table);
+                boolean exists;
+                try (ResultSet row = read.executeQuery()) {
+                    exists = row.next();
+                }
+                PreparedStatement statement = exists ? update : create;
+                statement.setString(1, table);
+                if (statement.executeUpdate() > 0) {
+                    log.info("Moved the id generator for {} past the existing rows", table);
+                }
+            } catch (SQLException e) {
+                throw new DataAccessResourceFailureException("Could not initialize id generator for " + table, e);
+            }
+        }
+    }
+
+    /**
+     * Reserve {@code count} consecutive ids of {@code sequence}; returns the first one.
+     */
+    public long reserve(String sequence, int count) {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement update = connection.prepareStatement(RESERVE_SQL);
+                 PreparedStatement read = connection.prepareStatement(READ_SQL)) {
+                update.setInt(1, count);
+                update.setString(2, sequence);
+                if (update.executeUpdate() != 1) {
+                    throw new IllegalStateException("No id generator row for " + sequence);
+                }
+                read.setString(1, sequence);
+                try (ResultSet next = read.executeQuery()) {
+                    next.next();
+                    long first = next.getLong(1) - count;
+                    connection.commit();
+                    return first;
+                }
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Could not reserve ids for " + sequence, e);
+        }
+    }
+}
@@ -1,13 +1,18 @@
 package com.sprints.room_booking_system.repository;
 
+import com.sprints.room_booking_system.model.Booking;
 import com.sprints.room_booking_system.model.Room;
 import com.sprints.room_booking_system.model.RoomFeature;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,8 +40,9 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
     List<Room> findByFloorNumber(int floorNumber);
     
     /**
-     * Find active rooms
+     * Find active rooms, fetching building and features in the same statement
      */
+    @EntityGraph(attributePaths = {"building", "features"})
     List<Room> findByIsActiveTrue();
     
     /**
@@ -55,15 +61,16 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
             SELECT DISTINCT b.room.id 
             FROM Booking b 
             WHERE b.status IN ('PENDING', 'APPROVED')
-            AND (
-                (b.startTime <= :startTime AND b.endTime > :startTime) OR
-                (b.startTime < :endTime AND b.endTime >= :endTime) OR
-                (b.startTime >= :startTime AND b.endTime <= :endTime)
-            )
+            AND b.startTime >= :earliestStart AND b.startTime < :endTime AND b.endTime > :startTime
         )
         """)
-    List<Room> findAvailableRooms(@Param("startTime") LocalDateTime startTime, 
-                                   @Param("endTime") LocalDateTime endTime);
+    List<Room> findAvailableRoomsStartingFrom(@Param("earliestStart") LocalDateTime earliestStart,
+                                              @Param("startTime") LocalDateTime startTime,
+                                              @Param("endTime") LocalDateTime endTime);
+
+    default List<Room> findAvailableRooms(LocalDateTime startTime, LocalDateTime endTime) {
+        return findAvailableRoomsStartingFrom(Booking.earliestOverlappingStart(startTime), startTime, endTime);
+    }
     
     /**
      * Find available rooms with specific features for a given time range
@@ -77,16 +84,75 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
             SELECT DISTINCT b.room.id 
             FROM Booking b 
             WHERE b.status IN ('PENDING', 'APPROVED')
-            AND (
-                (b.startTime <= :startTime AND b.endTime > :startTime) OR
-                (b.startTime < :endTime AND b.endTime >= :endTime) OR
-                (b.startTime >= :startTime AND b.endTime <= :endTime)
-            )
+            AND b.startTime >= :earliestStart AND b.startTime < :endTime AND b.endTime > :startTime
         )
         """)
-    List<Room> findAvailableRoomsWithFeatures(@Param("startTime") LocalDateTime startTime, 
-                                              @Param("endTime") LocalDateTime endTime,
-                                              @Param("featureIds") List<Long> featureIds);
+    List<Room> findAvailableRoomsWithFeaturesStartingFrom(@Param("earliestStart") LocalDateTime earliestStart,
+                                                          @Param("startTime") LocalDateTime startTime,
+                                                          @Param("endTime") LocalDateTime endTime,
+                                                          @Param("featureIds") List<Long> featureIds);
+
+    default List<Room> findAvailableRoomsWithFeatures(LocalDateTime startTime, LocalDateTime endTime, List<Long> featureIds) {
+        return findAvailableRoomsWithFeaturesStartingFrom(Booking.earliestOverlappingStart(startTime),
+                startTime, endTime, featureIds);
+    }
+    
+    /**
+     * Find ids of rooms with a PENDING or APPROVED booking overlapping the time range
+     */
+    @Query("""
+        SELECT DISTINCT b.room.id 
+        FROM Booking b 
+        WHERE b.status IN ('PENDING', 'APPROVED')
+        AND b.startTime >= :earliestStart AND b.startTime < :endTime AND b.endTime > :startTime
+        """)
+    List<Long> findBusyRoomIdsStartingFrom(@Param("earliestStart") LocalDateTime earliestStart,
+                                           @Param("startTime") LocalDateTime startTime,
+                                           @Param("endTime") LocalDateTime endTime);
+
+    default List<Long> findBusyRoomIds(LocalDateTime startTime, LocalDateTime endTime) {
+        return findBusyRoomIdsStartingFrom(Booking.earliestOverlappingStart(startTime), startTime, endTime);
+    }
+    
+    /**
+     * Find rooms by id, fetching building and features in the same statement
+     */
+    @EntityGraph(attributePaths = {"building", "features"})
+    List<Room> findWithBuildingAndFeaturesByIdIn(Collection<Long> ids);
+    
+    /**
+     * Find ids of buildings that have at least one active room
+     */
+    @Query("SELECT DISTINCT r.building.id FROM Room r WHERE r.isActive = true")
+    List<Long> findBuildingIdsWithActiveRooms();
+    
+    /**
+     * Find available active rooms in one building, fetching building and features in the same statement.
+     * One partition of the campus-wide search
+     */
+    @EntityGraph(attributePaths = {"building", "features"})
+    @Query("""
+        SELECT r FROM Room r 
+        WHERE r.building.id = :buildingId 
+        AND r.isActive = true 
+        AND NOT EXISTS (
+            SELECT 1 FROM Booking b 
+            WHERE b.room = r 
+            AND b.status IN (com.sprints.room_booking_system.model.BookingStatus.PENDING,com.sprints.room_booking_system.model.BookingStatus.APPROVED)
+            AND b.startTime >= :earliestStart
+            AND b.startTime < :endTime 
+            AND b.endTime > :startTime
+        )
+        """)
+    List<Room> findAvailableRoomsInBuildingStartingFrom(@Param("buildingId") Long buildingId,
+                                                        @Param("earliestStart") LocalDateTime earliestStart,
+                                                        @Param("startTime") LocalDateTime startTime,
+                                                        @Param("endTime") LocalDateTime endTime);
+
+    default List<Room> findAvailableRoomsInBuilding(Long buildingId, LocalDateTime startTime, LocalDateTime endTime) {
+        return findAvailableRoomsInBuildingStartingFrom(buildingId, Booking.earliestOverlappingStart(startTime),
+                startTime, endTime);
+    }
     
     /**
      * Find rooms by building and features
@@ -103,4 +169,12 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
     List<Room> findRoomsByBuildingAndFeatures(@Param("buildingId") Long buildingId, 
                                               @Param("featureIds") List<Long> featureIds,
                                               @Param("featureCount") Long featureCount);
+    
+    /**
+     * Read a room and bump its version at commit, so concurrent booking writes for the same room
+     * cannot both pass the overlap check
+     */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT r FROM Room r WHERE r.id = :roomId")
+    Optional<Room> lockForBookingChange(@Param("roomId") Long roomId);
 }
@@ -0,0 +1,28 @@
+package com.sprints.room_booking_system.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Writes room slot occupancy as JDBC batches; a slot that is already held fails the whole claim.
+ */
+public interface RoomSlotBatchRepository {
+
+    /**
+     * Claim the slots for the booking in one batch;
+     * throws {@link org.springframework.dao.DuplicateKeyException} if any of them is already held
+     */
+    void occupy(Long bookingId, Long roomId, List<LocalDateTime> slotStarts);
+
+    /**
+     * Free every slot held by the bookings; returns the number of slots freed
+     */
+    int release(Collection<Long> bookingIds);
+
+    /**
+     * Free the slots of bookings that no longer exist or are no longer PENDING/APPROVED in that room;
+     * returns the number of slots freed
+     */
+    int releaseStale();
+}
@@ -0,0 +1,54 @@
+package com.sprints.room_booking_system.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+class RoomSlotBatchRepositoryImpl implements RoomSlotBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO room_slots (room_id, slot_start, booking_id) "
+            + "VALUES (:roomId, :slotStart, :bookingId)";
+
+    private static final String RELEASE_SQL = "DELETE FROM room_slots WHERE booking_id IN (:ids)";
+
+    private static final String RELEASE_STALE_SQL = """
+            DELETE FROM room_slots
+            WHERE NOT EXISTS (SELECT 1 FROM bookings b
+                              WHERE b.id = room_slots.booking_id AND b.room_id = room_slots.room_id
+                              AND b.status IN ('PENDING', 'APPROVED'))""";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public void occupy(Long bookingId, Long roomId, List<LocalDateTime> slotStarts) {
+        if (slotStarts.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource[] rows = slotStarts.stream()
+                .map(slotStart -> new MapSqlParameterSource()
+                        .addValue("roomId", roomId)
+                        .addValue("slotStart", Timestamp.valueOf(slotStart))
+                        .addValue("bookingId", bookingId))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    @Override
+    public int release(Collection<Long> bookingIds) {
+        if (bookingIds.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(RELEASE_SQL, new MapSqlParameterSource("ids", bookingIds));
+    }
+
+    @Override
+    public int releaseStale() {
+        return jdbcTemplate.update(RELEASE_STALE_SQL, new MapSqlParameterSource());
+    }
+}
@@ -0,0 +1,28 @@
+package com.sprints.room_booking_system.repository;
+
+import com.sprints.room_booking_system.model.RoomSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RoomSlotRepository extends JpaRepository<RoomSlot, RoomSlot.Key>, RoomSlotBatchRepository {
+
+    /**
+     * Check if any slot of the room starting in [from, to) is held (a primary key range scan)
+     */
+    @Query("""
+        SELECT COUNT(s) > 0 FROM RoomSlot s
+        WHERE s.roomId = :roomId AND s.slotStart >= :from AND s.slotStart < :to
+        """)
+    boolean isOccupied(@Param("roomId") Long roomId,
+                       @Param("from") LocalDateTime from,
+                       @Param("to") LocalDateTime to);
+
+    List<RoomSlot> findByBookingIdIn(Collection<Long> bookingIds);
+}
@@ -0,0 +1,231 @@
+package com.sprints.room_booking_system.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lucene full-text index over booking purposes and history reasons, with status (history: action),
+ * room and time (booking: start time, history: action time) as filters.
+ * <p>
+ * A booking and its history entries share a {@code booking} term, so {@link #replace} swaps all of
+ * them in one atomic update. Writes become visible to {@link #search} after {@link #refresh}.
+ */
+public class BookingTextIndex implements Closeable {
+
+    public enum Kind {
+        BOOKING, HISTORY
+    }
+
+    public record BookingEntry(Long id, Long roomId, String status, LocalDateTime startTime, String purpose) {
+    }
+
+    public record HistoryEntry(Long id, Long bookingId, Long roomId, String action, LocalDateTime actionTime,
+                               String reason) {
+    }
+
+    /**
+     * Documents of {@code kind} matching {@code text} (Lucene simple query syntax: quoted phrases,
+     * {@code -} to exclude, {@code *} suffix; every term required) and the non-null filters. A blank
+     * {@code text} matches everything, newest first; otherwise best match first.
+     */
+    public record Criteria(Kind kind, String text, String status, Long roomId, LocalDateTime from, LocalDateTime to,
+                           int limit) {
+    }
+
+    private static final String BOOKING = "booking";
+    private static final String KIND = "kind";
+    private static final String ID = "id";
+    private static final String TEXT = "text";
+    private static final String STATUS = "status";
+    private static final String ROOM = "room";
+    private static final String TIME = "time";
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public BookingTextIndex(Directory directory) {
+        try {
+            this.directory = directory;
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open booking text index", e);
+        }
+    }
+
+    /** Add a booking without looking for an older copy; for bulk loads into an empty index */
+    public void add(BookingEntry booking) {
+        run(() -> writer.addDocument(document(booking)));
+    }
+
+    /** Add a history entry without looking for an older copy; for bulk loads into an empty index */
+    public void add(HistoryEntry history) {
+        run(() -> writer.addDocument(document(history)));
+    }
+
+    /**
+     * Replace everything indexed for {@code bookingId} with {@code booking} (null when the booking is
+     * gone) and its {@code history}
+     */
+    public void replace(Long bookingId, BookingEntry booking, List<HistoryEntry> history) {
+        List<Document> documents = new ArrayList<>();
+        if (booking != null) {
+            documents.add(document(booking));
+        }
+        history.forEach(entry -> documents.add(document(entry)));
+        run(() -> writer.updateDocuments(new Term(BOOKING, bookingId.toString()), documents));
+    }
+
+    /** Make the writes so far visible to searches */
+    public void refresh() {
+        run(searcherManager::maybeRefreshBlocking);
+    }
+
+    /** Make the writes so far durable */
+    public void commit() {
+        run(writer::commit);
+    }
+
+    public int count(Kind kind) {
+        return withSearcher(searcher -> searcher.count(new TermQuery(new Term(KIND, kind.name()))));
+    }
+
+    /** Ids of the matching documents in result order */
+    public List<Long> search(Criteria criteria) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(KIND, criteria.kind().name())), BooleanClause.Occur.FILTER);
+        boolean byText = criteria.text() != null && !criteria.text().isBlank();
+        if (byText) {
+            SimpleQueryParser parser = new SimpleQueryParser(analyzer, TEXT);
+            parser.setDefaultOperator(BooleanClause.Occur.MUST);
+            Query text = parser.parse(criteria.text());
+            query.add(text != null ? text : new MatchAllDocsQuery(), BooleanClause.Occur.MUST);
+        }
+        if (criteria.status() != null) {
+            query.add(new TermQuery(new Term(STATUS, criteria.status())), BooleanClause.Occur.FILTER);
+        }
+        if (criteria.roomId() != null) {
+            query.add(LongPoint.newExactQuery(ROOM, criteria.roomId()), BooleanClause.Occur.FILTER);
+        }
+        if (criteria.from() != null || criteria.to() != null) {
+            query.add(LongPoint.newRangeQuery(TIME,
+                    criteria.from() != null ? epochSecond(criteria.from()) : Long.MIN_VALUE,
+                    criteria.to() != null ? epochSecond(criteria.to()) : Long.MAX_VALUE), BooleanClause.Occur.FILTER);
+        }
+        return withSearcher(searcher -> {
+            TopDocs top = byText
+                    ? searcher.search(query.build(), criteria.limit())
+                    : searcher.search(query.build(), criteria.limit(), new Sort(new SortField(TIME, SortField.Type.LONG, true)));
+            List<Long> ids = new ArrayList<>(top.scoreDocs.length);
+            for (ScoreDoc hit : top.scoreDocs) {
+                ids.add(searcher.doc(hit.doc).getField(ID).numericValue().longValue());
+            }
+            return ids;
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private static Document document(BookingEntry booking) {
+        return document(Kind.BOOKING, booking.id(), booking.id(), booking.roomId(), booking.status(),
+                booking.startTime(), booking.purpose());
+    }
+
+    private static Document document(HistoryEntry history) {
+        return document(Kind.HISTORY, history.id(), history.bookingId(), history.roomId(), history.action(),
+                history.actionTime(), history.reason());
+    }
+
+    private static Document document(Kind kind, Long id, Long bookingId, Long roomId, String status,
+                                     LocalDateTime time, String text) {
+        Document document = new Document();
+        document.add(new StringField(BOOKING, bookingId.toString(), Field.Store.NO));
+        document.add(new StringField(KIND, kind.name(), Field.Store.NO));
+        document.add(new StoredField(ID, id));
+        if (text != null) {
+            document.add(new TextField(TEXT, text, Field.Store.NO));
+        }
+        if (status != null) {
+            document.add(new StringField(STATUS, status, Field.Store.NO));
+        }
+        if (roomId != null) {
+            document.add(new LongPoint(ROOM, roomId));
+        }
+        long timestamp = time != null ? epochSecond(time) : 0L;
+        document.add(new LongPoint(TIME, timestamp));
+        document.add(new NumericDocValuesField(TIME, timestamp));
+        return document;
+    }
+
+    private static long epochSecond(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private interface IndexAction {
+        void run() throws IOException;
+    }
+
+    private interface SearchAction<T> {
+        T apply(IndexSearcher searcher) throws IOException;
+    }
+
+    private static void run(IndexAction action) {
+        try {
+            action.run();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Booking text index write failed", e);
+        }
+    }
+
+    private <T> T withSearcher(SearchAction<T> action) {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return action.apply(searcher);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Booking text index search failed", e);
+        }
+    }
+}
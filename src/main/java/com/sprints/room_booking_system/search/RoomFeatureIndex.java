@@ -0,0 +1,215 @@
+package com.sprints.room_booking_system.search;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bitsets of room ids per feature, building and capacity, plus one of the active rooms.
+ * <p>
+ * ALL/ANY/NONE feature filters become AND/OR/ANDNOT over the feature bitsets, combined with the
+ * building and capacity bitsets, so matching costs a few word-wise operations per filter term
+ * whatever the number of rooms. Room ids are used as bit positions. Safe for concurrent readers and
+ * writers.
+ */
+public class RoomFeatureIndex {
+
+    private record Entry(Long buildingId, int capacity, boolean active, Set<Long> featureIds) {
+    }
+
+    /**
+     * Rooms per feature and per building, and per capacity threshold the number of rooms seating at
+     * least that many ({@code capacityAtLeast[i]} counts {@code capacityThresholds[i]})
+     */
+    public record Facets(Map<Long, Integer> features, Map<Long, Integer> buildings, int[] capacityThresholds,
+                         int[] capacityAtLeast) {
+    }
+
+    private final Map<Integer, Entry> rooms = new HashMap<>();
+    private final BitSet active = new BitSet();
+    private final Map<Long, BitSet> byFeature = new HashMap<>();
+    private final Map<Long, BitSet> byBuilding = new HashMap<>();
+    private final NavigableMap<Integer, BitSet> byCapacity = new TreeMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Add or replace a room; a null {@code featureIds} keeps the features already indexed for it.
+     */
+    public void put(Long roomId, Long buildingId, int capacity, boolean isActive, Collection<Long> featureIds) {
+        int bit = bit(roomId);
+        lock.writeLock().lock();
+        try {
+            Entry previous = unlink(bit);
+            Set<Long> features = featureIds != null ? Set.copyOf(featureIds)
+                    : previous != null ? previous.featureIds() : Set.of();
+            Entry entry = new Entry(buildingId, capacity, isActive, features);
+            rooms.put(bit, entry);
+            active.set(bit, isActive);
+            if (buildingId != null) {
+                byBuilding.computeIfAbsent(buildingId, id -> new BitSet()).set(bit);
+            }
+            byCapacity.computeIfAbsent(capacity, c -> new BitSet()).set(bit);
+            for (Long featureId : features) {
+                byFeature.computeIfAbsent(featureId, id -> new BitSet()).set(bit);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long roomId) {
+        lock.writeLock().lock();
+        try {
+            unlink(bit(roomId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Forget a deleted feature; rooms that had it keep their other features */
+    public void removeFeature(Long featureId) {
+        lock.writeLock().lock();
+        try {
+            BitSet holders = byFeature.remove(featureId);
+            if (holders != null) {
+                holders.stream().forEach(bit -> rooms.computeIfPresent(bit, (b, entry) -> new Entry(entry.buildingId(),
+                        entry.capacity(), entry.active(), without(entry.featureIds(), featureId))));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rooms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the active rooms that have every feature in {@code allFeatureIds}, at least one in
+     * {@code anyFeatureIds} (when given), none in {@code noneFeatureIds}, are in {@code buildingId}
+     * (when given) and seat at least {@code minCapacity} (when given). The result is a fresh bitset
+     * the caller may modify.
+     */
+    public BitSet match(Collection<Long> allFeatureIds, Collection<Long> anyFeatureIds, Collection<Long> noneFeatureIds,
+                        Long buildingId, Integer minCapacity) {
+        lock.readLock().lock();
+        try {
+            BitSet result = (BitSet) active.clone();
+            if (buildingId != null) {
+                result.and(byBuilding.getOrDefault(buildingId, new BitSet()));
+            }
+            for (Long featureId : orEmpty(allFeatureIds)) {
+                if (result.isEmpty()) {
+                    return result;
+                }
+                result.and(byFeature.getOrDefault(featureId, new BitSet()));
+            }
+            if (!orEmpty(anyFeatureIds).isEmpty()) {
+                BitSet any = new BitSet();
+                for (Long featureId : anyFeatureIds) {
+                    any.or(byFeature.getOrDefault(featureId, new BitSet()));
+                }
+                result.and(any);
+            }
+            for (Long featureId : orEmpty(noneFeatureIds)) {
+                result.andNot(byFeature.getOrDefault(featureId, new BitSet()));
+            }
+            if (minCapacity != null && !result.isEmpty()) {
+                BitSet large = new BitSet();
+                byCapacity.tailMap(minCapacity, true).values().forEach(large::or);
+                result.and(large);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Facet counts over {@code roomIds} (typically a {@link #match} result minus the busy rooms), in
+     * one pass over its set bits. {@code capacityThresholds} must be ascending.
+     */
+    public Facets facets(BitSet roomIds, int[] capacityThresholds) {
+        Map<Long, Integer> features = new HashMap<>();
+        Map<Long, Integer> buildings = new HashMap<>();
+        int[] capacityAtLeast = new int[capacityThresholds.length];
+        lock.readLock().lock();
+        try {
+            for (int bit = roomIds.nextSetBit(0); bit >= 0; bit = roomIds.nextSetBit(bit + 1)) {
+                Entry entry = rooms.get(bit);
+                if (entry == null) {
+                    continue;
+                }
+                for (Long featureId : entry.featureIds()) {
+                    features.merge(featureId, 1, Integer::sum);
+                }
+                if (entry.buildingId() != null) {
+                    buildings.merge(entry.buildingId(), 1, Integer::sum);
+                }
+                for (int i = 0; i < capacityThresholds.length && entry.capacity() >= capacityThresholds[i]; i++) {
+                    capacityAtLeast[i]++;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new Facets(features, buildings, capacityThresholds.clone(), capacityAtLeast);
+    }
+
+    /** A bitset with the given room ids set */
+    public static BitSet bits(Collection<Long> roomIds) {
+        BitSet result = new BitSet();
+        roomIds.forEach(roomId -> result.set(bit(roomId)));
+        return result;
+    }
+
+    private Entry unlink(int bit) {
+        Entry entry = rooms.remove(bit);
+        if (entry == null) {
+            return null;
+        }
+        active.clear(bit);
+        if (entry.buildingId() != null) {
+            clear(byBuilding, entry.buildingId(), bit);
+        }
+        clear(byCapacity, entry.capacity(), bit);
+        for (Long featureId : entry.featureIds()) {
+            clear(byFeature, featureId, bit);
+        }
+        return entry;
+    }
+
+    private static <K> void clear(Map<K, BitSet> bitsets, K key, int bit) {
+        BitSet bitset = bitsets.get(key);
+        if (bitset != null) {
+            bitset.clear(bit);
+            if (bitset.isEmpty()) {
+                bitsets.remove(key);
+            }
+        }
+    }
+
+    private static Set<Long> without(Set<Long> featureIds, Long featureId) {
+        return Set.copyOf(featureIds.stream().filter(id -> !id.equals(featureId)).toList());
+    }
+
+    private static Collection<Long> orEmpty(Collection<Long> ids) {
+        return ids == null ? List.of() : ids;
+    }
+
+    private static int bit(Long roomId) {
+        return Math.toIntExact(roomId);
+    }
+}
@@ -0,0 +1,85 @@
+package com.sprints.room_booking_system.search;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Feeds JPA writes into the {@link SearchIndexer}s once their transaction has committed, so
+ * rolled-back changes never show up in the in-memory indexes.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchIndexListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final List<SearchIndexer> indexers;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return indexers.stream().anyMatch(indexer -> indexer.indexes(persister.getMappedClass()));
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        for (SearchIndexer indexer : indexers) {
+            if (indexer.indexes(event.getPersister().getMappedClass())) {
+                indexer.indexed(event.getEntity());
+            }
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        for (SearchIndexer indexer : indexers) {
+            if (indexer.indexes(event.getPersister().getMappedClass())) {
+                indexer.indexed(event.getEntity());
+            }
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        for (SearchIndexer indexer : indexers) {
+            if (indexer.indexes(event.getPersister().getMappedClass())) {
+                indexer.removed(event.getEntity());
+            }
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.sprints.room_booking_system.search;
+
+/**
+ * An in-memory index fed with committed JPA writes by {@link SearchIndexListener}.
+ */
+public interface SearchIndexer {
+    /** Whether writes of this entity type concern the index */
+    boolean indexes(Class<?> entityType);
+    /** Index or re-index an inserted or updated entity of an indexed type */
+    void indexed(Object entity);
+    /** Drop a deleted entity of an indexed type */
+    void removed(Object entity);
+}
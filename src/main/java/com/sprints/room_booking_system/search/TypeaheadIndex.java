@@ -0,0 +1,207 @@
+package com.sprints.room_booking_system.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory name index for typeahead over rooms, buildings, features and users.
+ * <p>
+ * Queries of three or more characters intersect the trigram postings of the query and check the
+ * survivors with a plain substring test; shorter queries look up word prefixes in a sorted map.
+ * Hits rank exact label first, then label prefix, then word prefix, then substring; ties go to the
+ * shorter label. Safe for concurrent readers and writers.
+ */
+public class TypeaheadIndex {
+
+    private static final int GRAM = 3;
+
+    public enum Kind {
+        ROOM, BUILDING, FEATURE, USER
+    }
+
+    /** {@code rank} 0 = exact, 1 = label prefix, 2 = word prefix, 3 = substring */
+    public record Hit(Kind kind, Long id, String label, String detail, int rank) {
+    }
+
+    private record Key(Kind kind, Long id) {
+    }
+
+    private record Entry(Key key, String label, String detail, String normalizedLabel, String text, Set<String> words) {
+    }
+
+    private static final Comparator<Hit> BEST_FIRST = Comparator.comparingInt(Hit::rank)
+            .thenComparingInt(hit -> hit.label().length())
+            .thenComparing(Hit::label, String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(Hit::kind)
+            .thenComparing(Hit::id);
+
+    private final Map<Key, Entry> entries = new HashMap<>();
+    private final Map<String, Set<Key>> grams = new HashMap<>();
+    private final NavigableMap<String, Set<Key>> words = new TreeMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Add or replace an entry; {@code detail} (a building's location, a user's email) is searchable
+     * too but does not count towards the label ranks.
+     */
+    public void put(Kind kind, Long id, String label, String detail) {
+        if (label == null || label.isBlank()) {
+            remove(kind, id);
+            return;
+        }
+        Key key = new Key(kind, id);
+        String normalizedLabel = normalize(label);
+        String text = detail == null || detail.isBlank() ? normalizedLabel : normalizedLabel + " | " + normalize(detail);
+        Entry entry = new Entry(key, label, detail, normalizedLabel, text, wordsOf(text));
+        lock.writeLock().lock();
+        try {
+            unlink(entries.put(key, entry));
+            for (String gram : gramsOf(text)) {
+                grams.computeIfAbsent(gram, g -> new HashSet<>()).add(key);
+            }
+            for (String word : entry.words()) {
+                words.computeIfAbsent(word, w -> new HashSet<>()).add(key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Kind kind, Long id) {
+        lock.writeLock().lock();
+        try {
+            unlink(entries.remove(new Key(kind, id)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Best {@code limit} entries of the given kinds whose label or detail contains {@code query}
+     * (for one- and two-character queries: has a word starting with it).
+     */
+    public List<Hit> search(String query, Collection<Kind> kinds, int limit) {
+        String q = normalize(query);
+        if (q.isEmpty() || limit <= 0 || kinds.isEmpty()) {
+            return List.of();
+        }
+        PriorityQueue<Hit> best = new PriorityQueue<>(limit + 1, BEST_FIRST.reversed());
+        lock.readLock().lock();
+        try {
+            for (Key key : candidates(q)) {
+                Entry entry = entries.get(key);
+                if (entry == null || !kinds.contains(key.kind()) || !entry.text().contains(q)) {
+                    continue;
+                }
+                best.add(new Hit(key.kind(), key.id(), entry.label(), entry.detail(), rank(entry, q)));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<Hit> hits = new ArrayList<>(best);
+        hits.sort(BEST_FIRST);
+        return hits;
+    }
+
+    private Collection<Key> candidates(String q) {
+        if (q.length() < GRAM) {
+            Set<Key> keys = new HashSet<>();
+            words.subMap(q, true, q + Character.MAX_VALUE, false).values().forEach(keys::addAll);
+            return keys;
+        }
+        List<Set<Key>> postings = new ArrayList<>();
+        for (String gram : gramsOf(q)) {
+            Set<Key> posting = grams.get(gram);
+            if (posting == null) {
+                return List.of();
+            }
+            postings.add(posting);
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+        Set<Key> keys = new HashSet<>(postings.get(0));
+        for (int i = 1; i < postings.size() && !keys.isEmpty(); i++) {
+            keys.retainAll(postings.get(i));
+        }
+        return keys;
+    }
+
+    private static int rank(Entry entry, String q) {
+        if (entry.normalizedLabel().equals(q)) {
+            return 0;
+        }
+        if (entry.normalizedLabel().startsWith(q)) {
+            return 1;
+        }
+        for (String word : entry.words()) {
+            if (word.startsWith(q)) {
+                return 2;
+            }
+        }
+        return 3;
+    }
+
+    private void unlink(Entry entry) {
+        if (entry == null) {
+            return;
+        }
+        for (String gram : gramsOf(entry.text())) {
+            detach(grams, gram, entry.key());
+        }
+        for (String word : entry.words()) {
+            detach(words, word, entry.key());
+        }
+    }
+
+    private static void detach(Map<String, Set<Key>> postings, String term, Key key) {
+        Set<Key> keys = postings.get(term);
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            postings.remove(term);
+        }
+    }
+
+    static String normalize(String value) {
+        return value == null ? "" : value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> gramsOf(String text) {
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            result.add(text.substring(i, i + GRAM));
+        }
+        return result;
+    }
+
+    private static Set<String> wordsOf(String text) {
+        Set<String> result = new HashSet<>();
+        for (String word : text.split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                result.add(word);
+            }
+        }
+        return result;
+    }
+}
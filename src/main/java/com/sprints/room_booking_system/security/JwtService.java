@@ -1,5 +1,6 @@
 package com.sprints.room_booking_system.security;
 
+import com.sprints.room_booking_system.jfr.JwtVerifyEvent;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -44,12 +45,17 @@ public class JwtService {
     }
 
     public boolean isTokenValid(String token, String username) {
+        JwtVerifyEvent event = new JwtVerifyEvent();
+        event.begin();
+        boolean valid;
         try {
             final String subject = extractUsername(token);
-            return subject.equals(username) && !isTokenExpired(token);
+            valid = subject.equals(username) && !isTokenExpired(token);
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            valid = false;
         }
+        event.complete(valid);
+        return valid;
     }
 
     private boolean isTokenExpired(String token) {
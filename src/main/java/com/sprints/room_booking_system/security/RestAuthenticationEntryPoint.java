@@ -1,6 +1,7 @@
 package com.sprints.room_booking_system.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprints.room_booking_system.logging.TraceIds;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -23,6 +24,7 @@ public class RestAuthenticationEntryPoint implements AuthenticationEntryPoint {
         body.put("error", "Unauthorized");
         body.put("message", authException.getMessage());
         body.put("path", request.getRequestURI());
+        body.put("traceId", TraceIds.current());
         new ObjectMapper().writeValue(response.getOutputStream(), body);
     }
 }
@@ -0,0 +1,63 @@
+package com.sprints.room_booking_system.seed;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Loads a generated semester at startup when the {@code seed} profile is active.
+ * Skips itself when the configured seed has already been loaded into the database.
+ */
+@Slf4j
+@Component
+@Profile("seed")
+public class SeedDataRunner implements CommandLineRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final SeedPlan plan;
+    private final String password;
+
+    public SeedDataRunner(JdbcTemplate jdbcTemplate,
+                          PasswordEncoder passwordEncoder,
+                          @Value("${app.seed.seed:42}") long seed,
+                          @Value("${app.seed.rooms:2000}") int rooms,
+                          @Value("${app.seed.users:50000}") int users,
+                          @Value("${app.seed.bookings:500000}") int bookings,
+                          @Value("${app.seed.history-every-nth-booking:1}") int historyEveryNthBooking,
+                          @Value("${app.seed.reference-time:2026-10-01T12:00}") String referenceTime,
+                          @Value("${app.seed.password:password123}") String password) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.password = password;
+        this.plan = SeedPlan.builder()
+                .seed(seed)
+                .rooms(rooms)
+                .users(users)
+                .bookings(bookings)
+                .historyEveryNthBooking(historyEveryNthBooking)
+                .referenceTime(LocalDateTime.parse(referenceTime))
+                .build();
+    }
+
+    @Override
+    public void run(String... args) {
+        String firstEmail = SemesterDataGenerator.email(plan, 0);
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE email = ?", Integer.class, firstEmail);
+        if (existing != null && existing > 0) {
+            log.info("Seed {} is already loaded ({} exists), skipping", plan.getSeed(), firstEmail);
+            return;
+        }
+        // Encode once: every seeded user shares the password, and BCrypt per row would dominate the load
+        SeedPlan encoded = plan.toBuilder().passwordHash(passwordEncoder.encode(password)).build();
+        SeedSummary summary = new SemesterDataGenerator(jdbcTemplate).generate(encoded);
+        log.info("Seeded users log in as {} .. {} with the configured password",
+                firstEmail, SemesterDataGenerator.email(plan, summary.getUsers() - 1));
+    }
+}
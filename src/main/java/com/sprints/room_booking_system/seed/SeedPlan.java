@@ -0,0 +1,64 @@
+package com.sprints.room_booking_system.seed;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Size and shape of a generated semester. The same plan (including {@link #seed} and
+ * {@link #referenceTime}) always produces the same rows, whenever it is run.
+ */
+@Value
+@Builder(toBuilder = true)
+public class SeedPlan {
+
+    /** Random seed; every distribution is derived from it */
+    @Builder.Default
+    long seed = 42L;
+
+    @Builder.Default
+    int rooms = 2_000;
+
+    @Builder.Default
+    int roomsPerBuilding = 50;
+
+    @Builder.Default
+    int departments = 20;
+
+    @Builder.Default
+    int users = 50_000;
+
+    @Builder.Default
+    int bookings = 500_000;
+
+    /** The "now" of the generated data: bookings ending before it are past, and nothing is created after it */
+    @Builder.Default
+    LocalDateTime referenceTime = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+    /**
+     * First day of the booking calendar; each room gets one booking per day from here on.
+     * Defaults to 90 days before the reference time.
+     */
+    LocalDate calendarStart;
+
+    /** Write history rows for every n-th booking (1 = all bookings) */
+    @Builder.Default
+    int historyEveryNthBooking = 1;
+
+    /** Years of holidays, centred on the calendar start */
+    @Builder.Default
+    int holidayYears = 4;
+
+    /** Stored as-is in users.password, so seeded users can log in when it is a real encoder hash */
+    @Builder.Default
+    String passwordHash = "{noop}seeded";
+
+    @Builder.Default
+    int batchSize = 5_000;
+
+    public LocalDate getCalendarStart() {
+        return calendarStart != null ? calendarStart : referenceTime.toLocalDate().minusDays(90);
+    }
+}
@@ -0,0 +1,52 @@
+package com.sprints.room_booking_system.seed;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * What a {@link SemesterDataGenerator} run inserted. Ids are contiguous per table, starting after the
+ * rows that already existed.
+ */
+@Value
+@Builder
+public class SeedSummary {
+
+    long firstBuildingId;
+    int buildings;
+    long firstFeatureId;
+    long firstRoomId;
+    int rooms;
+    long firstUserId;
+    int users;
+    long firstDepartmentId;
+    int departments;
+    long firstHolidayId;
+    int holidays;
+    long firstBookingId;
+    int bookings;
+    int historyRows;
+    LocalDate calendarStart;
+    long elapsedMillis;
+
+    /** Id of the n-th generated room (0-based, wraps around) */
+    public long roomId(int index) {
+        return firstRoomId + Math.floorMod(index, rooms);
+    }
+
+    /** Id of the n-th generated user (0-based, wraps around) */
+    public long userId(int index) {
+        return firstUserId + Math.floorMod(index, users);
+    }
+
+    /** Id of the n-th generated booking (0-based, wraps around) */
+    public long bookingId(int index) {
+        return firstBookingId + Math.floorMod(index, bookings);
+    }
+
+    /** Number of consecutive calendar days covered by bookings */
+    public int bookingDays() {
+        return rooms == 0 ? 0 : (bookings + rooms - 1) / rooms;
+    }
+}
@@ -0,0 +1,375 @@
+package com.sprints.room_booking_system.seed;
+
+import com.sprints.room_booking_system.model.BookingStatus;
+import com.sprints.room_booking_system.model.IdGenerators;
+import com.sprints.room_booking_system.model.UserRole;
+import com.sprints.room_booking_system.repository.IdBlockAllocator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Generates a realistic semester (buildings, featured rooms, departments, users by role, holidays,
+ * bookings with a status mix and their history) with plain JDBC batches.
+ * <p>
+ * Output is a pure function of the {@link SeedPlan}: the same plan yields the same rows, offset by
+ * the ids already present. Statuses and timestamps are relative to the plan's reference time, never
+ * to the clock. Each room gets at most one booking per calendar day, so generated
+ * bookings never overlap each other. Works against MySQL and H2; usable from tests with any
+ * {@link JdbcTemplate} on the application schema.
+ */
+@Slf4j
+public class SemesterDataGenerator {
+
+    private static final String[] BUILDING_NAMES = {
+            "Science Hall", "Engineering Building", "Humanities Center", "Library", "Business School",
+            "Arts Center", "Medical Sciences", "Law Building"
+    };
+    private static final String[] FEATURE_NAMES = {
+            "Projector", "Whiteboard", "Smart Board", "Video Conferencing",
+            "Lab Computers", "Wheelchair Access", "Audio System", "Air Conditioning"
+    };
+    /** Probability that a room has the feature at the same index */
+    private static final double[] FEATURE_PROBABILITIES = {0.85, 0.9, 0.3, 0.2, 0.1, 0.6, 0.4, 0.7};
+    private static final String[] DEPARTMENT_NAMES = {
+            "Computer Science", "Mathematics", "Physics", "Chemistry", "Biology", "History", "Literature",
+            "Economics", "Business Administration", "Law", "Medicine", "Architecture", "Philosophy",
+            "Psychology", "Civil Engineering", "Electrical Engineering", "Mechanical Engineering",
+            "Music", "Fine Arts", "Languages"
+    };
+    private static final String[] FIRST_NAMES = {
+            "Amina", "Omar", "Lina", "Youssef", "Sara", "Karim", "Nour", "Ali", "Maya", "Hassan",
+            "Emma", "Liam", "Olivia", "Noah", "Ava", "Lucas", "Mia", "Ethan", "Zara", "Adam"
+    };
+    private static final String[] LAST_NAMES = {
+            "Hassan", "Ibrahim", "Mahmoud", "Saleh", "Farouk", "Nasser", "Khalil", "Haddad",
+            "Smith", "Johnson", "Brown", "Garcia", "Miller", "Davis", "Wilson", "Moore"
+    };
+    private static final String[] PURPOSES = {
+            "Lecture", "Tutorial", "Lab session", "Study group", "Thesis defense", "Club meeting",
+            "Office hours", "Seminar", "Exam review", "Workshop"
+    };
+    private static final int FIRST_HOUR = 8;
+    private static final int BOOKABLE_HOURS = 11;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdBlockAllocator idBlockAllocator;
+
+    public SemesterDataGenerator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idBlockAllocator = new IdBlockAllocator(jdbcTemplate.getDataSource());
+    }
+
+    public SeedSummary generate(SeedPlan plan) {
+        long started = System.nanoTime();
+        Random random = new Random(plan.getSeed());
+        LocalDateTime now = plan.getReferenceTime();
+
+        int buildings = (plan.getRooms() + plan.getRoomsPerBuilding() - 1) / plan.getRoomsPerBuilding();
+        long buildingBase = maxId("buildings");
+        List<Object[]> buildingRows = new ArrayList<>(buildings);
+        for (int b = 0; b < buildings; b++) {
+            buildingRows.add(new Object[]{buildingBase + b + 1,
+                    BUILDING_NAMES[b % BUILDING_NAMES.length] + " " + (b / BUILDING_NAMES.length + 1),
+                    "Campus " + (char) ('A' + b % 4)});
+        }
+        batch(plan, "INSERT INTO buildings (id, name, location) VALUES (?, ?, ?)", buildingRows);
+
+        long featureBase = maxId("room_features");
+        List<Object[]> featureRows = new ArrayList<>(FEATURE_NAMES.length);
+        for (int f = 0; f < FEATURE_NAMES.length; f++) {
+            featureRows.add(new Object[]{featureBase + f + 1, FEATURE_NAMES[f]});
+        }
+        batch(plan, "INSERT INTO room_features (id, name) VALUES (?, ?)", featureRows);
+
+        long departmentBase = maxId("departments");
+        List<Object[]> departmentRows = new ArrayList<>(plan.getDepartments());
+        for (int d = 0; d < plan.getDepartments(); d++) {
+            String name = DEPARTMENT_NAMES[d % DEPARTMENT_NAMES.length];
+            departmentRows.add(new Object[]{departmentBase + d + 1,
+                    d < DEPARTMENT_NAMES.length ? name : name + " " + (d / DEPARTMENT_NAMES.length + 1)});
+        }
+        batch(plan, "INSERT INTO departments (id, name) VALUES (?, ?)", departmentRows);
+
+        long roomBase = insertRooms(plan, random, buildingBase, featureBase);
+        UserIds userIds = insertUsers(plan, random, departmentBase);
+        long holidayBase = maxId("holidays");
+        int holidays = insertHolidays(plan, holidayBase);
+        BookingCounts bookingCounts = insertBookings(plan, random, roomBase, userIds, now);
+
+        restartIdentities();
+        SeedSummary summary = SeedSummary.builder()
+                .firstBuildingId(buildingBase + 1)
+                .buildings(buildings)
+                .firstFeatureId(featureBase + 1)
+                .firstRoomId(roomBase + 1)
+                .rooms(plan.getRooms())
+                .firstUserId(userIds.base() + 1)
+                .users(plan.getUsers())
+                .firstDepartmentId(departmentBase + 1)
+                .departments(plan.getDepartments())
+                .firstHolidayId(holidayBase + 1)
+                .holidays(holidays)
+                .firstBookingId(bookingCounts.base() + 1)
+                .bookings(plan.getBookings())
+                .historyRows(bookingCounts.historyRows())
+                .calendarStart(plan.getCalendarStart())
+                .elapsedMillis((System.nanoTime() - started) / 1_000_000)
+                .build();
+        log.info("Seeded {} rooms, {} users, {} bookings and {} history rows in {} ms",
+                summary.getRooms(), summary.getUsers(), summary.getBookings(), summary.getHistoryRows(),
+                summary.getElapsedMillis());
+        return summary;
+    }
+
+    private long insertRooms(SeedPlan plan, Random random, long buildingBase, long featureBase) {
+        long base = maxId("rooms");
+        List<Object[]> rooms = new ArrayList<>(plan.getBatchSize());
+        List<Object[]> roomFeatures = new ArrayList<>(plan.getBatchSize());
+        for (int r = 0; r < plan.getRooms(); r++) {
+            long id = base + r + 1;
+            int building = r / plan.getRoomsPerBuilding();
+            int floor = random.nextInt(6);
+            double size = random.nextDouble();
+            // Mostly seminar rooms and classrooms, a few lecture halls
+            int capacity = size < 0.6 ? 15 + random.nextInt(26)
+                    : size < 0.9 ? 40 + random.nextInt(41)
+                    : 100 + random.nextInt(101);
+            rooms.add(new Object[]{id, "B" + (building + 1) + "-" + floor + String.format("%02d", r % plan.getRoomsPerBuilding()),
+                    capacity, floor, buildingBase + building + 1, random.nextDouble() < 0.97});
+            for (int f = 0; f < FEATURE_PROBABILITIES.length; f++) {
+                if (random.nextDouble() < FEATURE_PROBABILITIES[f]) {
+                    roomFeatures.add(new Object[]{id, featureBase + f + 1});
+                }
+            }
+            if (rooms.size() == plan.getBatchSize()) {
+                flushRooms(plan, rooms, roomFeatures);
+            }
+        }
+        flushRooms(plan, rooms, roomFeatures);
+        return base;
+    }
+
+    private void flushRooms(SeedPlan plan, List<Object[]> rooms, List<Object[]> roomFeatures) {
+        batch(plan, "INSERT INTO rooms (id, name, capacity, floor_number, building_id, is_active, version) VALUES (?, ?, ?, ?, ?, ?, 0)",
+                rooms);
+        batch(plan, "INSERT INTO room_room_feature (room_id, feature_id) VALUES (?, ?)", roomFeatures);
+        rooms.clear();
+        roomFeatures.clear();
+    }
+
+    private UserIds insertUsers(SeedPlan plan, Random random, long departmentBase) {
+        long base = idBlockAllocator.reserve(IdGenerators.USERS, plan.getUsers()) - 1;
+        List<Long> approvers = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>(plan.getBatchSize());
+        for (int u = 0; u < plan.getUsers(); u++) {
+            long id = base + u + 1;
+            double pick = random.nextDouble();
+            UserRole role = pick < 0.85 ? UserRole.STUDENT : pick < 0.98 ? UserRole.FACULTY : UserRole.ADMIN;
+            if (role == UserRole.ADMIN) {
+                approvers.add(id);
+            }
+            String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            Long department = plan.getDepartments() == 0 || random.nextDouble() < 0.05
+                    ? null
+                    : departmentBase + random.nextInt(plan.getDepartments()) + 1;
+            rows.add(new Object[]{id, first + " " + last, email(plan, u), plan.getPasswordHash(), role.name(),
+                    department, true});
+            if (rows.size() == plan.getBatchSize()) {
+                flushUsers(plan, rows);
+            }
+        }
+        flushUsers(plan, rows);
+        return new UserIds(base, approvers);
+    }
+
+    private void flushUsers(SeedPlan plan, List<Object[]> rows) {
+        batch(plan, "INSERT INTO users (id, name, email, password, role, department_id, is_active) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                rows);
+        rows.clear();
+    }
+
+    /** Email of the n-th user generated for a plan; unique per seed */
+    public static String email(SeedPlan plan, int index) {
+        return "seed" + plan.getSeed() + ".user" + (index + 1) + "@university.edu";
+    }
+
+    private int insertHolidays(SeedPlan plan, long base) {
+        List<Object[]> rows = new ArrayList<>();
+        int firstYear = plan.getCalendarStart().getYear() - plan.getHolidayYears() / 2;
+        // holidays.date is unique; dates that already have a holiday are kept as they are
+        Set<LocalDate> existing = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT date FROM holidays WHERE date >= ? AND date < ?", LocalDate.class,
+                Date.valueOf(LocalDate.of(firstYear, 1, 1)),
+                Date.valueOf(LocalDate.of(firstYear + plan.getHolidayYears(), 1, 1))));
+        for (int year = firstYear; year < firstYear + plan.getHolidayYears(); year++) {
+            addHoliday(rows, existing, base, "New Year's Day", LocalDate.of(year, 1, 1), "Public holiday");
+            LocalDate springBreak = LocalDate.of(year, 3, 1).with(TemporalAdjusters.dayOfWeekInMonth(3, DayOfWeek.MONDAY));
+            for (int day = 0; day < 5; day++) {
+                addHoliday(rows, existing, base, "Spring Break", springBreak.plusDays(day), "Semester break");
+            }
+            addHoliday(rows, existing, base, "Labour Day", LocalDate.of(year, 5, 1), "Public holiday");
+            addHoliday(rows, existing, base, "Independence Day", LocalDate.of(year, 7, 4), "Public holiday");
+            addHoliday(rows, existing, base, "Thanksgiving",
+                    LocalDate.of(year, 11, 1).with(TemporalAdjusters.dayOfWeekInMonth(4, DayOfWeek.THURSDAY)), "Public holiday");
+            for (int day = 24; day <= 31; day++) {
+                addHoliday(rows, existing, base, "Winter Break", LocalDate.of(year, 12, day), "Semester break");
+            }
+        }
+        batch(plan, "INSERT INTO holidays (id, name, date, description) VALUES (?, ?, ?, ?)", rows);
+        return rows.size();
+    }
+
+    private static void addHoliday(List<Object[]> rows, Set<LocalDate> existing, long base, String name,
+                                   LocalDate date, String description) {
+        if (existing.contains(date)) {
+            return;
+        }
+        rows.add(new Object[]{base + rows.size() + 1, name, Date.valueOf(date), description});
+    }
+
+    private BookingCounts insertBookings(SeedPlan plan, Random random, long roomBase, UserIds users, LocalDateTime now) {
+        long base = idBlockAllocator.reserve(IdGenerators.BOOKINGS, plan.getBookings()) - 1;
+        String bookingSql = "INSERT INTO bookings (id, room_id, user_id, start_time, end_time, status, purpose, created_at, version) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)";
+        String historySql = "INSERT INTO booking_history (id, booking_id, user_id, action, action_time, reason) "
+                + "VALUES (?, ?, ?, ?, ?, ?)";
+        List<Object[]> bookings = new ArrayList<>(plan.getBatchSize());
+        List<Object[]> history = new ArrayList<>(plan.getBatchSize());
+        int historyRows = 0;
+        for (int b = 0; b < plan.getBookings(); b++) {
+            long id = base + b + 1;
+            int room = b % plan.getRooms();
+            int day = b / plan.getRooms();
+            int hour = FIRST_HOUR + (room * 7 + day * 3) % BOOKABLE_HOURS;
+            LocalDateTime start = plan.getCalendarStart().plusDays(day).atTime(hour, 0);
+            LocalDateTime end = start.plusHours(1 + random.nextInt(2));
+            long user = users.base() + random.nextInt(plan.getUsers()) + 1;
+            BookingStatus status = status(random, end.isBefore(now));
+            LocalDateTime createdAt = start.minusDays(1 + random.nextInt(21)).minusMinutes(random.nextInt(600));
+            // Every booking takes the same number of draws, whichever branches it ends up in, so one
+            // booking's status cannot shift the random values of the bookings after it
+            int fallbackMinutes = random.nextInt(600) + 1;
+            int approverPick = random.nextInt(Math.max(1, users.approvers().size()));
+            int decisionHours = 1 + random.nextInt(48);
+            if (createdAt.isAfter(now)) {
+                createdAt = now.minusMinutes(fallbackMinutes);
+            }
+            bookings.add(new Object[]{id, roomBase + room + 1, user, Timestamp.valueOf(start), Timestamp.valueOf(end),
+                    status.name(), PURPOSES[random.nextInt(PURPOSES.length)], Timestamp.valueOf(createdAt)});
+
+            if ((b + 1) % plan.getHistoryEveryNthBooking() == 0) {
+                history.add(new Object[]{id, user, "CREATED", Timestamp.valueOf(createdAt), "Booking created"});
+                if (status != BookingStatus.PENDING) {
+                    long actor = status == BookingStatus.CANCELLED || users.approvers().isEmpty()
+                            ? user
+                            : users.approvers().get(approverPick);
+                    LocalDateTime decidedAt = createdAt.plusHours(decisionHours);
+                    history.add(new Object[]{id, actor, status.name(),
+                            Timestamp.valueOf(decidedAt.isAfter(now) ? now : decidedAt),
+                            decisionReason(status)});
+                }
+            }
+            if (bookings.size() == plan.getBatchSize()) {
+                historyRows += history.size();
+                batch(plan, bookingSql, bookings);
+                batch(plan, historySql, withHistoryIds(history));
+                bookings.clear();
+                history.clear();
+            }
+        }
+        historyRows += history.size();
+        batch(plan, bookingSql, bookings);
+        batch(plan, historySql, withHistoryIds(history));
+        return new BookingCounts(base, historyRows);
+    }
+
+    /** History rows with ids reserved from the generator the application uses, prepended */
+    private List<Object[]> withHistoryIds(List<Object[]> history) {
+        if (history.isEmpty()) {
+            return history;
+        }
+        long id = idBlockAllocator.reserve(IdGenerators.BOOKING_HISTORY, history.size());
+        List<Object[]> rows = new ArrayList<>(history.size());
+        for (Object[] row : history) {
+            Object[] withId = new Object[row.length + 1];
+            withId[0] = id++;
+            System.arraycopy(row, 0, withId, 1, row.length);
+            rows.add(withId);
+        }
+        return rows;
+    }
+
+    /** The history reason the booking service writes for a decision */
+    private static String decisionReason(BookingStatus status) {
+        return switch (status) {
+            case APPROVED -> "Booking approved by admin";
+            case REJECTED -> "Booking rejected: Room needed for a scheduled course";
+            case CANCELLED -> "Booking cancelled by user";
+            case EXPIRED -> "Pending booking expired without a decision";
+            case COMPLETED -> "Booking ended";
+            case PENDING -> "Booking created";
+        };
+    }
+
+    /** Past bookings are mostly approved; upcoming ones still have many pending requests */
+    private static BookingStatus status(Random random, boolean past) {
+        int pick = random.nextInt(100);
+        if (past) {
+            return pick < 70 ? BookingStatus.APPROVED
+                    : pick < 82 ? BookingStatus.CANCELLED
+                    : pick < 92 ? BookingStatus.REJECTED
+                    : BookingStatus.PENDING;
+        }
+        return pick < 40 ? BookingStatus.PENDING
+                : pick < 85 ? BookingStatus.APPROVED
+                : pick < 95 ? BookingStatus.CANCELLED
+                : BookingStatus.REJECTED;
+    }
+
+    private void batch(SeedPlan plan, String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += plan.getBatchSize()) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + plan.getBatchSize())));
+        }
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return max == null ? 0 : max;
+    }
+
+    /**
+     * MySQL moves AUTO_INCREMENT past explicit ids by itself; H2 identity columns have to be told,
+     * otherwise the next JPA insert collides with a generated row. Users, bookings and history take
+     * their ids from {@code id_generator} instead and need nothing here.
+     */
+    private void restartIdentities() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (!"H2".equals(product)) {
+            return;
+        }
+        for (String table : List.of("buildings", "room_features", "departments", "rooms", "holidays")) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (maxId(table) + 1));
+        }
+    }
+
+    private record UserIds(long base, List<Long> approvers) {
+    }
+
+    private record BookingCounts(long base, int historyRows) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.sprints.room_booking_system.service;
+
+import com.sprints.room_booking_system.model.BookingHistory;
+
+import java.util.List;
+
+public interface BookingHistoryWriter {
+
+    /**
+     * Record a history entry for the booking change in the current transaction
+     */
+    void write(BookingHistory history);
+
+    /**
+     * Record several history entries for the booking changes in the current transaction
+     */
+    void writeAll(List<BookingHistory> history);
+}
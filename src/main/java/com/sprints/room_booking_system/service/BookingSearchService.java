@@ -0,0 +1,16 @@
+package com.sprints.room_booking_system.service;
+
+import com.sprints.room_booking_system.dto.BookingDto;
+import com.sprints.room_booking_system.dto.BookingHistoryDto;
+import com.sprints.room_booking_system.dto.BookingSearchDto;
+
+import java.util.List;
+
+public interface BookingSearchService {
+    /** Bookings whose purpose matches, best match first (newest first without text) */
+    List<BookingDto> searchBookings(BookingSearchDto search);
+    /** History entries whose reason matches, best match first (newest first without text) */
+    List<BookingHistoryDto> searchHistory(BookingSearchDto search);
+    /** Reload the index in bulk from the database; returns the number of bookings indexed */
+    int rebuild();
+}
@@ -1,6 +1,8 @@
 package com.sprints.room_booking_system.service;
 
+import com.sprints.room_booking_system.dto.BookingDecisionResultDto;
 import com.sprints.room_booking_system.dto.BookingDto;
+import com.sprints.room_booking_system.dto.BulkBookingDecisionDto;
 import com.sprints.room_booking_system.model.Booking;
 import com.sprints.room_booking_system.model.BookingStatus;
 
@@ -35,16 +37,31 @@ public interface BookingService {
      */
     List<BookingDto> findBookingsByUser(Long userId);
     
+    /**
+     * Find bookings by user, optionally including archived ones
+     */
+    List<BookingDto> findBookingsByUser(Long userId, boolean includeArchived);
+    
     /**
      * Find bookings by room
      */
     List<BookingDto> findBookingsByRoom(Long roomId);
     
+    /**
+     * Find bookings by room, optionally including archived ones
+     */
+    List<BookingDto> findBookingsByRoom(Long roomId, boolean includeArchived);
+    
     /**
      * Find bookings by status
      */
     List<BookingDto> findBookingsByStatus(BookingStatus status);
     
+    /**
+     * Find bookings by status, optionally including archived ones
+     */
+    List<BookingDto> findBookingsByStatus(BookingStatus status, boolean includeArchived);
+    
     /**
      * Find bookings by date range
      */
@@ -60,6 +77,11 @@ public interface BookingService {
      */
     BookingDto rejectBooking(Long bookingId, Long adminUserId, String reason);
     
+    /**
+     * Approve or reject many bookings at once (Admin only), returning one outcome per requested ID
+     */
+    List<BookingDecisionResultDto> decideBookings(BulkBookingDecisionDto request, Long adminUserId);
+    
     /**
      * Cancel a booking (User can cancel their own, Admin can cancel any)
      */
@@ -71,7 +93,7 @@ public interface BookingService {
     boolean isRoomAvailable(Long roomId, LocalDateTime startTime, LocalDateTime endTime);
     
     /**
-     * Get booking history for a specific booking
+     * Get booking history for a specific booking, read from the archive once the booking was archived
      */
     List<Object> getBookingHistory(Long bookingId);
 }
@@ -1,6 +1,9 @@
 package com.sprints.room_booking_system.service;
 
+import com.sprints.room_booking_system.dto.RoomAvailabilityResultDto;
 import com.sprints.room_booking_system.dto.RoomDto;
+import com.sprints.room_booking_system.dto.RoomFacetedSearchResultDto;
+import com.sprints.room_booking_system.dto.RoomSearchDto;
 import com.sprints.room_booking_system.model.Room;
 
 import java.time.LocalDateTime;
@@ -54,6 +57,23 @@ public interface RoomService {
      */
     List<RoomDto> findAvailableRoomsWithFeatures(LocalDateTime startTime, LocalDateTime endTime, List<Long> featureIds);
     
+    /**
+     * Find available rooms matching ALL/ANY/NONE feature, building and capacity filters
+     */
+    List<RoomDto> searchAvailableRooms(RoomSearchDto search);
+    
+    /**
+     * Find up to {@code limit} available rooms matching the filters, with feature, building and
+     * capacity counts over all matching rooms
+     */
+    RoomFacetedSearchResultDto searchAvailableRoomsWithFacets(RoomSearchDto search, int limit);
+    
+    /**
+     * Find up to {@code limit} available rooms anywhere on campus, searching buildings concurrently
+     * within {@code app.rooms.search.timeout}
+     */
+    RoomAvailabilityResultDto findAnyAvailableRooms(LocalDateTime startTime, LocalDateTime endTime, int limit);
+    
     /**
      * Deactivate room
      */
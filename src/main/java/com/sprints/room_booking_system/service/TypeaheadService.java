@@ -0,0 +1,14 @@
+package com.sprints.room_booking_system.service;
+
+import com.sprints.room_booking_system.dto.TypeaheadResultDto;
+import com.sprints.room_booking_system.search.SearchIndexer;
+import com.sprints.room_booking_system.search.TypeaheadIndex;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TypeaheadService extends SearchIndexer {
+    List<TypeaheadResultDto> search(String query, Collection<TypeaheadIndex.Kind> types, int limit);
+    /** Reload the index from the database; returns the number of entries */
+    int rebuild();
+}
@@ -0,0 +1,79 @@
+package com.sprints.room_booking_system.service.impl;
+
+import com.sprints.room_booking_system.metrics.BookingMetrics;
+import com.sprints.room_booking_system.repository.BookingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves finished bookings (completed, cancelled, rejected or expired) that ended more than
+ * {@code app.bookings.archive.retention} ago into {@code bookings_archive}, with their history.
+ * <p>
+ * Works through the backlog in chunks of {@code app.bookings.archive.chunk-size}, one short
+ * transaction each, so row locks are held briefly and an interrupted run simply resumes next time.
+ * The hot {@code bookings} table keeps only what conflict checks and current listings need.
+ */
+@Slf4j
+@Component
+public class BookingArchiver {
+
+    private final BookingRepository bookingRepository;
+    private final BookingMetrics bookingMetrics;
+    private final TransactionTemplate transaction;
+    private final Duration retention;
+    private final int chunkSize;
+
+    public BookingArchiver(BookingRepository bookingRepository,
+                           BookingMetrics bookingMetrics,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${app.bookings.archive.retention:180d}") Duration retention,
+                           @Value("${app.bookings.archive.chunk-size:1000}") int chunkSize) {
+        this.bookingRepository = bookingRepository;
+        this.bookingMetrics = bookingMetrics;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.retention = retention;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${app.bookings.archive.cron:0 30 3 * * *}")
+    public void archive() {
+        archiveEndedBefore(LocalDateTime.now().minus(retention));
+    }
+
+    /**
+     * Archive every finished booking that ended before {@code cutoff}; returns the number moved.
+     */
+    public int archiveEndedBefore(LocalDateTime cutoff) {
+        long started = System.nanoTime();
+        int total = 0;
+        int moved;
+        do {
+            moved = archiveChunk(cutoff);
+            total += moved;
+        } while (moved > 0);
+        if (total > 0) {
+            log.info("Archived {} bookings that ended before {} in {} ms",
+                    total, cutoff, Duration.ofNanos(System.nanoTime() - started).toMillis());
+        }
+        return total;
+    }
+
+    private int archiveChunk(LocalDateTime cutoff) {
+        Integer moved = transaction.execute(status -> {
+            List<Long> ids = bookingRepository.findArchivableIds(cutoff, PageRequest.of(0, chunkSize));
+            return bookingRepository.moveToArchive(ids, LocalDateTime.now());
+        });
+        int archived = moved == null ? 0 : moved;
+        bookingMetrics.archived(archived);
+        return archived;
+    }
+}
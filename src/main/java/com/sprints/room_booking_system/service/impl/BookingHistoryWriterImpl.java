@@ -0,0 +1,224 @@
+package com.sprints.room_booking_system.service.impl;
+
+import com.sprints.room_booking_system.model.BookingHistory;
+import com.sprints.room_booking_system.repository.BookingHistoryRepository;
+import com.sprints.room_booking_system.service.BookingHistoryWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes booking history either inline ({@code sync}) or through a bounded queue drained by a
+ * single writer thread in JDBC batches ({@code async}, the default).
+ * <p>
+ * In async mode entries are queued only after the booking transaction commits, and are flushed
+ * once {@code batch-size} entries are waiting or {@code flush-interval} has passed since the
+ * first one. A full queue falls back to writing on the caller's thread in a transaction of its
+ * own, so nothing is dropped under load. On shutdown the queue is drained after the web server has stopped taking requests;
+ * entries that are still queued when the process dies are lost, which is the trade-off the
+ * sync mode avoids.
+ */
+@Slf4j
+@Service
+public class BookingHistoryWriterImpl implements BookingHistoryWriter, SmartLifecycle {
+
+    public enum Durability {
+        SYNC,
+        ASYNC
+    }
+
+    /** Stop after the web server (graceful shutdown runs at DEFAULT_PHASE - 1024) */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final BookingHistoryRepository bookingHistoryRepository;
+    private final TransactionTemplate transaction;
+    private final Durability durability;
+    private final BlockingQueue<BookingHistory> queue;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Duration shutdownTimeout;
+    private final Counter overflows;
+    private final Counter failures;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public BookingHistoryWriterImpl(BookingHistoryRepository bookingHistoryRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry registry,
+                                    @Value("${app.bookings.history.durability:async}") Durability durability,
+                                    @Value("${app.bookings.history.queue-capacity:10000}") int queueCapacity,
+                                    @Value("${app.bookings.history.batch-size:500}") int batchSize,
+                                    @Value("${app.bookings.history.flush-interval:200ms}") Duration flushInterval,
+                                    @Value("${app.bookings.history.shutdown-timeout:10s}") Duration shutdownTimeout) {
+        this.bookingHistoryRepository = bookingHistoryRepository;
+        // The overflow fallback runs in afterCommit, where REQUIRED would join the finished transaction
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.durability = durability;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.shutdownTimeout = shutdownTimeout;
+        Gauge.builder("booking.history.queue.size", queue, BlockingQueue::size)
+                .description("History entries waiting for the background writer")
+                .register(registry);
+        this.overflows = Counter.builder("booking.history.queue.overflows")
+                .description("History entries written on the request thread because the queue was full")
+                .register(registry);
+        this.failures = Counter.builder("booking.history.write.failures")
+                .description("History entries the background writer could not insert")
+                .register(registry);
+    }
+
+    @Override
+    public void write(BookingHistory history) {
+        if (durability == Durability.SYNC) {
+            bookingHistoryRepository.save(history);
+            return;
+        }
+        afterCommit(List.of(history));
+    }
+
+    @Override
+    public void writeAll(List<BookingHistory> history) {
+        if (history.isEmpty()) {
+            return;
+        }
+        if (durability == Durability.SYNC) {
+            bookingHistoryRepository.insertAll(history);
+            return;
+        }
+        afterCommit(history);
+    }
+
+    private void afterCommit(List<BookingHistory> history) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(history);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(history);
+            }
+        });
+    }
+
+    private void enqueue(List<BookingHistory> history) {
+        List<BookingHistory> rejected = new ArrayList<>();
+        for (BookingHistory entry : history) {
+            if (!running || !queue.offer(entry)) {
+                rejected.add(entry);
+            }
+        }
+        if (!rejected.isEmpty()) {
+            if (running) {
+                overflows.increment(rejected.size());
+            }
+            flush(rejected);
+        }
+    }
+
+    private void drainLoop() {
+        List<BookingHistory> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                BookingHistory first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushInterval.toNanos();
+                while (batch.size() < batchSize && running) {
+                    BookingHistory next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                queue.drainTo(batch, batchSize - batch.size());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                queue.drainTo(batch);
+                running = false;
+            }
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(List<BookingHistory> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            transaction.executeWithoutResult(status -> bookingHistoryRepository.insertAll(batch));
+        } catch (DataAccessException e) {
+            log.warn("History batch of {} failed, retrying entries one by one: {}", batch.size(), e.getMessage());
+            for (BookingHistory entry : batch) {
+                try {
+                    transaction.executeWithoutResult(status -> bookingHistoryRepository.insertAll(List.of(entry)));
+                } catch (DataAccessException single) {
+                    failures.increment();
+                    log.error("Dropping {} history for booking {}: {}", entry.getAction(),
+                            entry.getBooking().getId(), single.getMessage());
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running || durability == Durability.SYNC) {
+            return;
+        }
+        running = true;
+        writer = Thread.ofPlatform().name("booking-history-writer").daemon().start(this::drainLoop);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        try {
+            writer.join(shutdownTimeout.toMillis());
+            if (writer.isAlive()) {
+                log.warn("History writer did not drain within {}, {} entries left", shutdownTimeout, queue.size());
+                writer.interrupt();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
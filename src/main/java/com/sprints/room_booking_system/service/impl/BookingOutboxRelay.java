@@ -0,0 +1,159 @@
+package com.sprints.room_booking_system.service.impl;
+
+import com.sprints.room_booking_system.event.BookingLifecycleEvent;
+import com.sprints.room_booking_system.metrics.OutboxMetrics;
+import com.sprints.room_booking_system.model.BookingOutboxEvent;
+import com.sprints.room_booking_system.repository.BookingOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drains the booking outbox in id order and publishes each row as a {@link BookingLifecycleEvent}.
+ * <p>
+ * Every batch runs in its own transaction: events are marked published only once their listeners
+ * returned, so a crash redelivers them (at least once). A failing listener stops the batch to keep
+ * per-booking order; the event is retried on the next run and parked after
+ * {@code app.outbox.relay.max-attempts}.
+ * <p>
+ * Delivered events are deleted once older than {@code app.outbox.retention}, in chunks, on the
+ * archiver's schedule by default, so the table only holds recent and undelivered events.
+ */
+@Slf4j
+@Component
+public class BookingOutboxRelay {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final BookingOutboxRepository outboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxMetrics outboxMetrics;
+    private final TransactionTemplate transaction;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retention;
+    private final int purgeChunkSize;
+
+    public BookingOutboxRelay(BookingOutboxRepository outboxRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              OutboxMetrics outboxMetrics,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.outbox.relay.batch-size:200}") int batchSize,
+                              @Value("${app.outbox.relay.max-attempts:10}") int maxAttempts,
+                              @Value("${app.outbox.retention:7d}") Duration retention,
+                              @Value("${app.outbox.purge-chunk-size:1000}") int purgeChunkSize) {
+        this.outboxRepository = outboxRepository;
+        this.eventPublisher = eventPublisher;
+        this.outboxMetrics = outboxMetrics;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retention = retention;
+        this.purgeChunkSize = purgeChunkSize;
+    }
+
+    /**
+     * Deliver batches until the outbox is empty or a listener fails, then refresh the lag gauges.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.relay.interval:500ms}",
+            initialDelayString = "${app.outbox.relay.interval:500ms}")
+    public void relay() {
+        int delivered;
+        do {
+            delivered = deliverBatch();
+        } while (delivered == batchSize);
+
+        LocalDateTime oldest = outboxRepository.findOldestUndeliveredCreatedAt(maxAttempts);
+        outboxMetrics.pending(outboxRepository.countUndelivered(maxAttempts),
+                oldest == null ? Duration.ZERO : Duration.between(oldest, LocalDateTime.now()));
+    }
+
+    /**
+     * Deliver one batch; returns the number of events published.
+     */
+    public int deliverBatch() {
+        Integer delivered = transaction.execute(status -> {
+            List<BookingOutboxEvent> batch = outboxRepository.findUndelivered(maxAttempts, PageRequest.of(0, batchSize));
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> published = new ArrayList<>(batch.size());
+            for (BookingOutboxEvent event : batch) {
+                try {
+                    eventPublisher.publishEvent(toEvent(event));
+                } catch (RuntimeException e) {
+                    recordFailure(event, e);
+                    break;
+                }
+                published.add(event.getId());
+                outboxMetrics.delivered(Duration.between(event.getCreatedAt(), now));
+            }
+            if (!published.isEmpty()) {
+                outboxRepository.markPublished(published, now);
+            }
+            return published.size();
+        });
+        return delivered == null ? 0 : delivered;
+    }
+
+    @Scheduled(cron = "${app.outbox.purge-cron:${app.bookings.archive.cron:0 30 3 * * *}}")
+    public void purge() {
+        purgePublishedBefore(LocalDateTime.now().minus(retention));
+    }
+
+    /**
+     * Delete every event delivered before {@code cutoff}, one short transaction per chunk; returns the
+     * number deleted. Undelivered and parked events are kept.
+     */
+    public int purgePublishedBefore(LocalDateTime cutoff) {
+        int total = 0;
+        int deleted;
+        do {
+            Integer chunk = transaction.execute(status -> {
+                List<Long> ids = outboxRepository.findPublishedIdsBefore(cutoff, PageRequest.of(0, purgeChunkSize));
+                return ids.isEmpty() ? 0 : outboxRepository.deleteByIdIn(ids);
+            });
+            deleted = chunk == null ? 0 : chunk;
+            total += deleted;
+        } while (deleted > 0);
+        if (total > 0) {
+            log.info("Purged {} booking events delivered before {}", total, cutoff);
+        }
+        return total;
+    }
+
+    private void recordFailure(BookingOutboxEvent event, RuntimeException failure) {
+        outboxMetrics.deliveryFailure();
+        event.setAttempts(event.getAttempts() + 1);
+        String message = String.valueOf(failure.getMessage());
+        event.setLastError(message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+        if (event.getAttempts() >= maxAttempts) {
+            log.error("Parking booking event {} ({} for booking {}) after {} failed deliveries",
+                    event.getId(), event.getEventType(), event.getBookingId(), event.getAttempts(), failure);
+        } else {
+            log.warn("Delivery of booking event {} failed (attempt {}), retrying on the next run: {}",
+                    event.getId(), event.getAttempts(), message);
+        }
+    }
+
+    private static BookingLifecycleEvent toEvent(BookingOutboxEvent event) {
+        return new BookingLifecycleEvent(
+                event.getId(),
+                event.getEventType(),
+                event.getBookingId(),
+                event.getRoomId(),
+                event.getUserId(),
+                event.getActorUserId(),
+                event.getStartTime(),
+                event.getEndTime(),
+                event.getCreatedAt());
+    }
+}
@@ -0,0 +1,178 @@
+package com.sprints.room_booking_system.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the monthly {@code start_time} range partitions of {@code bookings} (MySQL, see changelog 008)
+ * ahead of the calendar and drops old ones.
+ * <p>
+ * Changelog 008 gives every month from the earliest booking up to {@code months-ahead} past the
+ * migration date its own partition (see {@link #initialMonths}), so no catch-all holds past data.
+ * <p>
+ * Partitions for the next {@code app.bookings.partitions.months-ahead} months are split off the
+ * {@code p_future} catch-all, which stays (nearly) empty so the split is cheap. A partition whose
+ * range ended more than {@code app.bookings.partitions.drop-after} ago is dropped once
+ * {@link BookingArchiver} has emptied it; partitions that still hold rows are left for a later run.
+ */
+@Slf4j
+@Component
+public class BookingPartitionMaintainer {
+
+    public static final String FUTURE_PARTITION = "p_future";
+
+    private static final DateTimeFormatter MONTH_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    /** A range partition; {@code upperBound} is exclusive and null for MAXVALUE */
+    public record Partition(String name, LocalDate upperBound) {
+    }
+
+    public record Plan(List<YearMonth> add, List<String> drop) {
+
+        public boolean isEmpty() {
+            return add.isEmpty() && drop.isEmpty();
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final Duration dropAfter;
+
+    public BookingPartitionMaintainer(JdbcTemplate jdbcTemplate,
+                                      @Value("${app.bookings.partitions.enabled:false}") boolean enabled,
+                                      @Value("${app.bookings.partitions.months-ahead:3}") int monthsAhead,
+                                      @Value("${app.bookings.partitions.drop-after:${app.bookings.archive.retention:180d}}") Duration dropAfter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.dropAfter = dropAfter;
+    }
+
+    @Scheduled(cron = "${app.bookings.partitions.cron:0 0 4 * * *}")
+    public void scheduledMaintain() {
+        if (enabled) {
+            maintain(LocalDate.now());
+        }
+    }
+
+    /**
+     * Add the missing monthly partitions and drop the expired empty ones; returns what was planned.
+     */
+    public Plan maintain(LocalDate today) {
+        List<Partition> partitions = currentPartitions();
+        if (partitions.isEmpty()) {
+            log.warn("bookings is not partitioned; run changelog 008 on MySQL before enabling partition maintenance");
+            return new Plan(List.of(), List.of());
+        }
+        Plan plan = plan(partitions, today, monthsAhead, today.minusDays(dropAfter.toDays()));
+        if (!plan.add().isEmpty()) {
+            jdbcTemplate.execute(reorganizeFutureSql(plan.add()));
+            log.info("Added booking partitions {}", plan.add());
+        }
+        for (String partition : plan.drop()) {
+            Integer rows = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM bookings PARTITION (" + partition + ")", Integer.class);
+            if (rows != null && rows > 0) {
+                log.info("Keeping expired booking partition {}: {} rows not archived yet", partition, rows);
+                continue;
+            }
+            jdbcTemplate.execute("ALTER TABLE bookings DROP PARTITION " + partition);
+            log.info("Dropped booking partition {}", partition);
+        }
+        return plan;
+    }
+
+    /**
+     * Months to split off {@code p_future} so that partitions reach {@code monthsAhead} months past
+     * today, and bounded partitions whose range ended on or before {@code dropBefore}.
+     */
+    public static Plan plan(List<Partition> partitions, LocalDate today, int monthsAhead, LocalDate dropBefore) {
+        YearMonth next = partitions.stream()
+                .map(Partition::upperBound)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .map(YearMonth::from)
+                .orElse(YearMonth.from(today));
+        List<YearMonth> add = new ArrayList<>();
+        for (YearMonth month = next; !month.isAfter(YearMonth.from(today).plusMonths(monthsAhead)); month = month.plusMonths(1)) {
+            add.add(month);
+        }
+        List<String> drop = partitions.stream()
+                .filter(partition -> partition.upperBound() != null && !partition.upperBound().isAfter(dropBefore))
+                .map(Partition::name)
+                .toList();
+        return new Plan(add, drop);
+    }
+
+    /**
+     * Months that get their own partition when {@code bookings} is first partitioned: every month from
+     * the earliest to the latest booking ({@code null} for an empty table), and at least the current
+     * month through {@code monthsAhead} months past today.
+     */
+    public static List<YearMonth> initialMonths(LocalDate earliest, LocalDate latest, LocalDate today, int monthsAhead) {
+        YearMonth first = YearMonth.from(today);
+        YearMonth last = first.plusMonths(monthsAhead);
+        if (earliest != null && YearMonth.from(earliest).isBefore(first)) {
+            first = YearMonth.from(earliest);
+        }
+        if (latest != null && YearMonth.from(latest).isAfter(last)) {
+            last = YearMonth.from(latest);
+        }
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return months;
+    }
+
+    public static String partitionName(YearMonth month) {
+        return month.format(MONTH_NAME);
+    }
+
+    public static String partitionBySql(List<YearMonth> months) {
+        return "ALTER TABLE bookings PARTITION BY RANGE COLUMNS (start_time) (" + partitionsSql(months) + ")";
+    }
+
+    static String reorganizeFutureSql(List<YearMonth> months) {
+        return "ALTER TABLE bookings REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO (" + partitionsSql(months) + ")";
+    }
+
+    /** One partition per month followed by the {@code p_future} catch-all */
+    private static String partitionsSql(List<YearMonth> months) {
+        return months.stream()
+                .map(month -> "PARTITION " + partitionName(month)
+                        + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "')")
+                .collect(Collectors.joining(", "))
+                + ", PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE)";
+    }
+
+    private List<Partition> currentPartitions() {
+        return jdbcTemplate.query("""
+                SELECT partition_name, partition_description FROM information_schema.partitions
+                WHERE table_schema = DATABASE() AND table_name = 'bookings' AND partition_name IS NOT NULL
+                ORDER BY partition_ordinal_position
+                """, (rs, rowNum) -> new Partition(rs.getString(1), upperBound(rs.getString(2))));
+    }
+
+    /** {@code '2026-11-01 00:00:00'} or {@code '2026-11-01'} to a date; MAXVALUE to null */
+    private static LocalDate upperBound(String description) {
+        if (description == null || description.equalsIgnoreCase("MAXVALUE")) {
+            return null;
+        }
+        return LocalDate.parse(description.replace("'", "").substring(0, 10));
+    }
+}
@@ -0,0 +1,231 @@
+package com.sprints.room_booking_system.service.impl;
+
+import com.sprints.room_booking_system.dto.BookingDto;
+import com.sprints.room_booking_system.dto.BookingHistoryDto;
+import com.sprints.room_booking_system.dto.BookingSearchDto;
+import com.sprints.room_booking_system.event.BookingLifecycleEvent;
+import com.sprints.room_booking_system.model.Booking;
+import com.sprints.room_booking_system.model.BookingHistory;
+import com.sprints.room_booking_system.repository.BookingHistoryRepository;
+import com.sprints.room_booking_system.repository.BookingRepository;
+import com.sprints.room_booking_system.search.BookingTextIndex;
+import com.sprints.room_booking_system.search.BookingTextIndex.BookingEntry;
+import com.sprints.room_booking_system.search.BookingTextIndex.Criteria;
+import com.sprints.room_booking_system.search.BookingTextIndex.HistoryEntry;
+import com.sprints.room_booking_system.search.BookingTextIndex.Kind;
+import com.sprints.room_booking_system.service.BookingSearchService;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Serves booking purpose and history reason searches from an in-memory {@link BookingTextIndex}.
+ * <p>
+ * The index is loaded in bulk from the database at startup, on {@code app.search.bookings.rebuild-cron}
+ * and on demand, into a fresh index that replaces the old one when complete. In between, every
+ * {@link BookingLifecycleEvent} re-reads its booking and the booking's history, which also covers
+ * status changes made with plain SQL. Bookings changed while a reload runs are re-read again once it
+ * has swapped in. With {@code app.bookings.history.durability=async} a history entry can land after
+ * its event; it is then picked up by the booking's next event or the next reload.
+ */
+@Slf4j
+@Service
+public class BookingSearchServiceImpl implements BookingSearchService, DisposableBean {
+
+    private static final String BOOKINGS_SQL = "SELECT id, room_id, status, start_time, purpose FROM bookings";
+    private static final String HISTORY_SQL = """
+            SELECT h.id, h.booking_id, b.room_id, h.action, h.action_time, h.reason
+            FROM booking_history h LEFT JOIN bookings b ON b.id = h.booking_id
+            """;
+
+    private static final RowMapper<BookingEntry> BOOKING_ROW = (rs, rowNum) -> new BookingEntry(
+            rs.getLong(1), rs.getObject(2, Long.class), rs.getString(3), toLocalDateTime(rs.getTimestamp(4)),
+            rs.getString(5));
+    private static final RowMapper<HistoryEntry> HISTORY_ROW = (rs, rowNum) -> new HistoryEntry(
+            rs.getLong(1), rs.getLong(2), rs.getObject(3, Long.class), rs.getString(4),
+            toLocalDateTime(rs.getTimestamp(5)), rs.getString(6));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BookingRepository bookingRepository;
+    private final BookingHistoryRepository bookingHistoryRepository;
+    private final int maxLimit;
+
+    /** Re-indexing holds the read side; swapping in a rebuilt index holds the write side */
+    private final ReadWriteLock swap = new ReentrantReadWriteLock();
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+    private volatile BookingTextIndex index = new BookingTextIndex(new ByteBuffersDirectory());
+
+    public BookingSearchServiceImpl(JdbcTemplate jdbcTemplate,
+                                    BookingRepository bookingRepository,
+                                    BookingHistoryRepository bookingHistoryRepository,
+                                    @Value("${app.search.bookings.max-limit:100}") int maxLimit) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.bookingRepository = bookingRepository;
+        this.bookingHistoryRepository = bookingHistoryRepository;
+        this.maxLimit = maxLimit;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookingDto> searchBookings(BookingSearchDto search) {
+        List<Long> ids = search(Kind.BOOKING, search);
+        return inOrder(ids, bookingRepository.findAllById(ids), Booking::getId).stream()
+                .map(booking -> BookingDto.builder()
+                        .id(booking.getId())
+                        .roomId(booking.getRoom().getId())
+                        .userId(booking.getUser().getId())
+                        .startTime(booking.getStartTime())
+                        .endTime(booking.getEndTime())
+                        .purpose(booking.getPurpose())
+                        .status(booking.getStatus())
+                        .build())
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookingHistoryDto> searchHistory(BookingSearchDto search) {
+        List<Long> ids = search(Kind.HISTORY, search);
+        return inOrder(ids, bookingHistoryRepository.findAllById(ids), BookingHistory::getId).stream()
+                .map(history -> BookingHistoryDto.builder()
+                        .id(history.getId())
+                        .bookingId(history.getBooking() != null ? history.getBooking().getId() : null)
+                        .userId(history.getUser() != null ? history.getUser().getId() : null)
+                        .action(history.getAction())
+                        .actionTime(history.getActionTime())
+                        .reason(history.getReason())
+                        .build())
+                .toList();
+    }
+
+    @EventListener
+    public void onBookingEvent(BookingLifecycleEvent event) {
+        reindex(event.bookingId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.search.bookings.rebuild-cron:0 45 3 * * *}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    @Override
+    public synchronized int rebuild() {
+        rebuilding = true;
+        BookingTextIndex fresh = new BookingTextIndex(new ByteBuffersDirectory());
+        BookingTextIndex old;
+        Set<Long> changed;
+        try {
+            jdbcTemplate.query(BOOKINGS_SQL,
+                    (RowCallbackHandler) rs -> fresh.add(BOOKING_ROW.mapRow(rs, 0)));
+            jdbcTemplate.query(HISTORY_SQL,
+                    (RowCallbackHandler) rs -> fresh.add(HISTORY_ROW.mapRow(rs, 0)));
+            fresh.commit();
+            fresh.refresh();
+        } catch (RuntimeException e) {
+            rebuilding = false;
+            changedDuringRebuild.clear();
+            close(fresh);
+            throw e;
+        }
+        swap.writeLock().lock();
+        try {
+            old = index;
+            index = fresh;
+            changed = new HashSet<>(changedDuringRebuild);
+            changedDuringRebuild.clear();
+            rebuilding = false;
+        } finally {
+            swap.writeLock().unlock();
+        }
+        changed.forEach(this::reindex);
+        close(old);
+        int bookings = fresh.count(Kind.BOOKING);
+        log.info("Booking text index rebuilt: {} bookings, {} history entries, {} replayed",
+                bookings, fresh.count(Kind.HISTORY), changed.size());
+        return bookings;
+    }
+
+    @Override
+    public void destroy() {
+        close(index);
+    }
+
+    /** Re-read one booking and its history into the current index and make it searchable */
+    private void reindex(Long bookingId) {
+        List<BookingEntry> booking = jdbcTemplate.query(BOOKINGS_SQL + " WHERE id = ?", BOOKING_ROW, bookingId);
+        List<HistoryEntry> history = jdbcTemplate.query(HISTORY_SQL + " WHERE h.booking_id = ?", HISTORY_ROW, bookingId);
+        swap.readLock().lock();
+        try {
+            if (rebuilding) {
+                changedDuringRebuild.add(bookingId);
+            }
+            // Reopen here rather than per search, so searches never wait on a reopen
+            index.replace(bookingId, booking.isEmpty() ? null : booking.get(0), history);
+            index.refresh();
+        } finally {
+            swap.readLock().unlock();
+        }
+    }
+
+    private List<Long> search(Kind kind, BookingSearchDto search) {
+        int limit = search.getLimit() > 0 ? Math.min(search.getLimit(), maxLimit) : maxLimit;
+        String status = search.getStatus() != null ? search.getStatus().toUpperCase(Locale.ROOT) : null;
+        Criteria criteria = new Criteria(kind, search.getText(), status, search.getRoomId(),
+                search.getFrom(), search.getTo(), limit);
+        try {
+            return searchCurrent(criteria);
+        } catch (AlreadyClosedException e) {
+            // A rebuild swapped the index out under this search
+            return searchCurrent(criteria);
+        }
+    }
+
+    private List<Long> searchCurrent(Criteria criteria) {
+        return index.search(criteria);
+    }
+
+    /** Loaded rows in index order; ids no longer in the database (archived or deleted) are skipped */
+    private static <T> List<T> inOrder(List<Long> ids, List<T> loaded, Function<T, Long> id) {
+        Map<Long, T> byId = loaded.stream().collect(Collectors.toMap(id, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private static void close(BookingTextIndex index) {
+        try {
+            index.close();
+        } catch (IOException e) {
+            log.warn("Could not close booking text index", e);
+        }
+    }
+}
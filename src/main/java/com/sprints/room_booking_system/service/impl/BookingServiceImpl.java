@@ -1,31 +1,60 @@
 package com.sprints.room_booking_system.service.impl;
 
+import com.sprints.room_booking_system.config.RetryOnVersionConflict;
+import com.sprints.room_booking_system.dto.BookingDecisionResultDto;
+import com.sprints.room_booking_system.dto.BookingDecisionResultDto.Outcome;
 import com.sprints.room_booking_system.dto.BookingDto;
+import com.sprints.room_booking_system.dto.BulkBookingDecisionDto;
 import com.sprints.room_booking_system.exception.BookingConflictException;
 import com.sprints.room_booking_system.exception.InvalidBookingDateException;
 import com.sprints.room_booking_system.exception.UnauthorizedOperationException;
+import com.sprints.room_booking_system.jfr.BookingApproveEvent;
+import com.sprints.room_booking_system.jfr.BookingConflictEvent;
+import com.sprints.room_booking_system.jfr.BookingCreateEvent;
+import com.sprints.room_booking_system.metrics.BookingMetrics;
 import com.sprints.room_booking_system.model.*;
+import com.sprints.room_booking_system.repository.ArchivedBookingHistoryRepository;
+import com.sprints.room_booking_system.repository.ArchivedBookingRepository;
 import com.sprints.room_booking_system.repository.BookingHistoryRepository;
+import com.sprints.room_booking_system.repository.BookingOutboxRepository;
 import com.sprints.room_booking_system.repository.BookingRepository;
+import com.sprints.room_booking_system.repository.BookingSlot;
 import com.sprints.room_booking_system.repository.HolidayRepository;
 import com.sprints.room_booking_system.repository.RoomRepository;
 import com.sprints.room_booking_system.repository.UserRepository;
+import com.sprints.room_booking_system.service.BookingHistoryWriter;
 import com.sprints.room_booking_system.service.BookingService;
+import com.sprints.room_booking_system.tracing.SpanAttributes;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
+/**
+ * Booking writes are versioned: a transition that loses a race is rolled back and retried with
+ * jittered backoff (the retry advice wraps the transaction, so every attempt re-reads the rows).
+ * Create and update also bump the room's version so two requests cannot book the same slot, unless
+ * {@link RoomOccupancy} is enabled, in which case the slot table's primary key refuses the second one.
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Observed(name = "booking.service")
 public class BookingServiceImpl implements BookingService {
     
     private final BookingRepository bookingRepository;
@@ -33,17 +62,39 @@ public class BookingServiceImpl implements BookingService {
     private final RoomRepository roomRepository;
     private final HolidayRepository holidayRepository;
     private final BookingHistoryRepository bookingHistoryRepository;
+    private final BookingOutboxRepository bookingOutboxRepository;
+    private final ArchivedBookingRepository archivedBookingRepository;
+    private final ArchivedBookingHistoryRepository archivedBookingHistoryRepository;
+    private final BookingHistoryWriter bookingHistoryWriter;
+    private final BookingMetrics bookingMetrics;
+    private final SpanAttributes spanAttributes;
+    private final RoomOccupancy roomOccupancy;
     
     private static final int MAX_BOOKING_WINDOW_DAYS = 90;
     
     @Override
+    @RetryOnVersionConflict
     public BookingDto createBooking(BookingDto bookingDto, Long userId) {
+        BookingCreateEvent createEvent = new BookingCreateEvent();
+        createEvent.begin();
+        spanAttributes.roomId(bookingDto.getRoomId());
         // Validate booking dates
         validateBookingDates(bookingDto.getStartTime(), bookingDto.getEndTime());
-        
-        // Check if room is available
-        if (!isRoomAvailable(bookingDto.getRoomId(), bookingDto.getStartTime(), bookingDto.getEndTime())) {
-            throw new BookingConflictException("Room is not available for the specified time period");
+        if (roomOccupancy.isEnabled()) {
+            roomOccupancy.requireAligned(bookingDto.getStartTime(), bookingDto.getEndTime());
+        }
+        // Once authoritative, the room slots claimed after the insert refuse a double booking
+        if (!roomOccupancy.isAuthoritative()) {
+            roomRepository.lockForBookingChange(bookingDto.getRoomId());
+
+            // Check if room is available
+            BookingConflictEvent conflictEvent = new BookingConflictEvent();
+            conflictEvent.begin();
+            if (!isRoomAvailable(bookingDto.getRoomId(), bookingDto.getStartTime(), bookingDto.getEndTime())) {
+                conflictEvent.complete(bookingDto.getRoomId(), "create");
+                bookingMetrics.createConflict();
+                throw new BookingConflictException("Room is not available for the specified time period");
+            }
         }
         
         // Check for holidays
@@ -71,15 +122,22 @@ public class BookingServiceImpl implements BookingService {
 
         
         Booking savedBooking = bookingRepository.save(booking);
+        spanAttributes.bookingId(savedBooking.getId());
+        occupySlots(savedBooking, "create", bookingMetrics::createConflict);
         
         // Log booking creation
         logBookingHistory(savedBooking, "CREATED", "Booking created", user);
+        recordEvent(BookingEventType.CREATED, savedBooking, user);
+        createEvent.complete(room.getId(), savedBooking.getId());
         
         return toDto(savedBooking);
     }
     
     @Override
+    @RetryOnVersionConflict
     public BookingDto updateBooking(Long bookingId, BookingDto bookingDto, Long userId) {
+        spanAttributes.bookingId(bookingId);
+        spanAttributes.roomId(bookingDto.getRoomId());
         Booking existingBooking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new IllegalArgumentException("Booking not found with ID: " + bookingId));
         
@@ -95,11 +153,21 @@ public class BookingServiceImpl implements BookingService {
         
         // Validate new dates
         validateBookingDates(bookingDto.getStartTime(), bookingDto.getEndTime());
-        
-        // Check if room is available for new time (excluding current booking)
-        if (!isRoomAvailableForUpdate(bookingDto.getRoomId(), bookingDto.getStartTime(), 
-                                    bookingDto.getEndTime(), bookingId)) {
-            throw new BookingConflictException("Room is not available for the specified time period");
+        if (roomOccupancy.isEnabled()) {
+            roomOccupancy.requireAligned(bookingDto.getStartTime(), bookingDto.getEndTime());
+        }
+        if (!roomOccupancy.isAuthoritative()) {
+            roomRepository.lockForBookingChange(bookingDto.getRoomId());
+
+            // Check if room is available for new time (excluding current booking)
+            BookingConflictEvent conflictEvent = new BookingConflictEvent();
+            conflictEvent.begin();
+            if (!isRoomAvailableForUpdate(bookingDto.getRoomId(), bookingDto.getStartTime(),
+                                        bookingDto.getEndTime(), bookingId)) {
+                conflictEvent.complete(bookingDto.getRoomId(), "update");
+                bookingMetrics.updateConflict();
+                throw new BookingConflictException("Room is not available for the specified time period");
+            }
         }
         
         // Check for holidays
@@ -111,9 +179,13 @@ public class BookingServiceImpl implements BookingService {
         existingBooking.setPurpose(bookingDto.getPurpose());
         
         Booking updatedBooking = bookingRepository.save(existingBooking);
+        roomOccupancy.release(bookingId);
+        occupySlots(updatedBooking, "update", bookingMetrics::updateConflict);
         
         // Log booking update
-        logBookingHistory(updatedBooking, "UPDATED", "Booking updated", userRepository.findById(userId).orElse(null));
+        User updatedBy = userRepository.findById(userId).orElse(null);
+        logBookingHistory(updatedBooking, "UPDATED", "Booking updated", updatedBy);
+        recordEvent(BookingEventType.UPDATED, updatedBooking, updatedBy);
         
         return toDto(updatedBooking);
     }
@@ -140,6 +212,13 @@ public class BookingServiceImpl implements BookingService {
         return bookings.stream().map(this::toDto).collect(Collectors.toList());
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookingDto> findBookingsByUser(Long userId, boolean includeArchived) {
+        List<BookingDto> bookings = findBookingsByUser(userId);
+        return includeArchived ? withArchived(bookings, archivedBookingRepository.findByUserId(userId)) : bookings;
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public List<BookingDto> findBookingsByRoom(Long roomId) {
@@ -147,6 +226,13 @@ public class BookingServiceImpl implements BookingService {
         return bookings.stream().map(this::toDto).collect(Collectors.toList());
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookingDto> findBookingsByRoom(Long roomId, boolean includeArchived) {
+        List<BookingDto> bookings = findBookingsByRoom(roomId);
+        return includeArchived ? withArchived(bookings, archivedBookingRepository.findByRoomId(roomId)) : bookings;
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public List<BookingDto> findBookingsByStatus(BookingStatus status) {
@@ -154,6 +240,13 @@ public class BookingServiceImpl implements BookingService {
         return bookings.stream().map(this::toDto).collect(Collectors.toList());
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookingDto> findBookingsByStatus(BookingStatus status, boolean includeArchived) {
+        List<BookingDto> bookings = findBookingsByStatus(status);
+        return includeArchived ? withArchived(bookings, archivedBookingRepository.findByStatus(status)) : bookings;
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public List<BookingDto> findBookingsByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
@@ -162,7 +255,11 @@ public class BookingServiceImpl implements BookingService {
     }
     
     @Override
+    @RetryOnVersionConflict
     public BookingDto approveBooking(Long bookingId, Long adminUserId) {
+        BookingApproveEvent approveEvent = new BookingApproveEvent();
+        approveEvent.begin();
+        spanAttributes.bookingId(bookingId);
         User admin = userRepository.findById(adminUserId)
                 .orElseThrow(() -> new IllegalArgumentException("Admin user not found"));
 
@@ -177,7 +274,10 @@ public class BookingServiceImpl implements BookingService {
             throw new IllegalArgumentException("Only PENDING bookings can be approved");
         }
 
-         boolean conflict = bookingRepository.hasOverlappingBookings(
+        BookingConflictEvent conflictEvent = new BookingConflictEvent();
+        conflictEvent.begin();
+        // With room occupancy authoritative the PENDING booking already holds its slots
+        boolean conflict = !roomOccupancy.isAuthoritative() && bookingRepository.hasOverlappingBookings(
                 booking.getRoom().getId(),
                 booking.getStartTime(),
                 booking.getEndTime(),
@@ -185,19 +285,28 @@ public class BookingServiceImpl implements BookingService {
         );
 
         if (conflict) {
+            conflictEvent.complete(booking.getRoom().getId(), "approve");
+            bookingMetrics.approveConflict();
             throw new BookingConflictException("Room is no longer available for the specified time period");
         }
 
+        spanAttributes.roomId(booking.getRoom().getId());
         booking.setStatus(BookingStatus.APPROVED);
+        spanAttributes.status(booking.getStatus());
         Booking approvedBooking = bookingRepository.save(booking);
+        bookingMetrics.approval();
 
         logBookingHistory(approvedBooking, "APPROVED", "Booking approved by admin", admin);
+        recordEvent(BookingEventType.APPROVED, approvedBooking, admin);
+        approveEvent.complete(booking.getRoom().getId(), bookingId);
 
         return toDto(approvedBooking);
     }
     
     @Override
+    @RetryOnVersionConflict
     public BookingDto rejectBooking(Long bookingId, Long adminUserId, String reason) {
+        spanAttributes.bookingId(bookingId);
         User admin = userRepository.findById(adminUserId)
                 .orElseThrow(() -> new IllegalArgumentException("Admin user not found"));
 
@@ -212,15 +321,97 @@ public class BookingServiceImpl implements BookingService {
             throw new IllegalArgumentException("Only PENDING bookings can be rejected");
         }
 
+        spanAttributes.roomId(booking.getRoom().getId());
         booking.setStatus(BookingStatus.REJECTED);
+        spanAttributes.status(booking.getStatus());
         Booking rejectedBooking = bookingRepository.save(booking);
+        roomOccupancy.release(bookingId);
 
         logBookingHistory(rejectedBooking, "REJECTED", "Booking rejected: " + reason, admin);
+        recordEvent(BookingEventType.REJECTED, rejectedBooking, admin);
 
         return toDto(rejectedBooking);
     }
     @Override
+    public List<BookingDecisionResultDto> decideBookings(BulkBookingDecisionDto request, Long adminUserId) {
+        boolean approve = request.getDecision() == BulkBookingDecisionDto.Decision.APPROVE;
+        User admin = userRepository.findById(adminUserId)
+                .orElseThrow(() -> new IllegalArgumentException("Admin user not found"));
+
+        if (admin.getRole() != UserRole.ADMIN) {
+            throw new UnauthorizedOperationException("Only admins can approve or reject bookings");
+        }
+        if (!approve && (request.getReason() == null || request.getReason().isBlank())) {
+            throw new IllegalArgumentException("A reason is required to reject bookings");
+        }
+
+        Map<Long, BookingDecisionResultDto> outcomes = new TreeMap<>();
+        request.getBookingIds().forEach(id -> outcomes.put(id, decision(id, Outcome.NOT_FOUND,
+                "Booking not found with ID: " + id)));
+
+        Map<Long, List<BookingSlot>> pendingByRoom = new HashMap<>();
+        for (BookingSlot slot : bookingRepository.findSlotsByIdIn(request.getBookingIds())) {
+            if (slot.status() == BookingStatus.PENDING) {
+                pendingByRoom.computeIfAbsent(slot.roomId(), roomId -> new ArrayList<>()).add(slot);
+            } else {
+                outcomes.put(slot.id(), decision(slot.id(), Outcome.NOT_PENDING, "Booking is " + slot.status()));
+            }
+        }
+
+        List<BookingSlot> accepted = approve
+                ? withoutConflicts(pendingByRoom, outcomes)
+                : pendingByRoom.values().stream().flatMap(List::stream).toList();
+        if (accepted.isEmpty()) {
+            return new ArrayList<>(outcomes.values());
+        }
+
+        BookingStatus status = approve ? BookingStatus.APPROVED : BookingStatus.REJECTED;
+        List<Long> ids = accepted.stream().map(BookingSlot::id).toList();
+        if (bookingRepository.updatePendingStatus(ids, status) != ids.size()) {
+            throw new BookingConflictException("Some bookings were decided concurrently, no changes were applied");
+        }
+        if (!approve) {
+            roomOccupancy.release(ids);
+        }
+
+        String reason = approve ? "Booking approved by admin" : "Booking rejected: " + request.getReason();
+        LocalDateTime now = LocalDateTime.now();
+        bookingHistoryWriter.writeAll(ids.stream()
+                .map(id -> BookingHistory.builder()
+                        .booking(Booking.builder().id(id).build())
+                        .user(admin)
+                        .action(status.name())
+                        .reason(reason)
+                        .actionTime(now)
+                        .build())
+                .toList());
+
+        BookingEventType eventType = approve ? BookingEventType.APPROVED : BookingEventType.REJECTED;
+        bookingOutboxRepository.insertAll(accepted.stream()
+                .map(slot -> BookingOutboxEvent.builder()
+                        .eventType(eventType)
+                        .bookingId(slot.id())
+                        .roomId(slot.roomId())
+                        .userId(slot.userId())
+                        .actorUserId(admin.getId())
+                        .startTime(slot.startTime())
+                        .endTime(slot.endTime())
+                        .createdAt(now)
+                        .build())
+                .toList());
+
+        Outcome outcome = approve ? Outcome.APPROVED : Outcome.REJECTED;
+        ids.forEach(id -> outcomes.put(id, decision(id, outcome, reason)));
+        if (approve) {
+            ids.forEach(id -> bookingMetrics.approval());
+        }
+        return new ArrayList<>(outcomes.values());
+    }
+
+    @Override
+    @RetryOnVersionConflict
     public BookingDto cancelBooking(Long bookingId, Long userId, boolean isAdmin) {
+        spanAttributes.bookingId(bookingId);
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
@@ -231,8 +422,8 @@ public class BookingServiceImpl implements BookingService {
             throw new UnauthorizedOperationException("User can only cancel their own bookings");
         }
 
-        if (booking.getStatus() == BookingStatus.CANCELLED ||
-                booking.getStatus() == BookingStatus.REJECTED) {
+        if (booking.getStatus() != BookingStatus.PENDING &&
+                booking.getStatus() != BookingStatus.APPROVED) {
             throw new IllegalArgumentException("Booking cannot be cancelled in current status: " + booking.getStatus());
         }
 
@@ -240,12 +431,16 @@ public class BookingServiceImpl implements BookingService {
             throw new UnauthorizedOperationException("Cannot cancel booking after start time");
         }
 
+        spanAttributes.roomId(booking.getRoom().getId());
         booking.setStatus(BookingStatus.CANCELLED);
+        spanAttributes.status(booking.getStatus());
         Booking cancelledBooking = bookingRepository.save(booking);
+        roomOccupancy.release(bookingId);
 
         String action = "CANCELLED";
         String message = isAdmin ? "Booking cancelled by admin" : "Booking cancelled by user";
         logBookingHistory(cancelledBooking, action, message, user);
+        recordEvent(BookingEventType.CANCELLED, cancelledBooking, user);
         return toDto(cancelledBooking);
     }
 
@@ -253,6 +448,10 @@ public class BookingServiceImpl implements BookingService {
     @Override
     @Transactional(readOnly = true)
     public boolean isRoomAvailable(Long roomId, LocalDateTime startTime, LocalDateTime endTime) {
+        spanAttributes.roomId(roomId);
+        if (roomOccupancy.isAuthoritative()) {
+            return roomOccupancy.isFree(roomId, startTime, endTime);
+        }
         return !bookingRepository.hasOverlappingBookings(roomId, startTime, endTime);
     }
     
@@ -260,19 +459,59 @@ public class BookingServiceImpl implements BookingService {
     @Transactional(readOnly = true)
     public List<Object> getBookingHistory(Long bookingId) {
         List<BookingHistory> historyList = bookingHistoryRepository.findByBookingId(bookingId);
+        if (historyList.isEmpty()) {
+            return getArchivedBookingHistory(bookingId);
+        }
 
         return historyList.stream()
-                .map(history -> Map.of(
-                        "action", history.getAction(),
-                        "actionTime", history.getActionTime(),
-                        "reason", history.getReason(),
-                        "user", history.getUser().getName()
-                ))
+                .map(history -> historyEntry(history.getAction(), history.getActionTime(), history.getReason(),
+                        history.getUser() == null ? "system" : history.getUser().getName()))
                 .collect(Collectors.toList());
     }
     
     // Private helper methods
     
+    // History is moved together with its booking, so a booking with no hot history may be archived
+    private List<Object> getArchivedBookingHistory(Long bookingId) {
+        List<ArchivedBookingHistory> historyList =
+                archivedBookingHistoryRepository.findByBookingIdOrderByActionTimeAscIdAsc(bookingId);
+        if (historyList.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, String> userNames = userRepository.findAllById(historyList.stream()
+                        .map(ArchivedBookingHistory::getUserId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(User::getId, User::getName));
+
+        return historyList.stream()
+                .map(history -> historyEntry(history.getAction(), history.getActionTime(), history.getReason(),
+                        userNames.getOrDefault(history.getUserId(), "system")))
+                .collect(Collectors.toList());
+    }
+
+    // Reason may be null (older rows), which Map.of rejects
+    private static Map<String, Object> historyEntry(String action, LocalDateTime actionTime, String reason, String user) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("action", action);
+        entry.put("actionTime", actionTime);
+        entry.put("reason", reason);
+        entry.put("user", user);
+        return entry;
+    }
+    
+    private List<BookingDto> withArchived(List<BookingDto> bookings, List<ArchivedBooking> archived) {
+        if (archived.isEmpty()) {
+            return bookings;
+        }
+        List<BookingDto> all = new ArrayList<>(archived.size() + bookings.size());
+        archived.stream().map(this::toDto).forEach(all::add);
+        all.addAll(bookings);
+        all.sort(Comparator.comparing(BookingDto::getId));
+        return all;
+    }
+    
     private void validateBookingDates(LocalDateTime startTime, LocalDateTime endTime) {
         LocalDateTime now = LocalDateTime.now();
         
@@ -290,6 +529,11 @@ public class BookingServiceImpl implements BookingService {
         if (startTime.isAfter(now.plusDays(MAX_BOOKING_WINDOW_DAYS))) {
             throw new InvalidBookingDateException("Booking cannot be made more than " + MAX_BOOKING_WINDOW_DAYS + " days in advance");
         }
+
+        // Overlap queries only look back this far, so longer bookings would go unseen
+        if (Duration.between(startTime, endTime).compareTo(Booking.MAX_DURATION) > 0) {
+            throw new InvalidBookingDateException("Booking cannot be longer than " + Booking.MAX_DURATION.toHours() + " hours");
+        }
     }
     
     private void validateNoHolidayBooking(LocalDateTime startTime, LocalDateTime endTime) {
@@ -299,15 +543,80 @@ public class BookingServiceImpl implements BookingService {
         // Check for holidays in the booking period
         List<Holiday> holidays = holidayRepository.findByDateRange(startDate, endDate);
         if (!holidays.isEmpty()) {
+            bookingMetrics.holidayRejection();
             throw new InvalidBookingDateException("Cannot book on holidays: " + 
                 holidays.stream().map(Holiday::getName).collect(Collectors.joining(", ")));
         }
     }
     
+    /**
+     * Claim the booking's room slots when occupancy is enabled; a refused claim counts as a conflict.
+     */
+    private void occupySlots(Booking booking, String operation, Runnable conflictCounter) {
+        if (!roomOccupancy.isEnabled()) {
+            return;
+        }
+        BookingConflictEvent conflictEvent = new BookingConflictEvent();
+        conflictEvent.begin();
+        try {
+            roomOccupancy.occupy(booking.getId(), booking.getRoom().getId(), booking.getStartTime(), booking.getEndTime());
+        } catch (BookingConflictException e) {
+            conflictEvent.complete(booking.getRoom().getId(), operation);
+            conflictCounter.run();
+            throw e;
+        }
+    }
+
     private boolean isRoomAvailableForUpdate(Long roomId, LocalDateTime startTime, LocalDateTime endTime, Long excludeBookingId) {
         return !bookingRepository.hasOverlappingBookings(roomId, startTime, endTime, excludeBookingId);
     }
     
+    /**
+     * Walk each room's candidates oldest first and keep those that overlap neither an existing
+     * APPROVED/PENDING booking nor an earlier candidate; the rest are recorded as conflicts.
+     */
+    private List<BookingSlot> withoutConflicts(Map<Long, List<BookingSlot>> pendingByRoom,
+                                               Map<Long, BookingDecisionResultDto> outcomes) {
+        if (pendingByRoom.isEmpty()) {
+            return List.of();
+        }
+        List<BookingSlot> candidates = pendingByRoom.values().stream().flatMap(List::stream).toList();
+        Set<Long> candidateIds = candidates.stream().map(BookingSlot::id).collect(Collectors.toSet());
+        LocalDateTime from = candidates.stream().map(BookingSlot::startTime).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime to = candidates.stream().map(BookingSlot::endTime).max(Comparator.naturalOrder()).orElseThrow();
+
+        Map<Long, List<BookingSlot>> takenByRoom = bookingRepository
+                .findActiveSlotsInRooms(pendingByRoom.keySet(), from, to).stream()
+                .filter(slot -> !candidateIds.contains(slot.id()))
+                .collect(Collectors.groupingBy(BookingSlot::roomId));
+
+        List<BookingSlot> accepted = new ArrayList<>();
+        pendingByRoom.forEach((roomId, roomCandidates) -> {
+            List<BookingSlot> taken = new ArrayList<>(takenByRoom.getOrDefault(roomId, List.of()));
+            roomCandidates.sort(Comparator.comparing(BookingSlot::createdAt).thenComparing(BookingSlot::id));
+            for (BookingSlot candidate : roomCandidates) {
+                Optional<BookingSlot> blocker = taken.stream().filter(candidate::overlaps).findFirst();
+                if (blocker.isPresent()) {
+                    bookingMetrics.approveConflict();
+                    outcomes.put(candidate.id(), decision(candidate.id(), Outcome.CONFLICT,
+                            "Overlaps booking " + blocker.get().id()));
+                } else {
+                    taken.add(candidate);
+                    accepted.add(candidate);
+                }
+            }
+        });
+        return accepted;
+    }
+
+    private static BookingDecisionResultDto decision(Long bookingId, Outcome outcome, String message) {
+        return BookingDecisionResultDto.builder()
+                .bookingId(bookingId)
+                .outcome(outcome)
+                .message(message)
+                .build();
+    }
+    
     private void logBookingHistory(Booking booking, String action, String reason, User user) {
         BookingHistory history = BookingHistory.builder()
                 .booking(booking)
@@ -317,12 +626,40 @@ public class BookingServiceImpl implements BookingService {
                 .actionTime(LocalDateTime.now())
                 .build();
         
-        bookingHistoryRepository.save(history);
+        bookingHistoryWriter.write(history);
+    }
+
+    
+    private void recordEvent(BookingEventType type, Booking booking, User actor) {
+        BookingOutboxEvent event = BookingOutboxEvent.builder()
+                .eventType(type)
+                .bookingId(booking.getId())
+                .roomId(booking.getRoom().getId())
+                .userId(booking.getUser().getId())
+                .actorUserId(actor == null ? null : actor.getId())
+                .startTime(booking.getStartTime())
+                .endTime(booking.getEndTime())
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        bookingOutboxRepository.save(event);
     }
 
+    private BookingDto toDto(ArchivedBooking booking) {
+        return BookingDto.builder()
+                .id(booking.getId())
+                .roomId(booking.getRoomId())
+                .userId(booking.getUserId())
+                .startTime(booking.getStartTime())
+                .endTime(booking.getEndTime())
+                .purpose(booking.getPurpose())
+                .status(booking.getStatus())
+                .build();
+    }
 
     public BookingDto toDto(Booking booking){
         BookingDto bookingdto = BookingDto.builder()
+                .id(booking.getId())
                 .roomId(booking.getRoom().getId())
                 .userId(booking.getUser().getId())
                 .startTime(booking.getStartTime())
@@ -0,0 +1,258 @@
+package com.sprints.room_booking_system.service.impl;
+
+import com.sprints.room_booking_system.event.BookingLifecycleEvent;
+import com.sprints.room_booking_system.metrics.BookingMetrics;
+import com.sprints.room_booking_system.model.Booking;
+import com.sprints.room_booking_system.model.BookingEventType;
+import com.sprints.room_booking_system.model.BookingHistory;
+import com.sprints.room_booking_system.model.BookingOutboxEvent;
+import com.sprints.room_booking_system.model.BookingStatus;
+import com.sprints.room_booking_system.repository.BookingOutboxRepository;
+import com.sprints.room_booking_system.repository.BookingRepository;
+import com.sprints.room_booking_system.repository.BookingSlot;
+import com.sprints.room_booking_system.service.BookingHistoryWriter;
+import com.sprints.room_booking_system.timer.HashedTimingWheel;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies time-driven booking transitions from a {@link HashedTimingWheel}:
+ * <ul>
+ *   <li>PENDING bookings expire once their hold ({@code app.bookings.timers.pending-hold}) runs out,
+ *   or at their start time if nobody approved them by then, releasing the room;</li>
+ *   <li>APPROVED bookings complete at their end time.</li>
+ * </ul>
+ * The wheel is rebuilt from the active bookings at startup and fed by the booking lifecycle events
+ * afterwards. A timer only names a booking; when it fires the booking is re-read and the transition
+ * applied only if still due, so stale timers are harmless and early ones are rescheduled. Due
+ * bookings are moved in batched, version-guarded updates with their history and outbox rows.
+ */
+@Slf4j
+@Component
+public class BookingTransitionScheduler implements SmartLifecycle {
+
+    public enum Transition {
+        EXPIRE,
+        COMPLETE
+    }
+
+    public record BookingTimer(Long bookingId, Transition transition) {
+    }
+
+    private static final int REBUILD_PAGE_SIZE = 5_000;
+
+    private final BookingRepository bookingRepository;
+    private final BookingOutboxRepository bookingOutboxRepository;
+    private final BookingHistoryWriter bookingHistoryWriter;
+    private final BookingMetrics bookingMetrics;
+    private final RoomOccupancy roomOccupancy;
+    private final TransactionTemplate transaction;
+    private final HashedTimingWheel<BookingTimer> wheel;
+    private final boolean enabled;
+    private final Duration pendingHold;
+    private final int batchSize;
+
+    public BookingTransitionScheduler(BookingRepository bookingRepository,
+                                      BookingOutboxRepository bookingOutboxRepository,
+                                      BookingHistoryWriter bookingHistoryWriter,
+                                      BookingMetrics bookingMetrics,
+                                      RoomOccupancy roomOccupancy,
+                                      PlatformTransactionManager transactionManager,
+                                      MeterRegistry registry,
+                                      @Value("${app.bookings.timers.enabled:true}") boolean enabled,
+                                      @Value("${app.bookings.timers.pending-hold:48h}") Duration pendingHold,
+                                      @Value("${app.bookings.timers.tick:1s}") Duration tick,
+                                      @Value("${app.bookings.timers.wheel-size:4096}") int wheelSize,
+                                      @Value("${app.bookings.timers.batch-size:500}") int batchSize) {
+        this.bookingRepository = bookingRepository;
+        this.bookingOutboxRepository = bookingOutboxRepository;
+        this.bookingHistoryWriter = bookingHistoryWriter;
+        this.bookingMetrics = bookingMetrics;
+        this.roomOccupancy = roomOccupancy;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.wheel = new HashedTimingWheel<>(tick, wheelSize, this::fire);
+        this.enabled = enabled;
+        this.pendingHold = pendingHold;
+        this.batchSize = batchSize;
+        Gauge.builder("booking.timers.pending", wheel, HashedTimingWheel::pending)
+                .description("Booking transitions waiting in the timing wheel")
+                .register(registry);
+    }
+
+    /**
+     * Schedule the next transition of every active booking; returns the number of timers added.
+     */
+    public int rebuild() {
+        int scheduled = 0;
+        long afterId = 0;
+        List<BookingSlot> page;
+        do {
+            page = bookingRepository.findActiveSlotsAfter(afterId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            for (BookingSlot slot : page) {
+                schedule(slot);
+                afterId = slot.id();
+            }
+            scheduled += page.size();
+        } while (page.size() == REBUILD_PAGE_SIZE);
+        return scheduled;
+    }
+
+    @EventListener
+    public void onBookingEvent(BookingLifecycleEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.type() == BookingEventType.CREATED) {
+            LocalDateTime holdEnds = event.occurredAt().plus(pendingHold);
+            schedule(event.bookingId(), Transition.EXPIRE,
+                    event.startTime().isBefore(holdEnds) ? event.startTime() : holdEnds);
+        } else if (event.type() == BookingEventType.UPDATED) {
+            // The times may have moved earlier; re-read for the status and the hold's creation time.
+            // A timer left at the old time is stale and ignored when it fires.
+            bookingRepository.findSlotsByIdIn(List.of(event.bookingId())).forEach(this::schedule);
+        } else if (event.type() == BookingEventType.APPROVED) {
+            schedule(event.bookingId(), Transition.COMPLETE, event.endTime());
+        }
+    }
+
+    /**
+     * Apply the transitions that are due among {@code timers}; returns the number of bookings moved.
+     */
+    public int applyDue(List<BookingTimer> timers) {
+        Integer applied = transaction.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            Map<Long, BookingSlot> slots = bookingRepository
+                    .findSlotsByIdIn(timers.stream().map(BookingTimer::bookingId).distinct().toList())
+                    .stream()
+                    .collect(Collectors.toMap(BookingSlot::id, Function.identity()));
+
+            Map<Long, BookingSlot> expire = new LinkedHashMap<>();
+            Map<Long, BookingSlot> complete = new LinkedHashMap<>();
+            for (BookingSlot slot : slots.values()) {
+                LocalDateTime due = dueAt(slot);
+                if (due == null) {
+                    continue;
+                }
+                if (due.isAfter(now)) {
+                    schedule(slot);
+                } else if (slot.status() == BookingStatus.PENDING) {
+                    expire.put(slot.id(), slot);
+                } else {
+                    complete.put(slot.id(), slot);
+                }
+            }
+            return transition(new ArrayList<>(expire.values()), BookingStatus.EXPIRED, now)
+                    + transition(new ArrayList<>(complete.values()), BookingStatus.COMPLETED, now);
+        });
+        return applied == null ? 0 : applied;
+    }
+
+    /** Timers waiting in the wheel */
+    public int pendingTimers() {
+        return wheel.pending();
+    }
+
+    private int transition(List<BookingSlot> due, BookingStatus target, LocalDateTime now) {
+        List<BookingSlot> moved = bookingRepository.updateStatuses(due, target);
+        if (moved.isEmpty()) {
+            return 0;
+        }
+        roomOccupancy.release(moved.stream().map(BookingSlot::id).toList());
+        String reason = target == BookingStatus.EXPIRED
+                ? "Pending booking expired without a decision"
+                : "Booking ended";
+        bookingHistoryWriter.writeAll(moved.stream()
+                .map(slot -> BookingHistory.builder()
+                        .booking(Booking.builder().id(slot.id()).build())
+                        .action(target.name())
+                        .reason(reason)
+                        .actionTime(now)
+                        .build())
+                .toList());
+        BookingEventType eventType = BookingEventType.valueOf(target.name());
+        bookingOutboxRepository.insertAll(moved.stream()
+                .map(slot -> BookingOutboxEvent.builder()
+                        .eventType(eventType)
+                        .bookingId(slot.id())
+                        .roomId(slot.roomId())
+                        .userId(slot.userId())
+                        .startTime(slot.startTime())
+                        .endTime(slot.endTime())
+                        .createdAt(now)
+                        .build())
+                .toList());
+        bookingMetrics.timedTransitions(target, moved.size());
+        return moved.size();
+    }
+
+    /** When the booking's next time-driven transition is due, or null if it has none */
+    private LocalDateTime dueAt(BookingSlot slot) {
+        if (slot.status() == BookingStatus.PENDING) {
+            LocalDateTime holdEnds = slot.createdAt().plus(pendingHold);
+            return slot.startTime().isBefore(holdEnds) ? slot.startTime() : holdEnds;
+        }
+        return slot.status() == BookingStatus.APPROVED ? slot.endTime() : null;
+    }
+
+    private void schedule(BookingSlot slot) {
+        LocalDateTime due = dueAt(slot);
+        if (due != null) {
+            schedule(slot.id(), slot.status() == BookingStatus.PENDING ? Transition.EXPIRE : Transition.COMPLETE, due);
+        }
+    }
+
+    private void schedule(Long bookingId, Transition transition, LocalDateTime due) {
+        wheel.schedule(new BookingTimer(bookingId, transition), Duration.between(LocalDateTime.now(), due));
+    }
+
+    private void fire(List<BookingTimer> expired) {
+        for (int from = 0; from < expired.size(); from += batchSize) {
+            List<BookingTimer> batch = expired.subList(from, Math.min(expired.size(), from + batchSize));
+            try {
+                applyDue(batch);
+            } catch (RuntimeException e) {
+                log.error("Could not apply {} booking transitions, retrying in a minute", batch.size(), e);
+                batch.forEach(timer -> wheel.schedule(timer, Duration.ofMinutes(1)));
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || wheel.isRunning()) {
+            return;
+        }
+        long started = System.nanoTime();
+        int scheduled = rebuild();
+        log.info("Scheduled {} booking transitions in {} ms", scheduled,
+                Duration.ofNanos(System.nanoTime() - started).toMillis());
+        wheel.start("booking-transition-wheel");
+    }
+
+    @Override
+    public void stop() {
+        wheel.stop();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return wheel.isRunning();
+    }
+}
@@ -0,0 +1,118 @@
+package com.sprints.room_booking_system.service.impl;
+
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Runs one read-only query per partition on virtual threads and merges the results as they arrive.
+ * <p>
+ * At most {@code app.rooms.search.max-concurrency} partitions hold a connection at a time, so a large
+ * campus cannot drain the pool. Once enough results are collected (or the timeout passes) the
+ * remaining partitions are cancelled; every task has finished or been cancelled before
+ * {@link #search} returns. Interrupting a thread does not stop a running JDBC call, so each partition
+ * transaction also gets a timeout of what is left of {@code app.rooms.search.timeout}, which Spring
+ * applies to the statements as a query timeout. The caller's observation context is carried into
+ * each task so partition queries show up under the request span.
+ */
+@Slf4j
+@Component
+public class PartitionedSearchExecutor {
+
+    /** Results of the partitions that finished; {@code complete} is false if the search timed out first */
+    public record Result<R>(List<R> found, boolean complete) {
+    }
+
+    private final PlatformTransactionManager transactionManager;
+    private final Semaphore connectionBudget;
+    private final Duration timeout;
+    private final ContextSnapshotFactory contextSnapshots = ContextSnapshotFactory.builder().build();
+
+    public PartitionedSearchExecutor(PlatformTransactionManager transactionManager,
+                                     @Value("${app.rooms.search.max-concurrency:4}") int maxConcurrency,
+                                     @Value("${app.rooms.search.timeout:2s}") Duration timeout) {
+        this.transactionManager = transactionManager;
+        this.connectionBudget = new Semaphore(maxConcurrency);
+        this.timeout = timeout;
+    }
+
+    /**
+     * Collect results from the partitions until at least {@code wanted} are found or all partitions are done.
+     * May return more than {@code wanted}; on timeout returns what was found so far, marked incomplete.
+     */
+    public <P, R> Result<R> search(List<P> partitions, int wanted, Function<P, List<R>> partitionQuery) {
+        List<R> found = new ArrayList<>();
+        if (partitions.isEmpty() || wanted <= 0) {
+            return new Result<>(found, true);
+        }
+        boolean complete = true;
+        long deadline = System.nanoTime() + timeout.toNanos();
+        ContextSnapshot context = contextSnapshots.captureAll();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletionService<List<R>> completed = new ExecutorCompletionService<>(executor);
+            List<Future<List<R>>> tasks = new ArrayList<>(partitions.size());
+            for (P partition : partitions) {
+                tasks.add(completed.submit(context.wrap(() -> queryPartition(partition, partitionQuery, deadline))));
+            }
+            try {
+                for (int done = 0; done < partitions.size() && found.size() < wanted; done++) {
+                    Future<List<R>> next = completed.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        log.warn("Partitioned search timed out after {} with {}/{} partitions done",
+                                timeout, done, partitions.size());
+                        complete = false;
+                        break;
+                    }
+                    found.addAll(next.get());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                complete = false;
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new IllegalStateException("Partition query failed", e.getCause());
+            } finally {
+                tasks.forEach(task -> task.cancel(true));
+            }
+        }
+        return new Result<>(found, complete);
+    }
+
+    private <P, R> List<R> queryPartition(P partition, Function<P, List<R>> partitionQuery, long deadline)
+            throws InterruptedException {
+        connectionBudget.acquire();
+        try {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return List.of();
+            }
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            // Whole seconds only; rounded up so a sub-second remainder still gets a bound
+            transaction.setTimeout((int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(remaining + 999_999_999L)));
+            return transaction.execute(status -> partitionQuery.apply(partition));
+        } finally {
+            connectionBudget.release();
+        }
+    }
+}
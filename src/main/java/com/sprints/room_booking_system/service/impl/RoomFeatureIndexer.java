@@ -0,0 +1,110 @@
+package com.sprints.room_booking_system.service.impl;
+
+import com.sprints.room_booking_system.model.Room;
+import com.sprints.room_booking_system.model.RoomFeature;
+import com.sprints.room_booking_system.search.RoomFeatureIndex;
+import com.sprints.room_booking_system.search.SearchIndexer;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Holds the {@link RoomFeatureIndex} used by feature searches. Loaded from the database at startup
+ * and every {@code app.search.rooms.rebuild-interval}; committed JPA writes of rooms and features keep
+ * it current in between. Callers re-check the rooms they load, so a briefly stale index can only
+ * leave a room out of a result, never put a wrong one in.
+ */
+@Slf4j
+@Component
+public class RoomFeatureIndexer implements SearchIndexer {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int[] capacityThresholds;
+    private volatile RoomFeatureIndex index = new RoomFeatureIndex();
+
+    public RoomFeatureIndexer(JdbcTemplate jdbcTemplate,
+                              @Value("${app.search.rooms.capacity-facets:10,25,50,100}") int[] capacityThresholds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.capacityThresholds = IntStream.of(capacityThresholds).sorted().distinct().toArray();
+    }
+
+    /**
+     * Ids of the active rooms matching the feature, building and capacity filters, see
+     * {@link RoomFeatureIndex#match}
+     */
+    public BitSet match(Collection<Long> allFeatureIds, Collection<Long> anyFeatureIds, Collection<Long> noneFeatureIds,
+                        Long buildingId, Integer minCapacity) {
+        return index.match(allFeatureIds, anyFeatureIds, noneFeatureIds, buildingId, minCapacity);
+    }
+
+    /**
+     * Feature, building and capacity facet counts over {@code roomIds}, capacity counted at the
+     * {@code app.search.rooms.capacity-facets} thresholds
+     */
+    public RoomFeatureIndex.Facets facets(BitSet roomIds) {
+        return index.facets(roomIds, capacityThresholds);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.search.rooms.rebuild-interval:10m}",
+            initialDelayString = "${app.search.rooms.rebuild-interval:10m}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * Reload the index from the database; returns the number of rooms
+     */
+    public int rebuild() {
+        Map<Long, List<Long>> features = new HashMap<>();
+        jdbcTemplate.query("SELECT room_id, feature_id FROM room_room_feature",
+                (RowCallbackHandler) rs -> features.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>()).add(rs.getLong(2)));
+        RoomFeatureIndex fresh = new RoomFeatureIndex();
+        jdbcTemplate.query("SELECT id, building_id, capacity, is_active FROM rooms",
+                (RowCallbackHandler) rs -> fresh.put(rs.getLong(1), rs.getObject(2, Long.class), rs.getInt(3),
+                        rs.getBoolean(4), features.getOrDefault(rs.getLong(1), List.of())));
+        index = fresh;
+        log.debug("Room feature index rebuilt with {} rooms", fresh.size());
+        return fresh.size();
+    }
+
+    @Override
+    public boolean indexes(Class<?> entityType) {
+        return entityType == Room.class || entityType == RoomFeature.class;
+    }
+
+    @Override
+    public void indexed(Object entity) {
+        if (entity instanceof Room room) {
+            // An update that never loaded the features leaves them as indexed
+            List<Long> featureIds = room.getFeatures() != null && Hibernate.isInitialized(room.getFeatures())
+                    ? room.getFeatures().stream().map(RoomFeature::getId).toList()
+                    : null;
+            index.put(room.getId(), room.getBuilding() != null ? room.getBuilding().getId() : null,
+                    room.getCapacity(), Boolean.TRUE.equals(room.getIsActive()), featureIds);
+        }
+    }
+
+    @Override
+    public void removed(Object entity) {
+        if (entity instanceof Room room) {
+            index.remove(room.getId());
+        } else if (entity instanceof RoomFeature feature) {
+            index.removeFeature(feature.getId());
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.sprints.room_booking_system.service.impl;
+
+import com.sprints.room_booking_system.exception.BookingConflictException;
+import com.sprints.room_booking_system.exception.InvalidBookingDateException;
+import com.sprints.room_booking_system.repository.RoomSlotRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Keeps {@code room_slots} in step with the active bookings when {@code app.bookings.occupancy.enabled}
+ * is set. Every PENDING or APPROVED booking holds one row per {@code app.bookings.occupancy.slot} of
+ * its time range, so a double booking is refused by the primary key instead of a range query under a
+ * room lock. Bookings must then start and end on slot boundaries.
+ * <p>
+ * The slots only become authoritative once {@link RoomOccupancyReconciler} has completed a run after
+ * startup, since active bookings made before the feature was enabled hold no slots until then; in
+ * the meantime conflict checks keep using the range query. All writes do nothing while the feature
+ * is disabled.
+ */
+@Component
+public class RoomOccupancy {
+
+    private static final long SECONDS_PER_DAY = Duration.ofDays(1).toSeconds();
+
+    private final RoomSlotRepository roomSlotRepository;
+    private final boolean enabled;
+    private final Duration slot;
+    private volatile boolean reconciled;
+
+    public RoomOccupancy(RoomSlotRepository roomSlotRepository,
+                         @Value("${app.bookings.occupancy.enabled:false}") boolean enabled,
+                         @Value("${app.bookings.occupancy.slot:15m}") Duration slot) {
+        if (slot.toSeconds() <= 0 || SECONDS_PER_DAY % slot.toSeconds() != 0) {
+            throw new IllegalArgumentException("app.bookings.occupancy.slot must divide a day into whole seconds: " + slot);
+        }
+        this.roomSlotRepository = roomSlotRepository;
+        this.enabled = enabled;
+        this.slot = slot;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether every active booking holds its slots, so a slot check alone decides a conflict
+     */
+    public boolean isAuthoritative() {
+        return enabled && reconciled;
+    }
+
+    void markReconciled() {
+        reconciled = true;
+    }
+
+    /**
+     * Reject a time range that does not start and end on a slot boundary
+     */
+    public void requireAligned(LocalDateTime startTime, LocalDateTime endTime) {
+        if (!floor(startTime).equals(startTime) || !floor(endTime).equals(endTime)) {
+            throw new InvalidBookingDateException("Bookings must start and end on a " + slot.toMinutes() + " minute boundary");
+        }
+    }
+
+    /**
+     * Start of every slot that the range [startTime, endTime) touches
+     */
+    public List<LocalDateTime> slotsOf(LocalDateTime startTime, LocalDateTime endTime) {
+        List<LocalDateTime> slots = new ArrayList<>();
+        for (LocalDateTime slotStart = floor(startTime); slotStart.isBefore(endTime); slotStart = slotStart.plus(slot)) {
+            slots.add(slotStart);
+        }
+        return slots;
+    }
+
+    /**
+     * Claim the booking's slots in one batch; throws {@link BookingConflictException} if any is taken
+     */
+    public void occupy(Long bookingId, Long roomId, LocalDateTime startTime, LocalDateTime endTime) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            roomSlotRepository.occupy(bookingId, roomId, slotsOf(startTime, endTime));
+        } catch (DuplicateKeyException e) {
+            throw new BookingConflictException("Room is not available for the specified time period", e);
+        }
+    }
+
+    public void release(Long bookingId) {
+        release(List.of(bookingId));
+    }
+
+    public void release(Collection<Long> bookingIds) {
+        if (enabled) {
+            roomSlotRepository.release(bookingIds);
+        }
+    }
+
+    /**
+     * Check the room's slots for the range with a primary key lookup
+     */
+    public boolean isFree(Long roomId, LocalDateTime startTime, LocalDateTime endTime) {
+        return !roomSlotRepository.isOccupied(roomId, floor(startTime), endTime);
+    }
+
+    private LocalDateTime floor(LocalDateTime time) {
+        long slotSeconds = slot.toSeconds();
+        long secondOfDay = time.toLocalTime().toSecondOfDay();
+        return time.truncatedTo(ChronoUnit.DAYS).plusSeconds(secondOfDay - secondOfDay % slotSeconds);
+    }
+}
@@ -0,0 +1,130 @@
+package com.sprints.room_booking_system.service.impl;
+
+import com.sprints.room_booking_system.metrics.BookingMetrics;
+import com.sprints.room_booking_system.model.RoomSlot;
+import com.sprints.room_booking_system.repository.BookingRepository;
+import com.sprints.room_booking_system.repository.BookingSlot;
+import com.sprints.room_booking_system.repository.RoomSlotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Reconciles {@code room_slots} against {@code bookings}: frees slots whose booking is gone or no
+ * longer active, and re-claims the slots of active bookings whose rows are missing or out of date
+ * (for example bookings made before occupancy was enabled). A booking whose slots are held by
+ * another booking is left alone and reported as unresolved.
+ * <p>
+ * Runs once when the application is ready and then on {@code app.bookings.occupancy.reconcile-cron};
+ * the first completed run makes the slots authoritative for conflict checks.
+ */
+@Slf4j
+@Component
+public class RoomOccupancyReconciler {
+
+    public record Reconciliation(int stale, int repaired, int unresolved) {
+    }
+
+    private final BookingRepository bookingRepository;
+    private final RoomSlotRepository roomSlotRepository;
+    private final RoomOccupancy roomOccupancy;
+    private final BookingMetrics bookingMetrics;
+    private final TransactionTemplate transaction;
+    private final int pageSize;
+
+    public RoomOccupancyReconciler(BookingRepository bookingRepository,
+                                   RoomSlotRepository roomSlotRepository,
+                                   RoomOccupancy roomOccupancy,
+                                   BookingMetrics bookingMetrics,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${app.bookings.occupancy.reconcile-page-size:1000}") int pageSize) {
+        this.bookingRepository = bookingRepository;
+        this.roomSlotRepository = roomSlotRepository;
+        this.roomOccupancy = roomOccupancy;
+        this.bookingMetrics = bookingMetrics;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.pageSize = pageSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.bookings.occupancy.reconcile-cron:0 15 * * * *}")
+    public void scheduledReconcile() {
+        if (roomOccupancy.isEnabled()) {
+            reconcile();
+        }
+    }
+
+    public Reconciliation reconcile() {
+        Integer stale = transaction.execute(status -> roomSlotRepository.releaseStale());
+        int repaired = 0;
+        int unresolved = 0;
+        long afterId = 0;
+        List<BookingSlot> page;
+        do {
+            page = bookingRepository.findActiveSlotsAfter(afterId, PageRequest.of(0, pageSize));
+            if (page.isEmpty()) {
+                break;
+            }
+            Map<Long, Set<RoomSlot>> held = roomSlotRepository
+                    .findByBookingIdIn(page.stream().map(BookingSlot::id).toList()).stream()
+                    .collect(Collectors.groupingBy(RoomSlot::getBookingId, Collectors.toSet()));
+            for (BookingSlot booking : page) {
+                afterId = booking.id();
+                if (expected(booking).equals(held.getOrDefault(booking.id(), Set.of()))) {
+                    continue;
+                }
+                if (repair(booking)) {
+                    repaired++;
+                } else {
+                    unresolved++;
+                }
+            }
+        } while (page.size() == pageSize);
+
+        Reconciliation result = new Reconciliation(stale == null ? 0 : stale, repaired, unresolved);
+        roomOccupancy.markReconciled();
+        bookingMetrics.occupancyReconciled(result.stale(), result.repaired(), result.unresolved());
+        if (result.stale() + result.repaired() + result.unresolved() > 0) {
+            log.warn("Room occupancy reconciled: {} stale slots freed, {} bookings repaired, {} unresolved",
+                    result.stale(), result.repaired(), result.unresolved());
+        }
+        return result;
+    }
+
+    private Set<RoomSlot> expected(BookingSlot booking) {
+        Set<RoomSlot> slots = new HashSet<>();
+        for (LocalDateTime slotStart : roomOccupancy.slotsOf(booking.startTime(), booking.endTime())) {
+            slots.add(new RoomSlot(booking.roomId(), slotStart, booking.id()));
+        }
+        return slots;
+    }
+
+    /** Replace the booking's slots in a transaction of its own; false if another booking holds one of them */
+    private boolean repair(BookingSlot booking) {
+        try {
+            transaction.executeWithoutResult(status -> {
+                roomSlotRepository.release(List.of(booking.id()));
+                roomSlotRepository.occupy(booking.id(), booking.roomId(),
+                        roomOccupancy.slotsOf(booking.startTime(), booking.endTime()));
+            });
+            return true;
+        } catch (DuplicateKeyException e) {
+            log.warn("Slots of booking {} in room {} are held by another booking", booking.id(), booking.roomId());
+            return false;
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package com.sprints.room_booking_system.service.impl;
 
+import com.sprints.room_booking_system.dto.FacetCountDto;
+import com.sprints.room_booking_system.dto.RoomAvailabilityResultDto;
 import com.sprints.room_booking_system.dto.RoomDto;
+import com.sprints.room_booking_system.dto.RoomFacetedSearchResultDto;
+import com.sprints.room_booking_system.dto.RoomSearchDto;
+import com.sprints.room_booking_system.jfr.RoomAvailabilitySearchEvent;
 import com.sprints.room_booking_system.model.Building;
 import com.sprints.room_booking_system.model.Room;
 import com.sprints.room_booking_system.model.RoomFeature;
@@ -8,25 +13,38 @@ import com.sprints.room_booking_system.repository.BuildingRepository;
 import com.sprints.room_booking_system.repository.RoomFeatureRepository;
 import com.sprints.room_booking_system.repository.RoomRepository;
 import com.sprints.room_booking_system.repository.BookingRepository;
+import com.sprints.room_booking_system.search.RoomFeatureIndex;
 import com.sprints.room_booking_system.service.RoomService;
+import com.sprints.room_booking_system.tracing.SpanAttributes;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Observed(name = "room.service")
 public class RoomServiceImpl implements RoomService {
     
     private final RoomRepository roomRepository;
     private final BuildingRepository buildingRepository;
     private final RoomFeatureRepository roomFeatureRepository;
     private final BookingRepository bookingRepository;
+    private final SpanAttributes spanAttributes;
+    private final PartitionedSearchExecutor partitionedSearch;
+    private final RoomFeatureIndexer roomFeatureIndexer;
     
     @Override
     public RoomDto createRoom(RoomDto roomDto) {
@@ -37,7 +55,7 @@ public class RoomServiceImpl implements RoomService {
         // Set features if provided
         List<RoomFeature> features = roomDto.getFeatureIds() != null && !roomDto.getFeatureIds().isEmpty()
                 ? roomFeatureRepository.findByIdIn(roomDto.getFeatureIds())
-                : null;
+                : new ArrayList<>();
 
 
         Room room = Room.builder()
@@ -55,6 +73,7 @@ public class RoomServiceImpl implements RoomService {
     
     @Override
     public RoomDto updateRoom(Long roomId, RoomDto roomDto) {
+        spanAttributes.roomId(roomId);
         Room existingRoom = roomRepository.findById(roomId)
                 .orElseThrow(() -> new IllegalArgumentException("Room not found with ID: " + roomId));
 
@@ -113,7 +132,11 @@ public class RoomServiceImpl implements RoomService {
     @Override
     @Transactional(readOnly = true)
     public List<RoomDto> findAvailableRooms(LocalDateTime startTime, LocalDateTime endTime) {
-        return roomRepository.findAvailableRooms(startTime, endTime).stream().map(this::toDto).collect(Collectors.toList());
+        RoomAvailabilitySearchEvent event = new RoomAvailabilitySearchEvent();
+        event.begin();
+        List<RoomDto> rooms = roomRepository.findAvailableRooms(startTime, endTime).stream().map(this::toDto).collect(Collectors.toList());
+        event.complete(0, rooms.size());
+        return rooms;
     }
     
     @Override
@@ -123,11 +146,80 @@ public class RoomServiceImpl implements RoomService {
             return findAvailableRooms(startTime, endTime);
         }
 
-        return roomRepository.findAvailableRoomsWithFeatures(startTime, endTime, featureIds).stream().map(this::toDto).collect(Collectors.toList());
+        RoomAvailabilitySearchEvent event = new RoomAvailabilitySearchEvent();
+        event.begin();
+        List<RoomDto> rooms = roomRepository.findAvailableRoomsWithFeatures(startTime, endTime, featureIds).stream().map(this::toDto).collect(Collectors.toList());
+        event.complete(featureIds.size(), rooms.size());
+        return rooms;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<RoomDto> searchAvailableRooms(RoomSearchDto search) {
+        RoomAvailabilitySearchEvent event = new RoomAvailabilitySearchEvent();
+        event.begin();
+        BitSet candidates = freeMatches(search);
+        List<RoomDto> rooms = loadMatching(candidates.stream().mapToObj(Long::valueOf).toList(), search);
+        event.complete(featureCount(search), rooms.size());
+        return rooms;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public RoomFacetedSearchResultDto searchAvailableRoomsWithFacets(RoomSearchDto search, int limit) {
+        RoomAvailabilitySearchEvent event = new RoomAvailabilitySearchEvent();
+        event.begin();
+        BitSet candidates = freeMatches(search);
+        RoomFeatureIndex.Facets facets = roomFeatureIndexer.facets(candidates);
+        List<RoomDto> rooms = loadMatching(candidates.stream().limit(limit).mapToObj(Long::valueOf).toList(), search);
+
+        Map<Long, String> featureNames = facets.features().isEmpty() ? Map.of()
+                : roomFeatureRepository.findByIdIn(new ArrayList<>(facets.features().keySet())).stream()
+                        .collect(Collectors.toMap(RoomFeature::getId, RoomFeature::getName));
+        Map<Long, String> buildingNames = facets.buildings().isEmpty() ? Map.of()
+                : buildingRepository.findAllById(facets.buildings().keySet()).stream()
+                        .collect(Collectors.toMap(Building::getId, Building::getName));
+        List<FacetCountDto> capacities = new ArrayList<>();
+        for (int i = 0; i < facets.capacityThresholds().length; i++) {
+            if (facets.capacityAtLeast()[i] > 0) {
+                int threshold = facets.capacityThresholds()[i];
+                capacities.add(new FacetCountDto((long) threshold, threshold + "+", facets.capacityAtLeast()[i]));
+            }
+        }
+        event.complete(featureCount(search), rooms.size());
+        return RoomFacetedSearchResultDto.builder()
+                .rooms(rooms)
+                .total(candidates.cardinality())
+                .features(facetCounts(facets.features(), featureNames))
+                .buildings(facetCounts(facets.buildings(), buildingNames))
+                .capacities(capacities)
+                .build();
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RoomAvailabilityResultDto findAnyAvailableRooms(LocalDateTime startTime, LocalDateTime endTime, int limit) {
+        RoomAvailabilitySearchEvent event = new RoomAvailabilitySearchEvent();
+        event.begin();
+        // One partition per building; each maps its rooms inside its own read-only transaction
+        PartitionedSearchExecutor.Result<RoomDto> found = partitionedSearch.search(
+                roomRepository.findBuildingIdsWithActiveRooms(), limit,
+                buildingId -> roomRepository.findAvailableRoomsInBuilding(buildingId, startTime, endTime)
+                        .stream().map(this::toDto).collect(Collectors.toList()));
+        List<RoomDto> rooms = found.found().stream()
+                .sorted(Comparator.comparing(RoomDto::getId))
+                .limit(limit)
+                .collect(Collectors.toList());
+        event.complete(0, rooms.size());
+        return RoomAvailabilityResultDto.builder()
+                .rooms(rooms)
+                .truncated(!found.complete() && rooms.size() < limit)
+                .build();
     }
     
     @Override
     public void deactivateRoom(Long roomId) {
+        spanAttributes.roomId(roomId);
         Room room = roomRepository.findById(roomId)
                 .orElseThrow(() -> new IllegalArgumentException("Room not found with ID: " + roomId));
         
@@ -138,6 +230,7 @@ public class RoomServiceImpl implements RoomService {
     @Override
     @Transactional(readOnly = true)
     public boolean isRoomAvailable(Long roomId, LocalDateTime startTime, LocalDateTime endTime) {
+        spanAttributes.roomId(roomId);
         // Check if room exists and is active
         Optional<Room> roomOpt = roomRepository.findById(roomId);
         if (roomOpt.isEmpty() || !roomOpt.get().getIsActive()) {
@@ -148,8 +241,59 @@ public class RoomServiceImpl implements RoomService {
         return !bookingRepository.hasOverlappingBookings(roomId, startTime, endTime);
     }
 
+    /** Active rooms matching the filters from the feature/building/capacity bitsets, minus the rooms booked in the range */
+    private BitSet freeMatches(RoomSearchDto search) {
+        BitSet candidates = roomFeatureIndexer.match(search.getAllFeatureIds(), search.getAnyFeatureIds(),
+                search.getNoneFeatureIds(), search.getBuildingId(), search.getMinCapacity());
+        if (!candidates.isEmpty()) {
+            candidates.andNot(RoomFeatureIndex.bits(roomRepository.findBusyRoomIds(search.getStartTime(), search.getEndTime())));
+        }
+        return candidates;
+    }
+
+    private List<RoomDto> loadMatching(List<Long> roomIds, RoomSearchDto search) {
+        if (roomIds.isEmpty()) {
+            return List.of();
+        }
+        return roomRepository.findWithBuildingAndFeaturesByIdIn(roomIds).stream()
+                .filter(room -> matches(room, search))
+                .sorted(Comparator.comparing(Room::getId))
+                .map(this::toDto)
+                .collect(Collectors.toList());
+    }
+
+    /** Most frequent first, then by name */
+    private static List<FacetCountDto> facetCounts(Map<Long, Integer> counts, Map<Long, String> names) {
+        return counts.entrySet().stream()
+                .map(count -> new FacetCountDto(count.getKey(), names.get(count.getKey()), count.getValue()))
+                .sorted(Comparator.comparing(FacetCountDto::getCount).reversed()
+                        .thenComparing(FacetCountDto::getLabel, Comparator.nullsLast(Comparator.naturalOrder())))
+                .collect(Collectors.toList());
+    }
+
+    /** The index may lag a just-committed write; check the loaded room itself */
+    private static boolean matches(Room room, RoomSearchDto search) {
+        List<Long> featureIds = room.getFeatures().stream().map(RoomFeature::getId).toList();
+        return room.getIsActive()
+                && (search.getBuildingId() == null || search.getBuildingId().equals(room.getBuilding().getId()))
+                && (search.getMinCapacity() == null || room.getCapacity() >= search.getMinCapacity())
+                && (search.getAllFeatureIds() == null || featureIds.containsAll(search.getAllFeatureIds()))
+                && (search.getAnyFeatureIds() == null || search.getAnyFeatureIds().isEmpty()
+                        || search.getAnyFeatureIds().stream().anyMatch(featureIds::contains))
+                && (search.getNoneFeatureIds() == null || search.getNoneFeatureIds().stream().noneMatch(featureIds::contains));
+    }
+
+    private static int featureCount(RoomSearchDto search) {
+        return size(search.getAllFeatureIds()) + size(search.getAnyFeatureIds()) + size(search.getNoneFeatureIds());
+    }
+
+    private static int size(Collection<Long> ids) {
+        return ids == null ? 0 : ids.size();
+    }
+
     private RoomDto toDto(Room room) {
         return RoomDto.builder()
+                .id(room.getId())
                 .name(room.getName())
                 .capacity(room.getCapacity())
                 .floorNumber(room.getFloorNumber())
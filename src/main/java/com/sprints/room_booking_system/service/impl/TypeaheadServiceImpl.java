@@ -0,0 +1,114 @@
+package com.sprints.room_booking_system.service.impl;
+
+import com.sprints.room_booking_system.dto.TypeaheadResultDto;
+import com.sprints.room_booking_system.model.Building;
+import com.sprints.room_booking_system.model.Room;
+import com.sprints.room_booking_system.model.RoomFeature;
+import com.sprints.room_booking_system.model.User;
+import com.sprints.room_booking_system.search.TypeaheadIndex;
+import com.sprints.room_booking_system.search.TypeaheadIndex.Kind;
+import com.sprints.room_booking_system.service.TypeaheadService;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Serves typeahead from a {@link TypeaheadIndex} loaded from the database at startup and reloaded
+ * every {@code app.search.typeahead.rebuild-interval}. JPA writes keep it current in between
+ * (see {@code SearchIndexListener}); the reload catches rows written with plain SQL, such as the
+ * seed generator's, and writes that raced the previous reload.
+ */
+@Slf4j
+@Service
+public class TypeaheadServiceImpl implements TypeaheadService {
+
+    private static final Set<Class<?>> INDEXED = Set.of(Room.class, Building.class, RoomFeature.class, User.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxLimit;
+    private volatile TypeaheadIndex index = new TypeaheadIndex();
+
+    public TypeaheadServiceImpl(JdbcTemplate jdbcTemplate,
+                                @Value("${app.search.typeahead.max-limit:50}") int maxLimit) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxLimit = maxLimit;
+    }
+
+    @Override
+    public List<TypeaheadResultDto> search(String query, Collection<Kind> types, int limit) {
+        return index.search(query, types, Math.min(limit, maxLimit)).stream()
+                .map(hit -> TypeaheadResultDto.builder()
+                        .type(hit.kind())
+                        .id(hit.id())
+                        .label(hit.label())
+                        .detail(hit.detail())
+                        .build())
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.search.typeahead.rebuild-interval:10m}",
+            initialDelayString = "${app.search.typeahead.rebuild-interval:10m}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    @Override
+    public int rebuild() {
+        TypeaheadIndex fresh = new TypeaheadIndex();
+        jdbcTemplate.query("SELECT r.id, r.name, b.name FROM rooms r LEFT JOIN buildings b ON b.id = r.building_id",
+                (RowCallbackHandler) rs -> fresh.put(Kind.ROOM, rs.getLong(1), rs.getString(2), rs.getString(3)));
+        jdbcTemplate.query("SELECT id, name, location FROM buildings",
+                (RowCallbackHandler) rs -> fresh.put(Kind.BUILDING, rs.getLong(1), rs.getString(2), rs.getString(3)));
+        jdbcTemplate.query("SELECT id, name FROM room_features",
+                (RowCallbackHandler) rs -> fresh.put(Kind.FEATURE, rs.getLong(1), rs.getString(2), null));
+        jdbcTemplate.query("SELECT id, name, email FROM users",
+                (RowCallbackHandler) rs -> fresh.put(Kind.USER, rs.getLong(1), rs.getString(2), rs.getString(3)));
+        index = fresh;
+        log.debug("Typeahead index rebuilt with {} entries", fresh.size());
+        return fresh.size();
+    }
+
+    @Override
+    public boolean indexes(Class<?> entityType) {
+        return INDEXED.contains(entityType);
+    }
+
+    @Override
+    public void indexed(Object entity) {
+        if (entity instanceof Room room) {
+            Building building = room.getBuilding();
+            index.put(Kind.ROOM, room.getId(), room.getName(),
+                    building != null && Hibernate.isInitialized(building) ? building.getName() : null);
+        } else if (entity instanceof Building building) {
+            index.put(Kind.BUILDING, building.getId(), building.getName(), building.getLocation());
+        } else if (entity instanceof RoomFeature feature) {
+            index.put(Kind.FEATURE, feature.getId(), feature.getName(), null);
+        } else if (entity instanceof User user) {
+            index.put(Kind.USER, user.getId(), user.getName(), user.getEmail());
+        }
+    }
+
+    @Override
+    public void removed(Object entity) {
+        if (entity instanceof Room room) {
+            index.remove(Kind.ROOM, room.getId());
+        } else if (entity instanceof Building building) {
+            index.remove(Kind.BUILDING, building.getId());
+        } else if (entity instanceof RoomFeature feature) {
+            index.remove(Kind.FEATURE, feature.getId());
+        } else if (entity instanceof User user) {
+            index.remove(Kind.USER, user.getId());
+        }
+    }
+}
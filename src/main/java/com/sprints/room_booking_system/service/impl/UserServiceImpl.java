@@ -7,6 +7,7 @@ import com.sprints.room_booking_system.model.UserRole;
 import com.sprints.room_booking_system.repository.DepartmentRepository;
 import com.sprints.room_booking_system.repository.UserRepository;
 import com.sprints.room_booking_system.service.UserService;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -19,6 +20,7 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Observed(name = "user.service")
 public class UserServiceImpl implements UserService {
     
     private final UserRepository userRepository;
@@ -156,6 +158,7 @@ public class UserServiceImpl implements UserService {
 
     private UserDto toDto(User user) {
         return UserDto.builder()
+                .id(user.getId())
                 .name(user.getName())
                 .email(user.getEmail())
                 .password(user.getPassword())
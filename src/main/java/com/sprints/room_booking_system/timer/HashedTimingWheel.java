@@ -0,0 +1,228 @@
+package com.sprints.room_booking_system.timer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Hashed timing wheel (Varghese and Lauck) for large numbers of coarse timers.
+ * <p>
+ * {@link #schedule} is O(1) and safe from any thread: timers are queued and moved into their
+ * bucket by the worker on the next tick. A bucket holds every timer whose deadline hashes to it;
+ * timers more than one revolution away carry a round count and are skipped until it reaches zero.
+ * Each tick hands all expired payloads to the handler in one list, so callers can process them in
+ * batches. Deadlines are honoured with tick granularity and never fire early.
+ */
+@Slf4j
+public class HashedTimingWheel<T> {
+
+    private final long tickNanos;
+    private final Bucket<T>[] wheel;
+    private final int mask;
+    private final LongSupplier nanoClock;
+    private final long startNanos;
+    private final Consumer<List<T>> onExpired;
+    private final Queue<Timeout<T>> incoming = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /** Ticks processed so far; only touched by the thread that advances the wheel */
+    private long tick;
+    private volatile boolean running;
+    private Thread worker;
+
+    public HashedTimingWheel(Duration tickDuration, int wheelSize, Consumer<List<T>> onExpired) {
+        this(tickDuration, wheelSize, onExpired, System::nanoTime);
+    }
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(Duration tickDuration, int wheelSize, Consumer<List<T>> onExpired, LongSupplier nanoClock) {
+        if (tickDuration.isNegative() || tickDuration.isZero()) {
+            throw new IllegalArgumentException("Tick duration must be positive: " + tickDuration);
+        }
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.tickNanos = tickDuration.toNanos();
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket<>();
+        }
+        this.mask = size - 1;
+        this.onExpired = onExpired;
+        this.nanoClock = nanoClock;
+        this.startNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Run {@code task} once {@code delay} has passed (immediately on the next tick if not positive).
+     */
+    public Timeout<T> schedule(T task, Duration delay) {
+        long deadline = nanoClock.getAsLong() - startNanos + Math.max(0, delay.toNanos());
+        Timeout<T> timeout = new Timeout<>(task, deadline);
+        incoming.add(timeout);
+        pending.incrementAndGet();
+        return timeout;
+    }
+
+    /** Timers scheduled and neither expired nor cancelled */
+    public int pending() {
+        return pending.get();
+    }
+
+    /**
+     * Process every tick that has elapsed on the clock. Called by the worker; tests may call it
+     * directly on a wheel that was never started.
+     */
+    public void advance() {
+        long elapsed = nanoClock.getAsLong() - startNanos;
+        while ((tick + 1) * tickNanos <= elapsed) {
+            transferIncoming();
+            List<T> expired = new ArrayList<>();
+            int cancelled = wheel[(int) (tick & mask)].expire(tick * tickNanos + tickNanos, expired);
+            pending.addAndGet(-cancelled);
+            tick++;
+            if (!expired.isEmpty()) {
+                pending.addAndGet(-expired.size());
+                try {
+                    onExpired.accept(expired);
+                } catch (RuntimeException e) {
+                    log.error("Timer handler failed for {} expired timers", expired.size(), e);
+                }
+            }
+        }
+    }
+
+    public synchronized void start(String threadName) {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = Thread.ofPlatform().name(threadName).daemon().start(() -> {
+            while (running) {
+                long sleepNanos = (tick + 1) * tickNanos - (nanoClock.getAsLong() - startNanos);
+                if (sleepNanos > 0) {
+                    try {
+                        TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                advance();
+            }
+        });
+    }
+
+    public synchronized void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker = null;
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void transferIncoming() {
+        for (Timeout<T> timeout; (timeout = incoming.poll()) != null; ) {
+            if (timeout.cancelled) {
+                pending.decrementAndGet();
+                continue;
+            }
+            long deadlineTick = Math.max(tick, (timeout.deadlineNanos + tickNanos - 1) / tickNanos - 1);
+            timeout.remainingRounds = (deadlineTick - tick) / wheel.length;
+            wheel[(int) (deadlineTick & mask)].add(timeout);
+        }
+    }
+
+    /**
+     * Handle to a scheduled timer.
+     */
+    public static final class Timeout<T> {
+
+        private final T task;
+        private final long deadlineNanos;
+        private long remainingRounds;
+        private volatile boolean cancelled;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(T task, long deadlineNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        public T task() {
+            return task;
+        }
+
+        /** The timer is dropped when its bucket is next visited */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    /** Doubly linked list of timers, only accessed by the thread advancing the wheel */
+    private static final class Bucket<E> {
+
+        private Timeout<E> head;
+        private Timeout<E> tail;
+
+        void add(Timeout<E> timeout) {
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        /** Move due timers to {@code expired}; returns the number of cancelled timers dropped */
+        int expire(long tickEndNanos, List<E> expired) {
+            int cancelled = 0;
+            Timeout<E> timeout = head;
+            while (timeout != null) {
+                Timeout<E> next = timeout.next;
+                if (timeout.cancelled) {
+                    remove(timeout);
+                    cancelled++;
+                } else if (timeout.remainingRounds <= 0 && timeout.deadlineNanos <= tickEndNanos) {
+                    remove(timeout);
+                    expired.add(timeout.task);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+            return cancelled;
+        }
+
+        private void remove(Timeout<E> timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.sprints.room_booking_system.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Wraps a password encoder so hashing shows up as its own span.
+ * BCrypt is deliberately slow, and without this its cost is folded into the login or user creation span.
+ */
+public class ObservedPasswordEncoder implements PasswordEncoder {
+
+    private static final String OBSERVATION_NAME = "security.password";
+
+    private final PasswordEncoder delegate;
+    private final ObservationRegistry observationRegistry;
+
+    public ObservedPasswordEncoder(PasswordEncoder delegate, ObservationRegistry observationRegistry) {
+        this.delegate = delegate;
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return observation("encode").observe(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        Boolean matches = observation("matches").observe(() -> delegate.matches(rawPassword, encodedPassword));
+        return Boolean.TRUE.equals(matches);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private Observation observation(String operation) {
+        return Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+                .contextualName("password " + operation)
+                .lowCardinalityKeyValue("operation", operation);
+    }
+}
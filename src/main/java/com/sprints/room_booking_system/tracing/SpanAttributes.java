@@ -0,0 +1,44 @@
+package com.sprints.room_booking_system.tracing;
+
+import com.sprints.room_booking_system.model.BookingStatus;
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds domain identifiers to the observation that is currently open, which ends up as attributes
+ * on the active span. The values are high-cardinality, so they never reach the metric tags.
+ */
+@Component
+public class SpanAttributes {
+
+    public static final String ROOM_ID = "roomId";
+    public static final String BOOKING_ID = "bookingId";
+    public static final String STATUS = "status";
+
+    private final ObservationRegistry observationRegistry;
+
+    public SpanAttributes(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    public void roomId(Long roomId) {
+        put(ROOM_ID, roomId);
+    }
+
+    public void bookingId(Long bookingId) {
+        put(BOOKING_ID, bookingId);
+    }
+
+    public void status(BookingStatus status) {
+        put(STATUS, status);
+    }
+
+    private void put(String key, Object value) {
+        Observation observation = observationRegistry.getCurrentObservation();
+        if (observation != null && value != null) {
+            observation.highCardinalityKeyValue(KeyValue.of(key, value.toString()));
+        }
+    }
+}
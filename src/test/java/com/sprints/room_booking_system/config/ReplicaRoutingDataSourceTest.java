@@ -0,0 +1,95 @@
+package com.sprints.room_booking_system.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = node("primary");
+        replica = node("replica");
+        new JdbcTemplate(replica).execute("CREATE TABLE replication_lag (seconds DOUBLE)");
+        new JdbcTemplate(replica).update("INSERT INTO replication_lag VALUES (0.5)");
+    }
+
+    @Test
+    void testReadOnlyTransactionsUseTheReplica() {
+        ReplicaRoutingDataSource routing = routing(replica, "");
+
+        assertThat(readNode(routing, true)).isEqualTo("replica");
+        assertThat(readNode(routing, false)).isEqualTo("primary");
+        assertThat(new JdbcTemplate(new LazyConnectionDataSourceProxy(routing))
+                .queryForObject("SELECT name FROM node", String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    void testFallsBackToThePrimaryWhenTheReplicaIsDown() {
+        DataSource missing = h2("jdbc:h2:mem:" + UUID.randomUUID() + ";IFEXISTS=TRUE");
+        ReplicaRoutingDataSource routing = routing(missing, "");
+
+        assertThat(readNode(routing, true)).isEqualTo("primary");
+        assertThat(routing.isReplicaUsable()).isFalse();
+        assertThat(registry.get("datasource.replica.fallbacks").counter().count()).isEqualTo(1);
+
+        routing.checkReplica();
+        assertThat(readNode(routing, true)).isEqualTo("primary");
+        assertThat(registry.get("datasource.replica.fallbacks").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testSkipsTheReplicaWhileItLagsTooFarBehind() {
+        ReplicaRoutingDataSource routing = routing(replica, "SELECT seconds FROM replication_lag");
+        routing.checkReplica();
+        assertThat(readNode(routing, true)).isEqualTo("replica");
+
+        new JdbcTemplate(replica).update("UPDATE replication_lag SET seconds = 30");
+        routing.checkReplica();
+        assertThat(readNode(routing, true)).isEqualTo("primary");
+        assertThat(registry.get("datasource.replica.usable").gauge().value()).isZero();
+
+        new JdbcTemplate(replica).update("UPDATE replication_lag SET seconds = 1");
+        routing.checkReplica();
+        assertThat(readNode(routing, true)).isEqualTo("replica");
+    }
+
+    private ReplicaRoutingDataSource routing(DataSource replicaNode, String lagQuery) {
+        return new ReplicaRoutingDataSource(primary, replicaNode, Duration.ofSeconds(5), lagQuery, registry);
+    }
+
+    private static String readNode(ReplicaRoutingDataSource routing, boolean readOnly) {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private static DataSource node(String name) {
+        DataSource dataSource = h2("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+
+    private static DataSource h2(String url) {
+        return new SimpleDriverDataSource(new org.h2.Driver(), url, "sa", "");
+    }
+}
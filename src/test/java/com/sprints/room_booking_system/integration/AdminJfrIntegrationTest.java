@@ -0,0 +1,91 @@
+package com.sprints.room_booking_system.integration;
+
+import com.sprints.room_booking_system.jfr.JfrRecordingManager;
+import com.sprints.room_booking_system.service.RoomService;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class AdminJfrIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private JfrRecordingManager jfrRecordingManager;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Value("${app.jfr.dump-directory}")
+    private Path dumpDirectory;
+
+    @AfterEach
+    void stopRecording() {
+        try {
+            jfrRecordingManager.stop();
+        } catch (RuntimeException ignored) {
+            // not running
+        }
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testDumpContainsBookingDomainEvents() throws Exception {
+        mockMvc.perform(post("/api/v1/admin/jfr/start"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("RUNNING"));
+
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        roomService.findAvailableRooms(start, start.plusHours(1));
+
+        MvcResult result = mockMvc.perform(post("/api/v1/admin/jfr/dump"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", containsString(".jfr")))
+                .andReturn();
+
+        Path file = Files.createTempFile("room-booking-test", ".jfr");
+        try {
+            Files.write(file, result.getResponse().getContentAsByteArray());
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertThat(events)
+                    .anyMatch(event -> event.getEventType().getName().equals("room_booking.RoomAvailabilitySearch"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        String dumped = ContentDisposition.parse(result.getResponse().getHeader("Content-Disposition")).getFilename();
+        assertThat(dumpDirectory.resolve(dumped)).as("dump left on the server").doesNotExist();
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testDumpWithoutRecordingIsNotFound() throws Exception {
+        mockMvc.perform(post("/api/v1/admin/jfr/dump"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    void testNonAdminCannotStartRecording() throws Exception {
+        mockMvc.perform(post("/api/v1/admin/jfr/start"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/v1/admin/jfr"))
+                .andExpect(status().isForbidden());
+    }
+}
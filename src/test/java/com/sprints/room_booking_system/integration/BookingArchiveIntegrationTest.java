@@ -0,0 +1,167 @@
+package com.sprints.room_booking_system.integration;
+
+import com.sprints.room_booking_system.dto.BookingDto;
+import com.sprints.room_booking_system.model.*;
+import com.sprints.room_booking_system.repository.*;
+import com.sprints.room_booking_system.service.BookingService;
+import com.sprints.room_booking_system.service.impl.BookingArchiver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookingArchiveIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private BookingArchiver archiver;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingHistoryRepository bookingHistoryRepository;
+
+    @Autowired
+    private ArchivedBookingRepository archivedBookingRepository;
+
+    @Autowired
+    private ArchivedBookingHistoryRepository archivedBookingHistoryRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private BuildingRepository buildingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Room room;
+    private User user;
+
+    @BeforeEach
+    void setUpData() {
+        Building building = buildingRepository.save(Building.builder().name("Archive Hall").location("East").build());
+        room = roomRepository.save(Room.builder()
+                .name("Archive Room")
+                .capacity(12)
+                .floorNumber(2)
+                .building(building)
+                .features(new ArrayList<>())
+                .isActive(true)
+                .build());
+        user = userRepository.save(User.builder()
+                .name("Archive Student")
+                .email("archive.student@university.edu")
+                .password("secret")
+                .role(UserRole.STUDENT)
+                .isActive(true)
+                .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        archivedBookingHistoryRepository.deleteAll();
+        archivedBookingRepository.deleteAll();
+        bookingHistoryRepository.deleteAll();
+        bookingRepository.deleteAll();
+        roomRepository.deleteAll();
+        buildingRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testMovesOnlyOldFinishedBookingsInChunks() {
+        LocalDateTime longAgo = LocalDateTime.now().minusYears(1);
+        List<Booking> finished = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            finished.add(booking(i % 2 == 0 ? BookingStatus.COMPLETED : BookingStatus.CANCELLED, longAgo.plusDays(i)));
+        }
+        Booking recent = booking(BookingStatus.REJECTED, LocalDateTime.now().minusDays(1));
+        Booking stillPending = booking(BookingStatus.PENDING, longAgo);
+        ReflectionTestUtils.setField(archiver, "chunkSize", 2);
+
+        int archived;
+        try {
+            archived = archiver.archiveEndedBefore(LocalDateTime.now().minusDays(30));
+        } finally {
+            ReflectionTestUtils.setField(archiver, "chunkSize", 1000);
+        }
+
+        assertThat(archived).isEqualTo(5);
+        assertThat(bookingRepository.findAllById(finished.stream().map(Booking::getId).toList())).isEmpty();
+        assertThat(archivedBookingRepository.findAllById(finished.stream().map(Booking::getId).toList()))
+                .hasSize(5)
+                .allSatisfy(row -> {
+                    assertThat(row.getRoomId()).isEqualTo(room.getId());
+                    assertThat(row.getUserId()).isEqualTo(user.getId());
+                    assertThat(row.getArchivedAt()).isNotNull();
+                });
+        assertThat(bookingRepository.existsById(recent.getId())).isTrue();
+        assertThat(bookingRepository.existsById(stillPending.getId())).isTrue();
+        assertThat(archivedBookingHistoryRepository.count()).isEqualTo(5);
+        assertThat(bookingHistoryRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void testReadApisUnionTheArchive() {
+        Booking old = booking(BookingStatus.COMPLETED, LocalDateTime.now().minusYears(1));
+        Booking current = booking(BookingStatus.PENDING, LocalDateTime.now().plusDays(3));
+        archiver.archiveEndedBefore(LocalDateTime.now().minusDays(30));
+
+        assertThat(bookingService.findBookingsByUser(user.getId())).extracting(BookingDto::getId)
+                .containsExactly(current.getId());
+        assertThat(bookingService.findBookingsByUser(user.getId(), true)).extracting(BookingDto::getId)
+                .containsExactly(old.getId(), current.getId());
+        assertThat(bookingService.findBookingsByRoom(room.getId(), true)).extracting(BookingDto::getId)
+                .containsExactly(old.getId(), current.getId());
+        assertThat(bookingService.findBookingsByStatus(BookingStatus.COMPLETED, true)).extracting(BookingDto::getId)
+                .containsExactly(old.getId());
+        assertThat(bookingService.getBookingHistory(old.getId()))
+                .singleElement()
+                .satisfies(entry -> {
+                    Map<?, ?> row = (Map<?, ?>) entry;
+                    assertThat(row.get("action")).isEqualTo("CREATED");
+                    assertThat(row.get("user")).isEqualTo("Archive Student");
+                });
+    }
+
+    /** Insert a one-hour booking at {@code start} with a CREATED history row, back-dating times the entity would reject */
+    private Booking booking(BookingStatus status, LocalDateTime start) {
+        LocalDateTime future = LocalDateTime.now().plusDays(30);
+        Booking booking = bookingRepository.save(Booking.builder()
+                .room(room)
+                .user(user)
+                .startTime(future)
+                .endTime(future.plusHours(1))
+                .purpose("Archive")
+                .status(status)
+                .build());
+        jdbcTemplate.update("UPDATE bookings SET start_time = ?, end_time = ?, created_at = ? WHERE id = ?",
+                Timestamp.valueOf(start), Timestamp.valueOf(start.plusHours(1)), Timestamp.valueOf(start.minusDays(7)),
+                booking.getId());
+        bookingHistoryRepository.save(BookingHistory.builder()
+                .booking(booking)
+                .user(user)
+                .action("CREATED")
+                .reason("Booking created")
+                .build());
+        return booking;
+    }
+}
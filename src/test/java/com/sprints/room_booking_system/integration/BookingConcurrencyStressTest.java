@@ -0,0 +1,192 @@
+package com.sprints.room_booking_system.integration;
+
+import com.sprints.room_booking_system.dto.BookingDto;
+import com.sprints.room_booking_system.exception.BookingConflictException;
+import com.sprints.room_booking_system.model.*;
+import com.sprints.room_booking_system.repository.*;
+import com.sprints.room_booking_system.service.BookingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Races booking writes against each other: versioned rows plus retries must leave exactly one
+ * winner and turn every loser into a business error, never a lost update or a raw lock failure.
+ */
+class BookingConcurrencyStressTest extends IntegrationTestBase {
+
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 5;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingHistoryRepository bookingHistoryRepository;
+
+    @Autowired
+    private BookingOutboxRepository bookingOutboxRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private BuildingRepository buildingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Room room;
+    private User admin;
+    private final List<User> students = new ArrayList<>();
+
+    @BeforeEach
+    void setUpData() {
+        Building building = buildingRepository.save(Building.builder().name("Stress Hall").location("East").build());
+        room = roomRepository.save(Room.builder()
+                .name("Stress Room")
+                .capacity(30)
+                .floorNumber(1)
+                .building(building)
+                .features(new ArrayList<>())
+                .isActive(true)
+                .build());
+        admin = userRepository.save(User.builder()
+                .name("Stress Admin")
+                .email("stress.admin@university.edu")
+                .password("secret")
+                .role(UserRole.ADMIN)
+                .isActive(true)
+                .build());
+        for (int i = 0; i < THREADS; i++) {
+            students.add(userRepository.save(User.builder()
+                    .name("Stress Student " + i)
+                    .email("stress.student" + i + "@university.edu")
+                    .password("secret")
+                    .role(UserRole.STUDENT)
+                    .isActive(true)
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        bookingOutboxRepository.deleteAll();
+        bookingHistoryRepository.deleteAll();
+        bookingRepository.deleteAll();
+        roomRepository.deleteAll();
+        buildingRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testConcurrentRequestsForSameSlotBookItOnce() throws Exception {
+        double conflictsBefore = versionConflicts();
+
+        for (int round = 0; round < ROUNDS; round++) {
+            LocalDateTime start = LocalDateTime.now().plusDays(1).plusHours(round * 2L);
+            List<Callable<BookingDto>> requests = new ArrayList<>();
+            for (User student : students) {
+                BookingDto request = BookingDto.builder()
+                        .roomId(room.getId())
+                        .userId(student.getId())
+                        .startTime(start)
+                        .endTime(start.plusHours(1))
+                        .purpose("Race " + round)
+                        .build();
+                requests.add(() -> bookingService.createBooking(request, student.getId()));
+            }
+
+            List<Throwable> failures = race(requests);
+
+            assertThat(failures).hasSize(THREADS - 1).allMatch(BookingConflictException.class::isInstance);
+            assertThat(bookingRepository.findByRoomAndTimeRange(room.getId(), start, start.plusHours(1))).hasSize(1);
+        }
+        assertThat(versionConflicts()).isGreaterThan(conflictsBefore);
+    }
+
+    @Test
+    void testConcurrentApproveAndRejectKeepOneDecision() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            LocalDateTime start = LocalDateTime.now().plusDays(2).plusHours(round * 2L);
+            Booking booking = bookingRepository.save(Booking.builder()
+                    .room(room)
+                    .user(students.get(0))
+                    .startTime(start)
+                    .endTime(start.plusHours(1))
+                    .purpose("Decision " + round)
+                    .status(BookingStatus.PENDING)
+                    .build());
+
+            List<Callable<BookingDto>> decisions = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                decisions.add(i % 2 == 0
+                        ? () -> bookingService.approveBooking(booking.getId(), admin.getId())
+                        : () -> bookingService.rejectBooking(booking.getId(), admin.getId(), "Stress"));
+            }
+
+            List<Throwable> failures = race(decisions);
+
+            assertThat(failures).hasSize(THREADS - 1)
+                    .allMatch(failure -> failure instanceof IllegalArgumentException
+                            && failure.getMessage().startsWith("Only PENDING bookings"));
+            Booking decided = bookingRepository.findById(booking.getId()).orElseThrow();
+            assertThat(decided.getStatus()).isIn(BookingStatus.APPROVED, BookingStatus.REJECTED);
+            assertThat(decided.getVersion()).isEqualTo(1);
+            assertThat(bookingHistoryRepository.findByBookingId(booking.getId()))
+                    .extracting(BookingHistory::getAction)
+                    .containsExactly(decided.getStatus().name());
+        }
+    }
+
+    /** Start all tasks at once and return the exceptions of the ones that failed */
+    private <T> List<Throwable> race(List<Callable<T>> tasks) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        try {
+            for (Callable<T> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            List<Throwable> failures = new ArrayList<>();
+            for (Future<T> future : futures) {
+                try {
+                    future.get(30, TimeUnit.SECONDS);
+                } catch (java.util.concurrent.ExecutionException e) {
+                    failures.add(e.getCause());
+                }
+            }
+            return failures;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private double versionConflicts() {
+        return meterRegistry.counter("booking.version.conflicts").count();
+    }
+}
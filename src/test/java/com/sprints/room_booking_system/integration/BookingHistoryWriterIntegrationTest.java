@@ -0,0 +1,127 @@
+package com.sprints.room_booking_system.integration;
+
+import com.sprints.room_booking_system.model.*;
+import com.sprints.room_booking_system.repository.*;
+import com.sprints.room_booking_system.service.impl.BookingHistoryWriterImpl;
+import com.sprints.room_booking_system.service.impl.BookingHistoryWriterImpl.Durability;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The async writer's caller-thread fallback against the real JPA transaction manager: it runs in
+ * afterCommit, after the booking transaction has already committed.
+ */
+class BookingHistoryWriterIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingHistoryRepository bookingHistoryRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private BuildingRepository buildingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Booking booking;
+
+    @BeforeEach
+    void setUpData() {
+        Building building = buildingRepository.save(Building.builder().name("Writer Hall").location("East").build());
+        Room room = roomRepository.save(Room.builder()
+                .name("Writer Room")
+                .capacity(20)
+                .floorNumber(1)
+                .building(building)
+                .features(new ArrayList<>())
+                .isActive(true)
+                .build());
+        User user = userRepository.save(User.builder()
+                .name("Writer Student")
+                .email("writer.student@university.edu")
+                .password("secret")
+                .role(UserRole.STUDENT)
+                .isActive(true)
+                .build());
+        booking = bookingRepository.save(Booking.builder()
+                .room(room)
+                .user(user)
+                .startTime(LocalDateTime.now().plusDays(3))
+                .endTime(LocalDateTime.now().plusDays(3).plusHours(1))
+                .purpose("Writer test")
+                .status(BookingStatus.PENDING)
+                .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        bookingHistoryRepository.deleteAll();
+        bookingRepository.deleteAll();
+        userRepository.deleteAll();
+        roomRepository.deleteAll();
+        buildingRepository.deleteAll();
+    }
+
+    @Test
+    void testFallbackAfterCommitIsPersisted() {
+        // Given: not started, so every entry takes the caller-thread fallback
+        List<Boolean> newTransactions = new CopyOnWriteArrayList<>();
+        PlatformTransactionManager recording = new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                TransactionStatus status = transactionManager.getTransaction(definition);
+                newTransactions.add(status.isNewTransaction());
+                return status;
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+                transactionManager.commit(status);
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+                transactionManager.rollback(status);
+            }
+        };
+        BookingHistoryWriterImpl writer = new BookingHistoryWriterImpl(bookingHistoryRepository, recording,
+                new SimpleMeterRegistry(), Durability.ASYNC, 10, 10, Duration.ofMillis(50), Duration.ofSeconds(1));
+
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> writer.write(BookingHistory.builder()
+                .booking(booking)
+                .action("CREATED")
+                .reason("Booking created")
+                .actionTime(LocalDateTime.now())
+                .build()));
+
+        // Then: the insert did not join the booking transaction that had already committed
+        assertThat(newTransactions).containsExactly(true);
+        assertThat(bookingHistoryRepository.findAll())
+                .extracting(BookingHistory::getAction)
+                .containsExactly("CREATED");
+    }
+}
@@ -0,0 +1,83 @@
+package com.sprints.room_booking_system.integration;
+
+import com.sprints.room_booking_system.service.impl.BookingPartitionMaintainer;
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Applies the changelogs to an empty MySQL schema and checks with EXPLAIN that the booking range and
+ * overlap queries only touch the partitions of the months they ask for. MySQL is not part of the
+ * regular build; set {@code MYSQL_TEST_URL} (and {@code MYSQL_TEST_USERNAME}/{@code MYSQL_TEST_PASSWORD})
+ * to run it.
+ */
+@EnabledIfEnvironmentVariable(named = "MYSQL_TEST_URL", matches = ".+")
+class BookingPartitionPruningTest {
+
+    private static final YearMonth MONTH = YearMonth.now().plusMonths(1);
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void migrate() throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(System.getenv("MYSQL_TEST_URL"),
+                System.getenv().getOrDefault("MYSQL_TEST_USERNAME", "root"),
+                System.getenv().getOrDefault("MYSQL_TEST_PASSWORD", ""));
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog("classpath:db/changelog/db.changelog-master.xml");
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        new BookingPartitionMaintainer(jdbcTemplate, true, 3, Duration.ofDays(180)).maintain(LocalDate.now());
+    }
+
+    @Test
+    void testDateRangeQueriesPruneToOneMonth() {
+        LocalDateTime from = MONTH.atDay(5).atStartOfDay();
+
+        assertThat(partitions("SELECT b.id FROM bookings b WHERE b.start_time >= ? AND b.start_time <= ?",
+                from, from.plusDays(7)))
+                .isEqualTo(BookingPartitionMaintainer.partitionName(MONTH));
+        assertThat(partitions("SELECT b.id FROM bookings b WHERE b.room_id = ? AND b.start_time >= ? AND b.start_time <= ?",
+                1L, from, from.plusDays(7)))
+                .isEqualTo(BookingPartitionMaintainer.partitionName(MONTH));
+    }
+
+    @Test
+    void testOverlapCheckPrunesToTheLookBackWindow() {
+        LocalDateTime midMonth = MONTH.atDay(15).atTime(10, 0);
+        LocalDateTime firstOfMonth = MONTH.atDay(1).atTime(10, 0);
+
+        assertThat(partitions(overlapSql(), 1L, midMonth.minusHours(24), midMonth, midMonth.plusHours(1)))
+                .isEqualTo(BookingPartitionMaintainer.partitionName(MONTH));
+        assertThat(partitions(overlapSql(), 1L, firstOfMonth.minusHours(24), firstOfMonth, firstOfMonth.plusHours(1)))
+                .isEqualTo(BookingPartitionMaintainer.partitionName(MONTH.minusMonths(1)) + ","
+                        + BookingPartitionMaintainer.partitionName(MONTH));
+    }
+
+    /** Same predicate as BookingRepository.hasOverlappingBookings */
+    private static String overlapSql() {
+        return """
+                SELECT COUNT(*) FROM bookings b
+                WHERE b.room_id = ? AND b.status IN ('PENDING', 'APPROVED')
+                AND b.start_time >= ? AND b.start_time < ? AND b.end_time > ?
+                """;
+    }
+
+    private static String partitions(String sql, Object... args) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, (rs, rowNum) -> rs.getString("partitions"), args);
+    }
+}
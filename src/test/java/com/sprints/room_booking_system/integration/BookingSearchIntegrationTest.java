@@ -0,0 +1,170 @@
+package com.sprints.room_booking_system.integration;
+
+import com.sprints.room_booking_system.dto.BookingDto;
+import com.sprints.room_booking_system.dto.BookingSearchDto;
+import com.sprints.room_booking_system.model.*;
+import com.sprints.room_booking_system.repository.*;
+import com.sprints.room_booking_system.service.BookingSearchService;
+import com.sprints.room_booking_system.service.BookingService;
+import com.sprints.room_booking_system.service.impl.BookingOutboxRelay;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class BookingSearchIntegrationTest extends IntegrationTestBase {
+
+    private static final LocalDateTime TEN = LocalDateTime.now().plusDays(3).truncatedTo(ChronoUnit.DAYS).withHour(10);
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingSearchService bookingSearchService;
+
+    @Autowired
+    private BookingOutboxRelay relay;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingHistoryRepository bookingHistoryRepository;
+
+    @Autowired
+    private BookingOutboxRepository bookingOutboxRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private BuildingRepository buildingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Room room;
+    private User student;
+    private User admin;
+
+    @BeforeEach
+    void setUpData() {
+        Building building = buildingRepository.save(Building.builder().name("Lucene Hall").location("North").build());
+        room = roomRepository.save(Room.builder()
+                .name("Lucene 1")
+                .capacity(40)
+                .floorNumber(1)
+                .building(building)
+                .features(new ArrayList<>())
+                .isActive(true)
+                .build());
+        student = userRepository.save(User.builder()
+                .name("Search Student")
+                .email("search.student@university.edu")
+                .password("secret")
+                .role(UserRole.STUDENT)
+                .isActive(true)
+                .build());
+        admin = userRepository.save(User.builder()
+                .name("Search Admin")
+                .email("search.admin@university.edu")
+                .password("secret")
+                .role(UserRole.ADMIN)
+                .isActive(true)
+                .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        bookingOutboxRepository.deleteAll();
+        bookingHistoryRepository.deleteAll();
+        bookingRepository.deleteAll();
+        roomRepository.deleteAll();
+        buildingRepository.deleteAll();
+        userRepository.deleteAll();
+        bookingSearchService.rebuild();
+    }
+
+    @Test
+    void testBookingWritesAreIndexedFromEvents() {
+        BookingDto exam = book(TEN, "CS101 final exam");
+        BookingDto tutorial = book(TEN.plusHours(2), "CS101 tutorial");
+        relay.relay();
+
+        assertThat(bookingSearchService.searchBookings(search("\"final exam\"", null)))
+                .extracting(BookingDto::getId).containsExactly(exam.getId());
+        assertThat(bookingSearchService.searchBookings(search("cs101", "pending")))
+                .extracting(BookingDto::getId).containsExactlyInAnyOrder(exam.getId(), tutorial.getId());
+
+        bookingService.rejectBooking(tutorial.getId(), admin.getId(), "room under maintenance");
+        relay.relay();
+
+        assertThat(bookingSearchService.searchBookings(search("cs101", "PENDING")))
+                .extracting(BookingDto::getId).containsExactly(exam.getId());
+        assertThat(bookingSearchService.searchHistory(search("maintenance", "REJECTED")))
+                .singleElement()
+                .satisfies(history -> assertThat(history.getBookingId()).isEqualTo(tutorial.getId()));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testRebuildLoadsRowsWrittenWithPlainSql() throws Exception {
+        jdbcTemplate.update("""
+                INSERT INTO bookings (id, room_id, user_id, start_time, end_time, purpose, status, version, created_at)
+                VALUES (900001, ?, ?, ?, ?, 'Freshers orientation', 'APPROVED', 0, ?)
+                """, room.getId(), student.getId(), Timestamp.valueOf(TEN), Timestamp.valueOf(TEN.plusHours(1)),
+                Timestamp.valueOf(LocalDateTime.now()));
+
+        mockMvc.perform(get("/api/v1/admin/search/bookings").param("q", "orientation"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+
+        mockMvc.perform(post("/api/v1/admin/search/rebuild"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").value(1));
+
+        mockMvc.perform(get("/api/v1/admin/search/bookings")
+                        .param("q", "orientation")
+                        .param("roomId", room.getId().toString())
+                        .param("from", TEN.minusDays(1).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(900001))
+                .andExpect(jsonPath("$[0].status").value("APPROVED"));
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    void testSearchIsAdminOnly() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/search/bookings").param("q", "exam"))
+                .andExpect(status().isForbidden());
+    }
+
+    private BookingDto book(LocalDateTime startTime, String purpose) {
+        return bookingService.createBooking(BookingDto.builder()
+                .roomId(room.getId())
+                .startTime(startTime)
+                .endTime(startTime.plusHours(1))
+                .purpose(purpose)
+                .build(), student.getId());
+    }
+
+    private static BookingSearchDto search(String text, String status) {
+        return BookingSearchDto.builder().text(text).status(status).limit(10).build();
+    }
+}
@@ -0,0 +1,157 @@
+package com.sprints.room_booking_system.integration;
+
+import com.sprints.room_booking_system.model.*;
+import com.sprints.room_booking_system.repository.*;
+import com.sprints.room_booking_system.service.impl.BookingTransitionScheduler;
+import com.sprints.room_booking_system.service.impl.BookingTransitionScheduler.BookingTimer;
+import com.sprints.room_booking_system.service.impl.BookingTransitionScheduler.Transition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookingTransitionIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private BookingTransitionScheduler scheduler;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingHistoryRepository bookingHistoryRepository;
+
+    @Autowired
+    private BookingOutboxRepository bookingOutboxRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private BuildingRepository buildingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Room room;
+    private User user;
+
+    @BeforeEach
+    void setUpData() {
+        Building building = buildingRepository.save(Building.builder().name("Timer Hall").location("West").build());
+        room = roomRepository.save(Room.builder()
+                .name("Timer Room")
+                .capacity(20)
+                .floorNumber(0)
+                .building(building)
+                .features(new ArrayList<>())
+                .isActive(true)
+                .build());
+        user = userRepository.save(User.builder()
+                .name("Timer Student")
+                .email("timer.student@university.edu")
+                .password("secret")
+                .role(UserRole.STUDENT)
+                .isActive(true)
+                .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        bookingOutboxRepository.deleteAll();
+        bookingHistoryRepository.deleteAll();
+        bookingRepository.deleteAll();
+        roomRepository.deleteAll();
+        buildingRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testDueBookingsExpireAndCompleteInOneBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        Booking staleHold = booking(BookingStatus.PENDING, now.plusDays(5), now.minusDays(3));
+        Booking noShow = booking(BookingStatus.PENDING, now.minusHours(1), now.minusHours(2));
+        Booking ended = booking(BookingStatus.APPROVED, now.minusHours(3), now.minusDays(1));
+        Booking upcoming = booking(BookingStatus.APPROVED, now.plusDays(1), now.minusHours(1));
+
+        int applied = scheduler.applyDue(List.of(
+                new BookingTimer(staleHold.getId(), Transition.EXPIRE),
+                new BookingTimer(noShow.getId(), Transition.EXPIRE),
+                new BookingTimer(ended.getId(), Transition.COMPLETE),
+                new BookingTimer(upcoming.getId(), Transition.COMPLETE)));
+
+        assertThat(applied).isEqualTo(3);
+        assertThat(status(staleHold)).isEqualTo(BookingStatus.EXPIRED);
+        assertThat(status(noShow)).isEqualTo(BookingStatus.EXPIRED);
+        assertThat(status(ended)).isEqualTo(BookingStatus.COMPLETED);
+        assertThat(status(upcoming)).isEqualTo(BookingStatus.APPROVED);
+        assertThat(bookingHistoryRepository.findByBookingIdAndAction(noShow.getId(), "EXPIRED")).hasSize(1);
+        assertThat(bookingHistoryRepository.findByBookingIdAndAction(ended.getId(), "COMPLETED")).hasSize(1);
+        assertThat(bookingOutboxRepository.findAll()).extracting(BookingOutboxEvent::getEventType)
+                .containsExactlyInAnyOrder(BookingEventType.EXPIRED, BookingEventType.EXPIRED, BookingEventType.COMPLETED);
+        assertThat(bookingRepository.hasOverlappingBookings(room.getId(), noShow.getStartTime(), noShow.getEndTime()))
+                .isFalse();
+    }
+
+    @Test
+    void testStaleTimersAreIgnored() {
+        LocalDateTime now = LocalDateTime.now();
+        Booking cancelled = booking(BookingStatus.CANCELLED, now.minusHours(3), now.minusDays(1));
+        Booking ended = booking(BookingStatus.APPROVED, now.minusHours(3), now.minusDays(1));
+
+        int applied = scheduler.applyDue(List.of(
+                new BookingTimer(cancelled.getId(), Transition.COMPLETE),
+                new BookingTimer(ended.getId(), Transition.COMPLETE),
+                new BookingTimer(ended.getId(), Transition.COMPLETE)));
+
+        assertThat(applied).isEqualTo(1);
+        assertThat(status(cancelled)).isEqualTo(BookingStatus.CANCELLED);
+        assertThat(bookingRepository.findById(ended.getId()).orElseThrow().getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void testRebuildSchedulesEveryActiveBooking() {
+        LocalDateTime now = LocalDateTime.now();
+        booking(BookingStatus.PENDING, now.plusDays(1), now);
+        booking(BookingStatus.APPROVED, now.plusDays(2), now);
+        booking(BookingStatus.REJECTED, now.plusDays(3), now);
+        int before = scheduler.pendingTimers();
+
+        assertThat(scheduler.rebuild()).isEqualTo(2);
+        assertThat(scheduler.pendingTimers()).isEqualTo(before + 2);
+    }
+
+    /** Insert a booking of one hour starting at {@code start}, back-dating times the entity would reject */
+    private Booking booking(BookingStatus status, LocalDateTime start, LocalDateTime createdAt) {
+        LocalDateTime future = LocalDateTime.now().plusDays(30);
+        Booking booking = bookingRepository.save(Booking.builder()
+                .room(room)
+                .user(user)
+                .startTime(future)
+                .endTime(future.plusHours(1))
+                .purpose("Timer")
+                .status(status)
+                .build());
+        jdbcTemplate.update("UPDATE bookings SET start_time = ?, end_time = ?, created_at = ? WHERE id = ?",
+                Timestamp.valueOf(start), Timestamp.valueOf(start.plusHours(1)), Timestamp.valueOf(createdAt),
+                booking.getId());
+        booking.setStartTime(start);
+        booking.setEndTime(start.plusHours(1));
+        return booking;
+    }
+
+    private BookingStatus status(Booking booking) {
+        return bookingRepository.findById(booking.getId()).orElseThrow().getStatus();
+    }
+}
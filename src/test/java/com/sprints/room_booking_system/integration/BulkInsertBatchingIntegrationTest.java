@@ -0,0 +1,136 @@
+package com.sprints.room_booking_system.integration;
+
+import com.sprints.room_booking_system.metrics.SqlStatementStats;
+import com.sprints.room_booking_system.model.*;
+import com.sprints.room_booking_system.repository.*;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bulk insert throughput with pooled ids: rows go out in JDBC batches instead of one round trip each.
+ */
+@Slf4j
+class BulkInsertBatchingIntegrationTest extends IntegrationTestBase {
+
+    private static final int ROWS = 1_000;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingHistoryRepository bookingHistoryRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private BuildingRepository buildingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Room room;
+    private User user;
+
+    @BeforeEach
+    void setUpData() {
+        Building building = buildingRepository.save(Building.builder().name("Batch Hall").location("South").build());
+        room = roomRepository.save(Room.builder()
+                .name("Batch Room")
+                .capacity(30)
+                .floorNumber(1)
+                .building(building)
+                .features(new ArrayList<>())
+                .isActive(true)
+                .build());
+        user = userRepository.save(User.builder()
+                .name("Batch Student")
+                .email("batch.student@university.edu")
+                .password("secret")
+                .role(UserRole.STUDENT)
+                .isActive(true)
+                .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        bookingHistoryRepository.deleteAll();
+        bookingRepository.deleteAll();
+        userRepository.deleteAll();
+        roomRepository.deleteAll();
+        buildingRepository.deleteAll();
+    }
+
+    @Test
+    void testBookingsAndHistoryAreInsertedInBatches() {
+        LocalDateTime start = LocalDateTime.now().plusDays(10);
+        List<Booking> bookings = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            bookings.add(Booking.builder()
+                    .room(room)
+                    .user(user)
+                    .startTime(start.plusHours(i))
+                    .endTime(start.plusHours(i).plusMinutes(50))
+                    .purpose("Batch " + i)
+                    .status(BookingStatus.PENDING)
+                    .build());
+        }
+
+        int bookingStatements = measure("bookings", () -> bookingRepository.saveAll(bookings));
+
+        List<BookingHistory> history = bookings.stream()
+                .map(booking -> BookingHistory.builder().booking(booking).user(user).action("CREATED").build())
+                .toList();
+        int historyStatements = measure("booking_history", () -> bookingHistoryRepository.saveAll(history));
+
+        List<User> users = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            users.add(User.builder()
+                    .name("Batch User " + i)
+                    .email("batch.user" + i + "@university.edu")
+                    .password("secret")
+                    .role(UserRole.STUDENT)
+                    .isActive(true)
+                    .build());
+        }
+        int userStatements = measure("users", () -> userRepository.saveAll(users));
+
+        // One round trip per 50-row batch plus a couple of statements per reserved id block
+        assertThat(bookingStatements).isLessThan(ROWS / 10);
+        assertThat(historyStatements).isLessThan(ROWS / 10);
+        assertThat(userStatements).isLessThan(ROWS / 10);
+        assertThat(bookingRepository.findByUserId(user.getId())).hasSize(ROWS);
+        assertThat(bookings).extracting(Booking::getId).doesNotContainNull().doesNotHaveDuplicates();
+    }
+
+    private int measure(String table, Supplier<?> insert) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        SqlStatementStats stats = SqlStatementStats.begin();
+        long started = System.nanoTime();
+        try {
+            transaction.execute(status -> insert.get());
+        } finally {
+            SqlStatementStats.end();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+        log.info("Inserted {} {} rows in {} ms with {} JDBC round trips ({} rows/s)", ROWS, table,
+                elapsed.toMillis(), stats.getStatementCount(), ROWS * 1_000_000_000L / Math.max(1, elapsed.toNanos()));
+        return stats.getStatementCount();
+    }
+}
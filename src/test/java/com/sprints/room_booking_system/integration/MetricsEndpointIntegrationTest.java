@@ -0,0 +1,39 @@
+package com.sprints.room_booking_system.integration;
+
+import com.sprints.room_booking_system.service.BookingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureObservability
+class MetricsEndpointIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Test
+    void testPrometheusEndpointIsScrapableWithoutToken() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("booking_holiday_rejections_total")))
+                .andExpect(content().string(containsString("booking_conflicts_total")));
+    }
+
+    @Test
+    void testServiceTimerPublishesHistogramBuckets() throws Exception {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        bookingService.isRoomAvailable(1L, start, start.plusHours(1));
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("booking_service_seconds_bucket")))
+                .andExpect(content().string(containsString("method=\"isRoomAvailable\"")));
+    }
+}
@@ -0,0 +1,58 @@
+package com.sprints.room_booking_system.integration;
+
+import com.sprints.room_booking_system.logging.RequestLoggingFilter;
+import com.sprints.room_booking_system.logging.TraceIds;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class RequestTracingIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private RequestLoggingFilter requestLoggingFilter;
+
+    @BeforeEach
+    void setUpWithLoggingFilter() {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(webApplicationContext)
+                .addFilters(requestLoggingFilter)
+                .apply(springSecurity())
+                .build();
+    }
+
+    @Test
+    void testErrorBodyCarriesSameTraceIdAsResponseHeader() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/bookings/history/1"))
+                .andExpect(status().isUnauthorized())
+                .andReturn();
+
+        String traceId = result.getResponse().getHeader(TraceIds.HEADER);
+        assertThat(traceId).matches("[0-9a-f]{32}");
+        assertThat(result.getResponse().getContentAsString()).contains("\"traceId\":\"" + traceId + "\"");
+    }
+
+    @Test
+    void testWellFormedInboundTraceIdIsPropagated() throws Exception {
+        mockMvc.perform(get("/api/v1/bookings/history/1").header(TraceIds.HEADER, "client-trace-42"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().string(TraceIds.HEADER, "client-trace-42"))
+                .andExpect(jsonPath("$.traceId").value("client-trace-42"));
+    }
+
+    @Test
+    void testMalformedInboundTraceIdIsReplaced() throws Exception {
+        mockMvc.perform(get("/api/v1/bookings/history/1").header(TraceIds.HEADER, "bad\"id\nwith-newline"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().string(TraceIds.HEADER, matchesPattern("[0-9a-f]{32}")));
+    }
+}
@@ -0,0 +1,158 @@
+package com.sprints.room_booking_system.integration;
+
+import com.sprints.room_booking_system.dto.RoomDto;
+import com.sprints.room_booking_system.dto.RoomSearchDto;
+import com.sprints.room_booking_system.model.*;
+import com.sprints.room_booking_system.repository.*;
+import com.sprints.room_booking_system.service.RoomService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class RoomFeatureSearchIntegrationTest extends IntegrationTestBase {
+
+    private static final LocalDateTime TEN = LocalDateTime.now().plusDays(2).truncatedTo(ChronoUnit.DAYS).withHour(10);
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private RoomFeatureRepository roomFeatureRepository;
+
+    @Autowired
+    private BuildingRepository buildingRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingHistoryRepository bookingHistoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long projector;
+    private Long whiteboard;
+    private RoomDto both;
+    private RoomDto projectorOnly;
+    private RoomDto booked;
+
+    @BeforeEach
+    void setUpData() {
+        projector = roomFeatureRepository.save(RoomFeature.builder().name("Projector").build()).getId();
+        whiteboard = roomFeatureRepository.save(RoomFeature.builder().name("Whiteboard").build()).getId();
+        Long buildingId = buildingRepository.save(Building.builder().name("Bitset Hall").location("West").build()).getId();
+        both = roomService.createRoom(room("Both", buildingId, List.of(projector, whiteboard)));
+        projectorOnly = roomService.createRoom(room("Projector Only", buildingId, List.of(projector)));
+        booked = roomService.createRoom(room("Booked", buildingId, List.of(projector, whiteboard)));
+
+        User user = userRepository.save(User.builder()
+                .name("Bitset Student")
+                .email("bitset.student@university.edu")
+                .password("secret")
+                .role(UserRole.STUDENT)
+                .isActive(true)
+                .build());
+        bookingRepository.save(Booking.builder()
+                .room(roomRepository.findById(booked.getId()).orElseThrow())
+                .user(user)
+                .startTime(TEN)
+                .endTime(TEN.plusHours(1))
+                .purpose("Lecture")
+                .status(BookingStatus.APPROVED)
+                .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        bookingHistoryRepository.deleteAll();
+        bookingRepository.deleteAll();
+        roomRepository.deleteAll();
+        roomFeatureRepository.deleteAll();
+        buildingRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testAllFeaturesMeansEveryFeatureAndSkipsBookedRooms() {
+        assertThat(search(List.of(projector, whiteboard))).containsExactly(both.getId());
+        assertThat(search(List.of(projector))).containsExactly(both.getId(), projectorOnly.getId());
+    }
+
+    @Test
+    void testRoomWritesReachTheIndex() {
+        projectorOnly.setFeatureIds(List.of(projector, whiteboard));
+        roomService.updateRoom(projectorOnly.getId(), projectorOnly);
+        assertThat(search(List.of(projector, whiteboard))).containsExactly(both.getId(), projectorOnly.getId());
+
+        roomService.deactivateRoom(both.getId());
+        assertThat(search(List.of(projector, whiteboard))).containsExactly(projectorOnly.getId());
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    void testSearchEndpointCombinesFilters() throws Exception {
+        mockMvc.perform(get("/api/v1/rooms/search")
+                        .param("startTime", TEN.toString())
+                        .param("endTime", TEN.plusHours(1).toString())
+                        .param("anyFeatures", projector.toString())
+                        .param("noneFeatures", whiteboard.toString())
+                        .param("minCapacity", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").value("Projector Only"));
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    void testFacetsCountAllFreeRoomsAlongsideAPageOfResults() throws Exception {
+        mockMvc.perform(get("/api/v1/rooms/search/facets")
+                        .param("startTime", TEN.toString())
+                        .param("endTime", TEN.plusHours(1).toString())
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.rooms.length()").value(1))
+                .andExpect(jsonPath("$.rooms[0].name").value("Both"))
+                .andExpect(jsonPath("$.features[0].label").value("Projector"))
+                .andExpect(jsonPath("$.features[0].count").value(2))
+                .andExpect(jsonPath("$.features[1].label").value("Whiteboard"))
+                .andExpect(jsonPath("$.features[1].count").value(1))
+                .andExpect(jsonPath("$.buildings[0].label").value("Bitset Hall"))
+                .andExpect(jsonPath("$.buildings[0].count").value(2))
+                .andExpect(jsonPath("$.capacities[?(@.label == '25+')].count").value(2));
+    }
+
+    private List<Long> search(List<Long> allFeatureIds) {
+        return roomService.searchAvailableRooms(RoomSearchDto.builder()
+                        .startTime(TEN)
+                        .endTime(TEN.plusHours(1))
+                        .allFeatureIds(allFeatureIds)
+                        .build())
+                .stream().map(RoomDto::getId).toList();
+    }
+
+    private static RoomDto room(String name, Long buildingId, List<Long> featureIds) {
+        return RoomDto.builder()
+                .name(name)
+                .capacity(30)
+                .floorNumber(1)
+                .buildingId(buildingId)
+                .featureIds(featureIds)
+                .build();
+    }
+}
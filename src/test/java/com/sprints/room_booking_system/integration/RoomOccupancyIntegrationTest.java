@@ -0,0 +1,204 @@
+package com.sprints.room_booking_system.integration;
+
+import com.sprints.room_booking_system.dto.BookingDto;
+import com.sprints.room_booking_system.exception.BookingConflictException;
+import com.sprints.room_booking_system.exception.InvalidBookingDateException;
+import com.sprints.room_booking_system.model.*;
+import com.sprints.room_booking_system.repository.*;
+import com.sprints.room_booking_system.service.BookingService;
+import com.sprints.room_booking_system.service.impl.RoomOccupancyReconciler;
+import com.sprints.room_booking_system.service.impl.RoomOccupancyReconciler.Reconciliation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@TestPropertySource(properties = "app.bookings.occupancy.enabled=true")
+class RoomOccupancyIntegrationTest extends IntegrationTestBase {
+
+    private static final LocalDateTime TEN = LocalDateTime.now().plusDays(2).truncatedTo(ChronoUnit.DAYS).withHour(10);
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private RoomOccupancyReconciler reconciler;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingHistoryRepository bookingHistoryRepository;
+
+    @Autowired
+    private BookingOutboxRepository bookingOutboxRepository;
+
+    @Autowired
+    private RoomSlotRepository roomSlotRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private BuildingRepository buildingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Room room;
+    private final List<User> students = new ArrayList<>();
+
+    @BeforeEach
+    void setUpData() {
+        Building building = buildingRepository.save(Building.builder().name("Slot Hall").location("South").build());
+        room = roomRepository.save(Room.builder()
+                .name("Slot Room")
+                .capacity(20)
+                .floorNumber(2)
+                .building(building)
+                .features(new ArrayList<>())
+                .isActive(true)
+                .build());
+        for (int i = 0; i < 6; i++) {
+            students.add(userRepository.save(User.builder()
+                    .name("Slot Student " + i)
+                    .email("slot.student" + i + "@university.edu")
+                    .password("secret")
+                    .role(UserRole.STUDENT)
+                    .isActive(true)
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        roomSlotRepository.deleteAll();
+        bookingOutboxRepository.deleteAll();
+        bookingHistoryRepository.deleteAll();
+        bookingRepository.deleteAll();
+        roomRepository.deleteAll();
+        buildingRepository.deleteAll();
+        userRepository.deleteAll();
+        students.clear();
+    }
+
+    @Test
+    void testOverlappingBookingIsRefusedBySlotKey() {
+        BookingDto first = bookingService.createBooking(request(TEN, TEN.plusHours(1)), students.get(0).getId());
+
+        assertThat(roomSlotRepository.findByBookingIdIn(List.of(first.getId()))).hasSize(4);
+        assertThatThrownBy(() -> bookingService.createBooking(
+                request(TEN.plusMinutes(45), TEN.plusHours(2)), students.get(1).getId()))
+                .isInstanceOf(BookingConflictException.class);
+        assertThat(bookingRepository.count()).isEqualTo(1);
+        assertThat(bookingService.isRoomAvailable(room.getId(), TEN.plusMinutes(30), TEN.plusMinutes(45))).isFalse();
+        assertThat(bookingService.isRoomAvailable(room.getId(), TEN.plusHours(1), TEN.plusHours(2))).isTrue();
+    }
+
+    @Test
+    void testCancelAndUpdateMoveTheSlots() {
+        User owner = students.get(0);
+        BookingDto booking = bookingService.createBooking(request(TEN, TEN.plusHours(1)), owner.getId());
+
+        bookingService.updateBooking(booking.getId(), request(TEN.plusHours(3), TEN.plusHours(4)), owner.getId());
+        bookingService.createBooking(request(TEN, TEN.plusHours(1)), students.get(1).getId());
+        bookingService.cancelBooking(booking.getId(), owner.getId(), false);
+
+        assertThat(roomSlotRepository.findByBookingIdIn(List.of(booking.getId()))).isEmpty();
+        bookingService.createBooking(request(TEN.plusHours(3), TEN.plusHours(4)), students.get(2).getId());
+        assertThat(roomSlotRepository.count()).isEqualTo(8);
+    }
+
+    @Test
+    void testUnalignedTimesAreRejected() {
+        assertThatThrownBy(() -> bookingService.createBooking(
+                request(TEN.plusMinutes(5), TEN.plusHours(1)), students.get(0).getId()))
+                .isInstanceOf(InvalidBookingDateException.class);
+    }
+
+    @Test
+    void testConcurrentRequestsForOneSlotLeaveOneWinner() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<Boolean>> attempts = students.stream()
+                .<Callable<Boolean>>map(student -> () -> {
+                    start.await();
+                    try {
+                        bookingService.createBooking(request(TEN, TEN.plusMinutes(30)), student.getId());
+                        return true;
+                    } catch (BookingConflictException e) {
+                        return false;
+                    }
+                })
+                .toList();
+
+        List<Future<Boolean>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(attempts.size())) {
+            attempts.forEach(attempt -> results.add(executor.submit(attempt)));
+            start.countDown();
+        }
+
+        long winners = 0;
+        for (Future<Boolean> result : results) {
+            winners += result.get() ? 1 : 0;
+        }
+        assertThat(winners).isEqualTo(1);
+        assertThat(bookingRepository.count()).isEqualTo(1);
+        assertThat(roomSlotRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void testReconcilerRepairsDrift() {
+        Booking unclaimed = insertBooking(students.get(0), TEN, BookingStatus.APPROVED);
+        Booking blocked = insertBooking(students.get(1), TEN.plusMinutes(30), BookingStatus.PENDING);
+        Booking finished = insertBooking(students.get(2), TEN.plusHours(5), BookingStatus.CANCELLED);
+        jdbcTemplate.update("INSERT INTO room_slots (room_id, slot_start, booking_id) VALUES (?, ?, ?)",
+                room.getId(), Timestamp.valueOf(TEN.plusHours(5)), finished.getId());
+
+        Reconciliation result = reconciler.reconcile();
+
+        assertThat(result).isEqualTo(new Reconciliation(1, 1, 1));
+        assertThat(roomSlotRepository.findByBookingIdIn(List.of(unclaimed.getId()))).hasSize(4);
+        assertThat(roomSlotRepository.findByBookingIdIn(List.of(blocked.getId(), finished.getId()))).isEmpty();
+        assertThat(reconciler.reconcile()).isEqualTo(new Reconciliation(0, 0, 1));
+    }
+
+    /** Insert a one-hour booking directly, as rows written before occupancy was enabled would be */
+    private Booking insertBooking(User user, LocalDateTime startTime, BookingStatus status) {
+        return bookingRepository.save(Booking.builder()
+                .room(room)
+                .user(user)
+                .startTime(startTime)
+                .endTime(startTime.plusHours(1))
+                .purpose("Drift")
+                .status(status)
+                .build());
+    }
+
+    private BookingDto request(LocalDateTime startTime, LocalDateTime endTime) {
+        return BookingDto.builder()
+                .roomId(room.getId())
+                .startTime(startTime)
+                .endTime(endTime)
+                .purpose("Seminar")
+                .build();
+    }
+}
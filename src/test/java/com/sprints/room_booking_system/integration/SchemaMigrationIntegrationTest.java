@@ -0,0 +1,111 @@
+package com.sprints.room_booking_system.integration;
+
+import com.sprints.room_booking_system.seed.SeedPlan;
+import com.sprints.room_booking_system.seed.SeedSummary;
+import com.sprints.room_booking_system.seed.SemesterDataGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Builds the schema from the Liquibase changelogs and lets Hibernate validate it against the entities,
+ * then checks with EXPLAIN that the hot queries are served by the covering indexes.
+ */
+@TestPropertySource(properties = {
+        "spring.liquibase.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+class SchemaMigrationIntegrationTest extends IntegrationTestBase {
+
+    private static final LocalDateTime FROM = LocalDateTime.now().plusDays(3).withHour(9).withMinute(0).withSecond(0).withNano(0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private SeedSummary seeded;
+
+    @BeforeEach
+    void seed() {
+        seeded = new SemesterDataGenerator(jdbcTemplate).generate(SeedPlan.builder()
+                .seed(44L)
+                .rooms(20)
+                .roomsPerBuilding(10)
+                .departments(3)
+                .users(100)
+                .bookings(2_000)
+                .holidayYears(1)
+                .referenceTime(LocalDateTime.now())
+                .calendarStart(LocalDate.now())
+                .batchSize(256)
+                .build());
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM booking_history");
+        jdbcTemplate.update("DELETE FROM bookings");
+        jdbcTemplate.update("DELETE FROM room_room_feature");
+        jdbcTemplate.update("DELETE FROM rooms");
+        jdbcTemplate.update("DELETE FROM users");
+        jdbcTemplate.update("DELETE FROM departments");
+        jdbcTemplate.update("DELETE FROM buildings");
+        jdbcTemplate.update("DELETE FROM room_features");
+        jdbcTemplate.update("DELETE FROM holidays");
+    }
+
+    @Test
+    void testOverlapCheckUsesRoomStatusTimeIndex() {
+        assertThat(explain("""
+                SELECT COUNT(*) FROM bookings b
+                WHERE b.room_id = ? AND b.status IN ('PENDING', 'APPROVED')
+                AND b.start_time < ? AND b.end_time > ?
+                """, seeded.roomId(0), FROM.plusHours(2), FROM))
+                .contains("IDX_BOOKINGS_ROOM_STATUS_TIME");
+    }
+
+    @Test
+    void testStatusQueueUsesStatusCreatedIndex() {
+        assertThat(explain("SELECT b.id FROM bookings b WHERE b.status = ? ORDER BY b.created_at", "PENDING"))
+                .contains("IDX_BOOKINGS_STATUS_CREATED");
+    }
+
+    @Test
+    void testUserBookingsUseUserStartIndex() {
+        assertThat(explain("SELECT b.id FROM bookings b WHERE b.user_id = ? AND b.start_time >= ? ORDER BY b.start_time",
+                seeded.userId(0), FROM))
+                .contains("IDX_BOOKINGS_USER_START");
+    }
+
+    @Test
+    void testBookingHistoryUsesBookingTimeIndex() {
+        assertThat(explain("SELECT h.id FROM booking_history h WHERE h.booking_id = ? ORDER BY h.action_time",
+                seeded.bookingId(0)))
+                .contains("IDX_BOOKING_HISTORY_BOOKING_TIME");
+    }
+
+    @Test
+    void testHolidayDateIsUnique() {
+        assertThat(explain("SELECT COUNT(*) FROM holidays h WHERE h.date = ?", LocalDate.now()))
+                .contains("UK_HOLIDAYS_DATE");
+
+        LocalDate taken = jdbcTemplate.queryForObject("SELECT MIN(date) FROM holidays", LocalDate.class);
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "INSERT INTO holidays (name, date, description) VALUES ('Duplicate', ?, 'Same day')", taken))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private String explain(String sql, Object... args) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args)).toUpperCase();
+    }
+}
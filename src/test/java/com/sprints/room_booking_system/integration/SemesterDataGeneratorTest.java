@@ -0,0 +1,148 @@
+package com.sprints.room_booking_system.integration;
+
+import com.sprints.room_booking_system.model.Building;
+import com.sprints.room_booking_system.repository.BuildingRepository;
+import com.sprints.room_booking_system.seed.SeedPlan;
+import com.sprints.room_booking_system.seed.SeedSummary;
+import com.sprints.room_booking_system.seed.SemesterDataGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SemesterDataGeneratorTest extends IntegrationTestBase {
+
+    /** Ten days into a 30-day calendar, so the plan has past and upcoming bookings */
+    private static final LocalDateTime REFERENCE_TIME = LocalDateTime.of(2025, 3, 11, 14, 30);
+
+    private static final SeedPlan PLAN = plan();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BuildingRepository buildingRepository;
+
+    private final List<SeedSummary> generated = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        generated.forEach(this::delete);
+    }
+
+    @Test
+    void testSameSeedProducesSameRows() {
+        SeedSummary first = generate(PLAN);
+        List<Map<String, Object>> firstBookings = bookingFingerprint(first);
+        List<Map<String, Object>> firstHistory = historyFingerprint(first);
+        List<Map<String, Object>> firstRooms = roomFingerprint(first);
+        delete(first);
+        generated.clear();
+
+        SeedSummary second = generate(plan());
+
+        assertThat(bookingFingerprint(second)).isEqualTo(firstBookings);
+        assertThat(historyFingerprint(second)).isEqualTo(firstHistory);
+        assertThat(roomFingerprint(second)).isEqualTo(firstRooms);
+    }
+
+    @Test
+    void testGeneratesRequestedVolumesWithoutConflicts() {
+        SeedSummary summary = generate(PLAN);
+
+        assertThat(count("SELECT COUNT(*) FROM bookings WHERE id >= ?", summary.getFirstBookingId())).isEqualTo(900);
+        assertThat(count("SELECT COUNT(*) FROM users WHERE id >= ?", summary.getFirstUserId())).isEqualTo(200);
+        assertThat(count("SELECT COUNT(*) FROM booking_history WHERE booking_id >= ?", summary.getFirstBookingId()))
+                .isEqualTo(summary.getHistoryRows())
+                .isGreaterThanOrEqualTo(900);
+        assertThat(count("""
+                SELECT COUNT(*) FROM bookings a JOIN bookings b
+                  ON a.room_id = b.room_id AND a.id < b.id
+                 AND a.start_time < b.end_time AND b.start_time < a.end_time
+                WHERE a.id >= ?
+                """, summary.getFirstBookingId())).isZero();
+        // The booking history endpoint maps every reason, so seeded rows carry one like the service writes
+        assertThat(count("SELECT COUNT(*) FROM booking_history WHERE booking_id >= ? AND reason IS NULL",
+                summary.getFirstBookingId())).isZero();
+        assertThat(jdbcTemplate.queryForList("SELECT DISTINCT status FROM bookings WHERE id >= ?", String.class,
+                summary.getFirstBookingId()))
+                .contains("PENDING", "APPROVED", "CANCELLED", "REJECTED");
+    }
+
+    @Test
+    void testApplicationInsertsContinueAfterGeneratedIds() {
+        SeedSummary summary = generate(PLAN);
+
+        Building building = buildingRepository.save(Building.builder().name("After Seed").location("North").build());
+
+        assertThat(building.getId()).isGreaterThan(summary.getFirstBuildingId() + summary.getBuildings() - 1);
+        buildingRepository.delete(building);
+    }
+
+    /** Built anew for each run: nothing in it comes from the clock */
+    private static SeedPlan plan() {
+        return SeedPlan.builder()
+                .seed(7L)
+                .rooms(30)
+                .roomsPerBuilding(10)
+                .departments(4)
+                .users(200)
+                .bookings(900)
+                .holidayYears(2)
+                .referenceTime(REFERENCE_TIME)
+                .calendarStart(REFERENCE_TIME.toLocalDate().minusDays(10))
+                .batchSize(128)
+                .build();
+    }
+
+    private SeedSummary generate(SeedPlan plan) {
+        SeedSummary summary = new SemesterDataGenerator(jdbcTemplate).generate(plan);
+        generated.add(summary);
+        return summary;
+    }
+
+    private void delete(SeedSummary summary) {
+        jdbcTemplate.update("DELETE FROM booking_history WHERE booking_id >= ?", summary.getFirstBookingId());
+        jdbcTemplate.update("DELETE FROM bookings WHERE id >= ?", summary.getFirstBookingId());
+        jdbcTemplate.update("DELETE FROM room_room_feature WHERE room_id >= ?", summary.getFirstRoomId());
+        jdbcTemplate.update("DELETE FROM rooms WHERE id >= ?", summary.getFirstRoomId());
+        jdbcTemplate.update("DELETE FROM users WHERE id >= ?", summary.getFirstUserId());
+        jdbcTemplate.update("DELETE FROM departments WHERE id >= ?", summary.getFirstDepartmentId());
+        jdbcTemplate.update("DELETE FROM buildings WHERE id >= ?", summary.getFirstBuildingId());
+        jdbcTemplate.update("DELETE FROM room_features WHERE id >= ?", summary.getFirstFeatureId());
+        jdbcTemplate.update("DELETE FROM holidays WHERE id >= ?", summary.getFirstHolidayId());
+    }
+
+    private List<Map<String, Object>> roomFingerprint(SeedSummary summary) {
+        return jdbcTemplate.queryForList(
+                "SELECT name, capacity, floor_number, is_active FROM rooms WHERE id >= ? ORDER BY id",
+                summary.getFirstRoomId());
+    }
+
+    private List<Map<String, Object>> bookingFingerprint(SeedSummary summary) {
+        return jdbcTemplate.queryForList("""
+                SELECT room_id - ? AS room, user_id - ? AS user_offset, start_time, end_time, status, purpose, created_at
+                FROM bookings WHERE id >= ? AND id < ? ORDER BY id
+                """, summary.getFirstRoomId(), summary.getFirstUserId(),
+                summary.getFirstBookingId(), summary.getFirstBookingId() + summary.getBookings());
+    }
+
+    private List<Map<String, Object>> historyFingerprint(SeedSummary summary) {
+        return jdbcTemplate.queryForList("""
+                SELECT booking_id - ? AS booking, user_id - ? AS user_offset, action, action_time, reason
+                FROM booking_history WHERE booking_id >= ? ORDER BY booking_id, action_time, action
+                """, summary.getFirstBookingId(), summary.getFirstUserId(), summary.getFirstBookingId());
+    }
+
+    private int count(String sql, Object... args) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, args);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,203 @@
+package com.sprints.room_booking_system.integration;
+
+import com.sprints.room_booking_system.dto.BulkBookingDecisionDto;
+import com.sprints.room_booking_system.metrics.SqlBudgetFilter;
+import com.sprints.room_booking_system.model.*;
+import com.sprints.room_booking_system.repository.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Query budgets per endpoint: the statement count must not grow with the number of rows returned.
+ */
+class SqlStatementBudgetIntegrationTest extends IntegrationTestBase {
+
+    private static final int ROOM_COUNT = 12;
+    private static final int HISTORY_ENTRIES = 12;
+
+    @Autowired
+    private SqlBudgetFilter sqlBudgetFilter;
+
+    @Autowired
+    private BuildingRepository buildingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private RoomFeatureRepository roomFeatureRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingHistoryRepository bookingHistoryRepository;
+
+    @Autowired
+    private BookingOutboxRepository bookingOutboxRepository;
+
+    private Booking booking;
+    private List<Room> rooms;
+    private List<User> users;
+
+    @BeforeEach
+    void setUpData() {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(webApplicationContext)
+                .addFilters(sqlBudgetFilter)
+                .apply(springSecurity())
+                .build();
+
+        RoomFeature projector = roomFeatureRepository.save(RoomFeature.builder().name("Projector").build());
+        RoomFeature whiteboard = roomFeatureRepository.save(RoomFeature.builder().name("Whiteboard").build());
+        List<Building> buildings = List.of(
+                buildingRepository.save(Building.builder().name("Budget Hall A").location("North").build()),
+                buildingRepository.save(Building.builder().name("Budget Hall B").location("South").build()));
+
+        rooms = new ArrayList<>();
+        for (int i = 0; i < ROOM_COUNT; i++) {
+            rooms.add(Room.builder()
+                    .name("Budget Room " + i)
+                    .capacity(20 + i)
+                    .floorNumber(i % 3)
+                    .building(buildings.get(i % 2))
+                    .features(new ArrayList<>(List.of(projector, whiteboard)))
+                    .isActive(true)
+                    .build());
+        }
+        roomRepository.saveAll(rooms);
+
+        users = new ArrayList<>();
+        for (int i = 0; i < HISTORY_ENTRIES; i++) {
+            users.add(User.builder()
+                    .name("Budget User " + i)
+                    .email("budget.user" + i + "@university.edu")
+                    .password("secret")
+                    .role(UserRole.STUDENT)
+                    .isActive(true)
+                    .build());
+        }
+        userRepository.saveAll(users);
+
+        LocalDateTime start = LocalDateTime.now().plusDays(2);
+        booking = bookingRepository.save(Booking.builder()
+                .room(rooms.get(0))
+                .user(users.get(0))
+                .startTime(start)
+                .endTime(start.plusHours(1))
+                .purpose("Budget check")
+                .status(BookingStatus.PENDING)
+                .build());
+        List<BookingHistory> history = new ArrayList<>();
+        for (User user : users) {
+            history.add(BookingHistory.builder()
+                    .booking(booking)
+                    .user(user)
+                    .action("CREATED")
+                    .reason("Seeded by " + user.getName())
+                    .build());
+        }
+        bookingHistoryRepository.saveAll(history);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        bookingOutboxRepository.deleteAll();
+        bookingHistoryRepository.deleteAll();
+        bookingRepository.deleteAll();
+        roomRepository.deleteAll();
+        roomFeatureRepository.deleteAll();
+        buildingRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    void testRoomListingIsSingleStatement() throws Exception {
+        mockMvc.perform(get("/api/v1/rooms"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(ROOM_COUNT))
+                .andExpect(header().string(SqlBudgetFilter.COUNT_HEADER, "1"))
+                .andExpect(header().exists(SqlBudgetFilter.TIME_HEADER));
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    void testBookingHistoryDoesNotLoadUsersOneByOne() throws Exception {
+        mockMvc.perform(get("/api/v1/bookings/history/{id}", booking.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(HISTORY_ENTRIES))
+                .andExpect(header().string(SqlBudgetFilter.COUNT_HEADER, "1"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testBulkDecisionStatementCountDoesNotGrowWithBatch() throws Exception {
+        User admin = userRepository.save(User.builder()
+                .name("Budget Admin")
+                .email("budget.admin@university.edu")
+                .password("secret")
+                .role(UserRole.ADMIN)
+                .isActive(true)
+                .build());
+        LocalDateTime start = LocalDateTime.now().plusDays(3);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < ROOM_COUNT; i++) {
+            ids.add(bookingRepository.save(Booking.builder()
+                    .room(rooms.get(i))
+                    .user(users.get(i))
+                    .startTime(start)
+                    .endTime(start.plusHours(1))
+                    .purpose("Bulk " + i)
+                    .status(BookingStatus.PENDING)
+                    .build()).getId());
+        }
+        BulkBookingDecisionDto request = BulkBookingDecisionDto.builder()
+                .bookingIds(new LinkedHashSet<>(ids))
+                .decision(BulkBookingDecisionDto.Decision.APPROVE)
+                .build();
+
+        mockMvc.perform(post("/api/v1/bookings/decisions")
+                        .param("adminUserId", admin.getId().toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(ROOM_COUNT))
+                .andExpect(jsonPath("$[*].outcome", everyItem(is("APPROVED"))))
+                // Includes reserving the history ids (one update and one read of id_generator)
+                .andExpect(header().string(SqlBudgetFilter.COUNT_HEADER, "8"));
+
+        assertThat(bookingRepository.findAllById(ids)).extracting(Booking::getStatus)
+                .containsOnly(BookingStatus.APPROVED);
+        assertThat(bookingHistoryRepository.findByAction("APPROVED")).hasSize(ROOM_COUNT);
+        assertThat(bookingOutboxRepository.findAll())
+                .filteredOn(event -> ids.contains(event.getBookingId()))
+                .hasSize(ROOM_COUNT)
+                .allMatch(event -> event.getEventType() == BookingEventType.APPROVED
+                        && event.getActorUserId().equals(admin.getId()));
+    }
+}
@@ -0,0 +1,74 @@
+package com.sprints.room_booking_system.integration;
+
+import com.sprints.room_booking_system.service.BookingService;
+import com.sprints.room_booking_system.tracing.SpanAttributes;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Service calls open a span tagged with the room id, and the repository queries underneath
+ * show up as child spans of the same trace.
+ */
+@AutoConfigureObservability
+@Import(TracingIntegrationTest.InMemoryExporterConfig.class)
+class TracingIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @BeforeEach
+    void resetSpans() {
+        spanExporter.reset();
+    }
+
+    @Test
+    void testServiceSpanCarriesRoomIdAndParentsQuerySpans() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        bookingService.isRoomAvailable(42L, start, start.plusHours(1));
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+
+        List<SpanData> spans = spanExporter.getFinishedSpanItems();
+        SpanData serviceSpan = spans.stream()
+                .filter(span -> span.getName().equals("booking-service-impl#is-room-available"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No service span in " + spans));
+
+        assertThat(serviceSpan.getAttributes().get(AttributeKey.stringKey(SpanAttributes.ROOM_ID))).isEqualTo("42");
+        assertThat(spans)
+                .filteredOn(span -> span.getName().equals("query"))
+                .anySatisfy(query -> {
+                    assertThat(query.getTraceId()).isEqualTo(serviceSpan.getTraceId());
+                    assertThat(query.getParentSpanId()).isEqualTo(serviceSpan.getSpanId());
+                });
+    }
+
+    @TestConfiguration
+    static class InMemoryExporterConfig {
+
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+}
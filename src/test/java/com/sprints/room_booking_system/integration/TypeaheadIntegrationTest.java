@@ -0,0 +1,134 @@
+package com.sprints.room_booking_system.integration;
+
+import com.sprints.room_booking_system.dto.TypeaheadResultDto;
+import com.sprints.room_booking_system.model.Building;
+import com.sprints.room_booking_system.model.Room;
+import com.sprints.room_booking_system.model.User;
+import com.sprints.room_booking_system.model.UserRole;
+import com.sprints.room_booking_system.repository.BuildingRepository;
+import com.sprints.room_booking_system.repository.RoomRepository;
+import com.sprints.room_booking_system.repository.UserRepository;
+import com.sprints.room_booking_system.search.TypeaheadIndex.Kind;
+import com.sprints.room_booking_system.service.TypeaheadService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class TypeaheadIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private TypeaheadService typeaheadService;
+
+    @Autowired
+    private BuildingRepository buildingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Building building;
+
+    @BeforeEach
+    void setUpData() {
+        building = buildingRepository.save(Building.builder().name("Quillon Tower").location("East Campus").build());
+        roomRepository.save(Room.builder()
+                .name("Quillon Studio")
+                .capacity(12)
+                .floorNumber(3)
+                .building(building)
+                .features(new ArrayList<>())
+                .isActive(true)
+                .build());
+        userRepository.save(User.builder()
+                .name("Quillon Admin")
+                .email("quillon@university.edu")
+                .password("secret")
+                .role(UserRole.ADMIN)
+                .isActive(true)
+                .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        roomRepository.deleteAll();
+        buildingRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    void testStudentsSeeRoomsAndBuildingsButNotUsers() throws Exception {
+        mockMvc.perform(get("/api/v1/search/typeahead").param("q", "quil"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].label").value("Quillon Tower"))
+                .andExpect(jsonPath("$[0].type").value("BUILDING"))
+                .andExpect(jsonPath("$[1].label").value("Quillon Studio"))
+                .andExpect(jsonPath("$[1].detail").value("Quillon Tower"))
+                .andExpect(jsonPath("$[*].type", not(hasItem("USER"))));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testAdminsAlsoSeeUsers() throws Exception {
+        mockMvc.perform(get("/api/v1/search/typeahead").param("q", "quillon").param("types", "USER"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].detail").value("quillon@university.edu"));
+    }
+
+    @Test
+    void testCommittedWritesAreIndexedAndRolledBackOnesAreNot() {
+        building.setName("Quillon Annex");
+        buildingRepository.save(building);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            buildingRepository.save(Building.builder().name("Quillon Phantom").location("Nowhere").build());
+            status.setRollbackOnly();
+        });
+
+        assertThat(labels("quillon")).contains("Quillon Annex").doesNotContain("Quillon Tower", "Quillon Phantom");
+
+        roomRepository.deleteAll();
+        buildingRepository.delete(building);
+        assertThat(labels("quillon")).isEmpty();
+    }
+
+    @Test
+    void testRebuildPicksUpRowsWrittenWithPlainSql() {
+        jdbcTemplate.update("INSERT INTO buildings (name, location) VALUES ('Quillon Depot', 'West')");
+        assertThat(labels("depot")).isEmpty();
+
+        typeaheadService.rebuild();
+
+        assertThat(labels("depot")).containsExactly("Quillon Depot");
+    }
+
+    private List<String> labels(String query) {
+        return typeaheadService.search(query, EnumSet.of(Kind.ROOM, Kind.BUILDING), 10).stream()
+                .map(TypeaheadResultDto::getLabel)
+                .toList();
+    }
+}
@@ -0,0 +1,59 @@
+package com.sprints.room_booking_system.metrics;
+
+import com.sprints.room_booking_system.exception.SqlBudgetExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SqlBudgetFilterTest {
+
+    private final SqlStatementListener listener = new SqlStatementListener();
+
+    @Test
+    void testFailOnExceedRejectsBeforeFlushedBodyIsCommitted() {
+        // Given: the handler writes and flushes its body before the budget is checked
+        SqlBudgetFilter filter = new SqlBudgetFilter(new SimpleMeterRegistry(), 1, 10, true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When / Then
+        assertThatThrownBy(() -> filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/rooms"), response,
+                handlerRunning(2)))
+                .isInstanceOf(SqlBudgetExceededException.class);
+        assertThat(response.isCommitted()).isFalse();
+        assertThat(response.getContentLength()).isZero();
+    }
+
+    @Test
+    void testFailOnExceedPassesBodyAndHeadersWithinBudget() throws Exception {
+        // Given
+        SqlBudgetFilter filter = new SqlBudgetFilter(new SimpleMeterRegistry(), 2, 10, true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/rooms"), response, handlerRunning(2));
+
+        // Then
+        assertThat(response.getContentAsString()).isEqualTo("[]");
+        assertThat(response.getHeader(SqlBudgetFilter.COUNT_HEADER)).isEqualTo("2");
+    }
+
+    private FilterChain handlerRunning(int statements) {
+        return (request, response) -> {
+            for (int i = 0; i < statements; i++) {
+                List<QueryInfo> queries = List.of(new QueryInfo("select * from rooms where id=?"));
+                listener.beforeQuery(null, queries);
+                listener.afterQuery(null, queries);
+            }
+            response.getWriter().write("[]");
+            response.flushBuffer();
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package com.sprints.room_booking_system.metrics;
+
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatementStatsTest {
+
+    private final SqlStatementListener listener = new SqlStatementListener();
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementStats.end();
+    }
+
+    @Test
+    void testStatementsOutsideRequestAreIgnored() {
+        recordStatement("select 1");
+
+        assertThat(SqlStatementStats.current()).isNull();
+    }
+
+    @Test
+    void testCountsStatementsAndTracksMostRepeatedSql() {
+        SqlStatementStats stats = SqlStatementStats.begin();
+
+        recordStatement("select * from rooms");
+        for (int i = 0; i < 5; i++) {
+            recordStatement("select * from room_features where room_id=?");
+        }
+        recordStatement("select * from buildings where id=?");
+
+        assertThat(stats.getStatementCount()).isEqualTo(7);
+        assertThat(stats.getMostRepeatedCount()).isEqualTo(5);
+        assertThat(stats.getMostRepeatedSql()).isEqualTo("select * from room_features where room_id=?");
+        assertThat(stats.getTotalNanos()).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    void testEndDetachesStatsFromThread() {
+        SqlStatementStats.begin();
+        SqlStatementStats.end();
+
+        assertThat(SqlStatementStats.current()).isNull();
+    }
+
+    private void recordStatement(String sql) {
+        List<QueryInfo> queries = List.of(new QueryInfo(sql));
+        listener.beforeQuery(null, queries);
+        listener.afterQuery(null, queries);
+    }
+}
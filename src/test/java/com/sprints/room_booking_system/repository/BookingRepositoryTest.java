@@ -230,4 +230,37 @@ class BookingRepositoryTest {
         List<Booking> widerBookings = bookingRepository.findByRoomAndTimeRange(room.getId(), widerStartTime, widerEndTime);
         assertThat(widerBookings).hasSize(1);
     }
+
+    @Test
+    void testUpdatePendingStatusSkipsDecidedBookings() {
+        Booking pending = entityManager.persistAndFlush(Booking.builder()
+                .startTime(LocalDateTime.now().plusHours(3))
+                .endTime(LocalDateTime.now().plusHours(4))
+                .status(BookingStatus.PENDING)
+                .purpose("Seminar")
+                .user(entityManager.find(User.class, user.getId()))
+                .room(entityManager.find(Room.class, room.getId()))
+                .build());
+        entityManager.clear();
+
+        int updated = bookingRepository.updatePendingStatus(
+                List.of(pending.getId(), existingBooking.getId()), BookingStatus.REJECTED);
+        entityManager.clear();
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(bookingRepository.findById(pending.getId()).orElseThrow().getStatus()).isEqualTo(BookingStatus.REJECTED);
+        assertThat(bookingRepository.findById(existingBooking.getId()).orElseThrow().getStatus()).isEqualTo(BookingStatus.APPROVED);
+    }
+
+    @Test
+    void testFindActiveSlotsInRooms() {
+        List<BookingSlot> overlapping = bookingRepository.findActiveSlotsInRooms(List.of(room.getId()),
+                LocalDateTime.now().plusMinutes(90), LocalDateTime.now().plusHours(5));
+        List<BookingSlot> later = bookingRepository.findActiveSlotsInRooms(List.of(room.getId()),
+                LocalDateTime.now().plusHours(3), LocalDateTime.now().plusHours(5));
+
+        assertThat(overlapping).extracting(BookingSlot::id).containsExactly(existingBooking.getId());
+        assertThat(overlapping.get(0).roomId()).isEqualTo(room.getId());
+        assertThat(later).isEmpty();
+    }
 }
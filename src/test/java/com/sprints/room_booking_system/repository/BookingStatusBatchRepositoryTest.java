@@ -0,0 +1,72 @@
+package com.sprints.room_booking_system.repository;
+
+import com.sprints.room_booking_system.model.BookingStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookingStatusBatchRepositoryTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testUpdateStatuses_UsesUpdateCounts() {
+        // Given
+        BookingStatusBatchRepositoryImpl repository = new BookingStatusBatchRepositoryImpl(jdbcTemplate);
+        List<BookingSlot> bookings = List.of(slot(1L, 3), slot(2L, 5));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1, 0});
+
+        // When
+        List<BookingSlot> updated = repository.updateStatuses(bookings, BookingStatus.EXPIRED);
+
+        // Then
+        assertThat(updated).extracting(BookingSlot::id).containsExactly(1L);
+        verify(jdbcTemplate, never()).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+    }
+
+    @Test
+    void testUpdateStatuses_ConfirmsRowsWithoutUpdateCounts() throws Exception {
+        // Given: booking 2 lost the race, another writer moved it to version 6 first
+        BookingStatusBatchRepositoryImpl repository = new BookingStatusBatchRepositoryImpl(jdbcTemplate);
+        List<BookingSlot> bookings = List.of(slot(1L, 3), slot(2L, 5), slot(3L, 0));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{
+                Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO});
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong(1)).thenReturn(1L, 2L);
+        when(rs.getLong(2)).thenReturn(4L, 7L);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(rs);
+            handler.processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+
+        // When
+        List<BookingSlot> updated = repository.updateStatuses(bookings, BookingStatus.EXPIRED);
+
+        // Then
+        assertThat(updated).extracting(BookingSlot::id).containsExactly(1L);
+    }
+
+    private static BookingSlot slot(Long id, long version) {
+        LocalDateTime start = LocalDateTime.now().minusHours(1);
+        return new BookingSlot(id, 10L, 20L, start, start.plusHours(1), BookingStatus.PENDING,
+                start.minusDays(1), version);
+    }
+}
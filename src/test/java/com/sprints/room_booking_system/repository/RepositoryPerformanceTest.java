@@ -0,0 +1,353 @@
+package com.sprints.room_booking_system.repository;
+
+import com.sprints.room_booking_system.metrics.SqlStatementStats;
+import com.sprints.room_booking_system.model.BookingStatus;
+import com.sprints.room_booking_system.seed.SeedPlan;
+import com.sprints.room_booking_system.seed.SeedSummary;
+import com.sprints.room_booking_system.seed.SemesterDataGenerator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency and statement budgets for every custom repository query against a realistically sized
+ * data set (2k rooms, 50k users, 500k bookings by default, from {@link SemesterDataGenerator}) in H2's MySQL mode.
+ * <p>
+ * Tagged {@code performance}: excluded from the default build, run with {@code ./mvnw -Pperf test}.
+ * Sizes can be scaled with {@code -Dperf.rooms}, {@code -Dperf.users} and {@code -Dperf.bookings};
+ * {@code -Dperf.budget-factor} relaxes every latency budget on slow machines.
+ * <p>
+ * Booking, history and user associations are eager to-one, so list queries issue one extra statement per
+ * distinct referenced row; statement budgets are bounded by that, which still fails fast if a query
+ * starts loading per result row or a new association becomes eager.
+ */
+@Tag("performance")
+@SpringBootTest(properties = {
+                "spring.datasource.url=jdbc:h2:mem:perfdb;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "spring.jpa.show-sql=false",
+                "spring.jpa.properties.hibernate.format_sql=false",
+                "logging.level.com.sprints.room_booking_system=INFO",
+                "logging.level.org.hibernate.SQL=WARN",
+                "logging.level.org.springframework.security=WARN"
+        })
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RepositoryPerformanceTest {
+
+    private static final int ROOMS = Integer.getInteger("perf.rooms", 2_000);
+    private static final int USERS = Integer.getInteger("perf.users", 50_000);
+    private static final int BOOKINGS = Integer.getInteger("perf.bookings", 500_000);
+    private static final double BUDGET_FACTOR = Double.parseDouble(System.getProperty("perf.budget-factor", "1.0"));
+
+    private static final int ROOMS_PER_BUILDING = 50;
+    private static final int HISTORY_EVERY_NTH_BOOKING = 5;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 5;
+    private static final long SEED = 42L;
+
+    /** Latency budget for index-backed lookups that return a handful of rows. */
+    private static final long POINT_LOOKUP_MS = 50;
+    /** Latency budget for per-user and per-room lists (hundreds of rows at most). */
+    private static final long LIST_LOOKUP_MS = 150;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private HolidayRepository holidayRepository;
+
+    @Autowired
+    private BookingHistoryRepository bookingHistoryRepository;
+
+    @Autowired
+    private BookingOutboxRepository bookingOutboxRepository;
+
+    private final List<String> report = new ArrayList<>();
+    private SeedSummary seeded;
+    private LocalDateTime calendarStart;
+    private int bookingsPerRoom;
+
+    @BeforeAll
+    void seed() {
+        seeded = new SemesterDataGenerator(jdbcTemplate).generate(SeedPlan.builder()
+                .seed(SEED)
+                .rooms(ROOMS)
+                .roomsPerBuilding(ROOMS_PER_BUILDING)
+                .users(USERS)
+                .bookings(BOOKINGS)
+                .historyEveryNthBooking(HISTORY_EVERY_NTH_BOOKING)
+                .referenceTime(LocalDateTime.now())
+                .calendarStart(LocalDate.now().minusDays(180))
+                .build());
+        calendarStart = seeded.getCalendarStart().atStartOfDay();
+        bookingsPerRoom = seeded.bookingDays();
+        report.add(String.format("seeded %d rooms, %d users, %d bookings, %d history rows in %d ms",
+                seeded.getRooms(), seeded.getUsers(), seeded.getBookings(), seeded.getHistoryRows(),
+                seeded.getElapsedMillis()));
+    }
+
+    @AfterAll
+    void printReport() {
+        System.out.println(String.join(System.lineSeparator(), report));
+    }
+
+    // BookingRepository
+
+    @Test
+    void bookingLookupsByOwnerAndRoom() {
+        measure("BookingRepository.findByUserId", LIST_LOOKUP_MS, 40,
+                () -> bookingRepository.findByUserId(userId(17)));
+        measure("BookingRepository.findByRoomId", LIST_LOOKUP_MS, 400,
+                () -> bookingRepository.findByRoomId(roomId(3)));
+        measure("BookingRepository.findByUserIdAndStatus", LIST_LOOKUP_MS, 40,
+                () -> bookingRepository.findByUserIdAndStatus(userId(17), BookingStatus.APPROVED));
+        measure("BookingRepository.findByRoomIdAndStatus", LIST_LOOKUP_MS, 400,
+                () -> bookingRepository.findByRoomIdAndStatus(roomId(3), BookingStatus.PENDING));
+    }
+
+    @Test
+    void bookingLookupsByTime() {
+        LocalDateTime day = calendarStart.plusDays(bookingsPerRoom / 2);
+        measure("BookingRepository.findByDateRange (one day)", 600, 2 * ROOMS + seeded.getDepartments() + 1,
+                () -> bookingRepository.findByDateRange(day, day.plusDays(1)));
+        measure("BookingRepository.findByRoomAndDateRange (one week)", LIST_LOOKUP_MS, 20,
+                () -> bookingRepository.findByRoomAndDateRange(roomId(3), day, day.plusWeeks(1)));
+        measure("BookingRepository.findByRoomAndTimeRange", LIST_LOOKUP_MS, 10,
+                () -> bookingRepository.findByRoomAndTimeRange(roomId(3), day, day.plusHours(12)));
+    }
+
+    @Test
+    void conflictChecksStayConstant() {
+        LocalDateTime slot = calendarStart.plusDays(bookingsPerRoom / 2).withHour(10);
+        measure("BookingRepository.hasOverlappingBookings", POINT_LOOKUP_MS, 1,
+                () -> bookingRepository.hasOverlappingBookings(roomId(3), slot, slot.plusHours(1)));
+        measure("BookingRepository.hasOverlappingBookings (exclude id)", POINT_LOOKUP_MS, 1,
+                () -> bookingRepository.hasOverlappingBookings(roomId(3), slot, slot.plusHours(1), -1L));
+    }
+
+    @Test
+    void statusUpdateIsSingleStatement() {
+        measure("BookingRepository.updateBookingStatus", POINT_LOOKUP_MS, 1, () -> transactionTemplate.execute(status -> {
+            int updated = bookingRepository.updateBookingStatus(seeded.bookingId(0), BookingStatus.CANCELLED);
+            status.setRollbackOnly();
+            return updated;
+        }));
+    }
+
+    @Test
+    void bulkDecisionQueries() {
+        // A full bulk request: 100 bookings spread over 20 rooms and a week
+        List<Long> bookingIds = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            bookingIds.add(seeded.bookingId(i * 97));
+        }
+        List<Long> roomIds = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            roomIds.add(roomId(i));
+        }
+        LocalDateTime day = calendarStart.plusDays(bookingsPerRoom / 2);
+        measure("BookingRepository.findSlotsByIdIn (100 ids)", POINT_LOOKUP_MS, 1,
+                () -> bookingRepository.findSlotsByIdIn(bookingIds));
+        measure("BookingRepository.findActiveSlotsInRooms (20 rooms, one week)", LIST_LOOKUP_MS, 1,
+                () -> bookingRepository.findActiveSlotsInRooms(roomIds, day, day.plusWeeks(1)));
+        measure("BookingRepository.updatePendingStatus (100 ids)", POINT_LOOKUP_MS, 1,
+                () -> transactionTemplate.execute(status -> {
+                    int updated = bookingRepository.updatePendingStatus(bookingIds, BookingStatus.APPROVED);
+                    status.setRollbackOnly();
+                    return updated;
+                }));
+    }
+
+    @Test
+    void timerRebuildPages() {
+        // The scheduler's startup rebuild pages through active bookings 5k at a time by id
+        long midpoint = seeded.bookingId(BOOKINGS / 2);
+        measure("BookingRepository.findActiveSlotsAfter (first page)", LIST_LOOKUP_MS, 1,
+                () -> bookingRepository.findActiveSlotsAfter(0L, PageRequest.of(0, 5_000)));
+        measure("BookingRepository.findActiveSlotsAfter (middle page)", LIST_LOOKUP_MS, 1,
+                () -> bookingRepository.findActiveSlotsAfter(midpoint, PageRequest.of(0, 5_000)));
+    }
+
+    @Test
+    void archiveChunkSelection() {
+        // Half the calendar has ended, so most of the early ids qualify for archiving
+        LocalDateTime cutoff = calendarStart.plusDays(bookingsPerRoom / 2);
+        measure("BookingRepository.findArchivableIds (1k chunk)", LIST_LOOKUP_MS, 1,
+                () -> bookingRepository.findArchivableIds(cutoff, PageRequest.of(0, 1_000)));
+    }
+
+    @Test
+    void unboundedBookingScans() {
+        // Whole-table reads; budgets guard against a scan turning into per-row statements
+        measure("BookingRepository.findByStatus (REJECTED)", 5_000, ROOMS + USERS + seeded.getDepartments() + 1,
+                () -> bookingRepository.findByStatus(BookingStatus.REJECTED));
+        measure("BookingRepository.findActiveBookings", 15_000, ROOMS + USERS + seeded.getDepartments() + 1,
+                () -> bookingRepository.findActiveBookings());
+    }
+
+    // RoomRepository
+
+    @Test
+    void roomLookups() {
+        String roomName = jdbcTemplate.queryForObject("SELECT name FROM rooms WHERE id = ?", String.class, roomId(3));
+        long buildingId = seeded.getFirstBuildingId();
+        List<Long> featureIds = List.of(seeded.getFirstFeatureId(), seeded.getFirstFeatureId() + 1);
+        measure("RoomRepository.findByName", POINT_LOOKUP_MS, 3,
+                () -> roomRepository.findByName(roomName));
+        measure("RoomRepository.findByBuildingId", LIST_LOOKUP_MS, 3,
+                () -> roomRepository.findByBuildingId(buildingId));
+        measure("RoomRepository.findByBuildingIdAndCapacityGreaterThanEqual", LIST_LOOKUP_MS, 3,
+                () -> roomRepository.findByBuildingIdAndCapacityGreaterThanEqual(buildingId, 60));
+        measure("RoomRepository.findByCapacityGreaterThanEqual", 250, ROOMS / ROOMS_PER_BUILDING + 2,
+                () -> roomRepository.findByCapacityGreaterThanEqual(100));
+        measure("RoomRepository.findByFloorNumber", 250, ROOMS / ROOMS_PER_BUILDING + 2,
+                () -> roomRepository.findByFloorNumber(2));
+        measure("RoomRepository.findByIsActiveTrue", 500, 1,
+                () -> roomRepository.findByIsActiveTrue());
+        measure("RoomRepository.findRoomsByBuildingAndFeatures", LIST_LOOKUP_MS, 3,
+                () -> roomRepository.findRoomsByBuildingAndFeatures(buildingId, featureIds, 2L));
+        List<Long> roomIds = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            roomIds.add(roomId(i * 7));
+        }
+        measure("RoomRepository.findWithBuildingAndFeaturesByIdIn (100 ids)", LIST_LOOKUP_MS, 1,
+                () -> roomRepository.findWithBuildingAndFeaturesByIdIn(roomIds));
+    }
+
+    @Test
+    void roomAvailabilitySearch() {
+        LocalDateTime slot = calendarStart.plusDays(bookingsPerRoom / 2).withHour(10);
+        List<Long> featureIds = List.of(seeded.getFirstFeatureId(), seeded.getFirstFeatureId() + 1);
+        measure("RoomRepository.findAvailableRooms", 1_500, ROOMS / ROOMS_PER_BUILDING + 2,
+                () -> roomRepository.findAvailableRooms(slot, slot.plusHours(1)));
+        measure("RoomRepository.findAvailableRoomsWithFeatures", 1_500, ROOMS / ROOMS_PER_BUILDING + 2,
+                () -> roomRepository.findAvailableRoomsWithFeatures(slot, slot.plusHours(1), featureIds));
+        measure("RoomRepository.findBusyRoomIds", LIST_LOOKUP_MS, 1,
+                () -> roomRepository.findBusyRoomIds(slot, slot.plusHours(1)));
+        measure("RoomRepository.findBuildingIdsWithActiveRooms", LIST_LOOKUP_MS, 1,
+                () -> roomRepository.findBuildingIdsWithActiveRooms());
+        measure("RoomRepository.findAvailableRoomsInBuilding", LIST_LOOKUP_MS, 1,
+                () -> roomRepository.findAvailableRoomsInBuilding(seeded.getFirstBuildingId(), slot, slot.plusHours(1)));
+    }
+
+    // HolidayRepository
+
+    @Test
+    void holidayLookups() {
+        LocalDate today = LocalDate.now();
+        measure("HolidayRepository.findByDate", POINT_LOOKUP_MS, 1,
+                () -> holidayRepository.findByDate(today.withDayOfMonth(1)));
+        measure("HolidayRepository.existsByDate", POINT_LOOKUP_MS, 1,
+                () -> holidayRepository.existsByDate(today.withDayOfMonth(1)));
+        measure("HolidayRepository.findByYear", POINT_LOOKUP_MS, 1,
+                () -> holidayRepository.findByYear(today.getYear()));
+        measure("HolidayRepository.findByMonthAndYear", POINT_LOOKUP_MS, 1,
+                () -> holidayRepository.findByMonthAndYear(today.getMonthValue(), today.getYear()));
+        measure("HolidayRepository.findByDateRange", POINT_LOOKUP_MS, 1,
+                () -> holidayRepository.findByDateRange(today.minusMonths(6), today.plusMonths(6)));
+        measure("HolidayRepository.findByNameContainingIgnoreCase", POINT_LOOKUP_MS, 1,
+                () -> holidayRepository.findByNameContainingIgnoreCase("break"));
+    }
+
+    // BookingHistoryRepository
+
+    @Test
+    void bookingHistoryLookups() {
+        long bookingId = seeded.bookingId(HISTORY_EVERY_NTH_BOOKING * 7 - 1);
+        LocalDateTime day = calendarStart.plusDays(bookingsPerRoom / 2);
+        measure("BookingHistoryRepository.findByBookingId", POINT_LOOKUP_MS, 1,
+                () -> bookingHistoryRepository.findByBookingId(bookingId));
+        measure("BookingHistoryRepository.findByBookingIdAndAction", POINT_LOOKUP_MS, 6,
+                () -> bookingHistoryRepository.findByBookingIdAndAction(bookingId, "CREATED"));
+        measure("BookingHistoryRepository.findRecentHistoryByBooking", POINT_LOOKUP_MS, 6,
+                () -> bookingHistoryRepository.findRecentHistoryByBooking(bookingId));
+        measure("BookingHistoryRepository.findByUserId", LIST_LOOKUP_MS, 40,
+                () -> bookingHistoryRepository.findByUserId(userId(17)));
+        measure("BookingHistoryRepository.findByUserAndDateRange", LIST_LOOKUP_MS, 40,
+                () -> bookingHistoryRepository.findByUserAndDateRange(userId(17), calendarStart, day.plusYears(1)));
+        measure("BookingHistoryRepository.findByDateRange (one day)", 1_000, 2 * ROOMS + seeded.getDepartments() + 1,
+                () -> bookingHistoryRepository.findByDateRange(day, day.plusDays(1)));
+        measure("BookingHistoryRepository.findByAction (REJECTED)", 5_000,
+                BOOKINGS / HISTORY_EVERY_NTH_BOOKING + ROOMS + USERS + seeded.getDepartments() + 1,
+                () -> bookingHistoryRepository.findByAction("REJECTED"));
+    }
+
+    // BookingOutboxRepository
+
+    @Test
+    void outboxPurge() {
+        List<Long> ids = List.of(1L, 2L, 3L);
+        measure("BookingOutboxRepository.findPublishedIdsBefore", POINT_LOOKUP_MS, 1,
+                () -> bookingOutboxRepository.findPublishedIdsBefore(LocalDateTime.now().minusDays(7), PageRequest.of(0, 1_000)));
+        measure("BookingOutboxRepository.deleteByIdIn", POINT_LOOKUP_MS, 1, () -> transactionTemplate.execute(status -> {
+            int deleted = bookingOutboxRepository.deleteByIdIn(ids);
+            status.setRollbackOnly();
+            return deleted;
+        }));
+    }
+
+    /**
+     * Runs the query a few times to warm caches and JIT, then asserts the median latency and the
+     * worst statement count of the measured runs against the budgets.
+     */
+    private void measure(String query, long budgetMillis, int maxStatements, Supplier<?> call) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            call.get();
+        }
+        long[] nanos = new long[MEASURED_RUNS];
+        int statements = 0;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            SqlStatementStats stats = SqlStatementStats.begin();
+            try {
+                long start = System.nanoTime();
+                call.get();
+                nanos[i] = System.nanoTime() - start;
+                statements = Math.max(statements, stats.getStatementCount());
+            } finally {
+                SqlStatementStats.end();
+            }
+        }
+        Arrays.sort(nanos);
+        double medianMillis = nanos[MEASURED_RUNS / 2] / 1e6;
+        double allowedMillis = budgetMillis * BUDGET_FACTOR;
+        report.add(String.format("%-62s %9.2f ms (budget %7.0f) %6d statements (budget %d)",
+                query, medianMillis, allowedMillis, statements, maxStatements));
+
+        assertThat(statements).as("%s statement count", query).isLessThanOrEqualTo(maxStatements);
+        assertThat(medianMillis).as("%s median latency in ms", query).isLessThanOrEqualTo(allowedMillis);
+    }
+
+    private long userId(int index) {
+        return seeded.userId(index);
+    }
+
+    private long roomId(int index) {
+        return seeded.roomId(index);
+    }
+}
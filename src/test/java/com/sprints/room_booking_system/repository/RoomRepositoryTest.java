@@ -204,6 +204,23 @@ class RoomRepositoryTest {
                 .doesNotContain("Room 101");
     }
 
+    @Test
+    void testFindAvailableRoomsInBuilding() {
+        LocalDateTime startTime = existingBooking.getStartTime().plusMinutes(30);
+        LocalDateTime endTime = existingBooking.getEndTime().plusMinutes(30);
+
+        List<Room> availableRooms = roomRepository.findAvailableRoomsInBuilding(building.getId(), startTime, endTime);
+
+        assertThat(availableRooms).extracting("name")
+                .containsExactlyInAnyOrder("Room 102", "Room 103");
+        assertThat(availableRooms.get(0).getFeatures()).isNotEmpty();
+    }
+
+    @Test
+    void testFindBuildingIdsWithActiveRooms() {
+        assertThat(roomRepository.findBuildingIdsWithActiveRooms()).containsExactly(building.getId());
+    }
+
     @Test
     void testFindAvailableRoomsWithFeatures() {
         LocalDateTime startTime = LocalDateTime.now().plusHours(3);
@@ -0,0 +1,78 @@
+package com.sprints.room_booking_system.search;
+
+import com.sprints.room_booking_system.search.BookingTextIndex.BookingEntry;
+import com.sprints.room_booking_system.search.BookingTextIndex.Criteria;
+import com.sprints.room_booking_system.search.BookingTextIndex.HistoryEntry;
+import com.sprints.room_booking_system.search.BookingTextIndex.Kind;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookingTextIndexTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2026, 11, 2, 9, 0);
+
+    private final BookingTextIndex index = new BookingTextIndex(new ByteBuffersDirectory());
+
+    @BeforeEach
+    void setUp() {
+        index.add(new BookingEntry(1L, 10L, "APPROVED", MONDAY, "CS101 final exam"));
+        index.add(new BookingEntry(2L, 10L, "PENDING", MONDAY.plusDays(1), "CS101 tutorial"));
+        index.add(new BookingEntry(3L, 20L, "APPROVED", MONDAY.plusDays(2), "Final year project exam board"));
+        index.add(new HistoryEntry(30L, 3L, 20L, "REJECTED", MONDAY, "Booking rejected: room under maintenance"));
+        index.refresh();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    void testTermsAndPhrases() {
+        assertThat(index.search(bookings("cs101", null, null))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search(bookings("\"final exam\"", null, null))).containsExactly(1L);
+        assertThat(index.search(bookings("final exam", null, null))).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.search(bookings("exam -cs101", null, null))).containsExactly(3L);
+    }
+
+    @Test
+    void testFiltersWithAndWithoutText() {
+        assertThat(index.search(bookings("cs101", "PENDING", null))).containsExactly(2L);
+        assertThat(index.search(bookings(null, null, 20L))).containsExactly(3L);
+        assertThat(index.search(new Criteria(Kind.BOOKING, "", null, null, MONDAY.plusHours(1), null, 10)))
+                .containsExactly(3L, 2L);
+    }
+
+    @Test
+    void testHistoryIsSearchedSeparately() {
+        assertThat(index.search(new Criteria(Kind.HISTORY, "maintenance", "REJECTED", null, null, null, 10)))
+                .containsExactly(30L);
+        assertThat(index.search(bookings("maintenance", null, null))).isEmpty();
+    }
+
+    @Test
+    void testReplaceSwapsABookingAndItsHistory() {
+        index.replace(3L, new BookingEntry(3L, 20L, "CANCELLED", MONDAY.plusDays(2), "Board meeting"),
+                List.of(new HistoryEntry(31L, 3L, 20L, "CANCELLED", MONDAY, "Moved online")));
+        index.replace(2L, null, List.of());
+        index.refresh();
+
+        assertThat(index.search(bookings("exam", null, null))).containsExactly(1L);
+        assertThat(index.search(bookings("board", "CANCELLED", null))).containsExactly(3L);
+        assertThat(index.search(new Criteria(Kind.HISTORY, "maintenance", null, null, null, null, 10))).isEmpty();
+        assertThat(index.search(new Criteria(Kind.HISTORY, "online", null, null, null, null, 10))).containsExactly(31L);
+        assertThat(index.count(Kind.BOOKING)).isEqualTo(2);
+    }
+
+    private static Criteria bookings(String text, String status, Long roomId) {
+        return new Criteria(Kind.BOOKING, text, status, roomId, null, null, 10);
+    }
+}
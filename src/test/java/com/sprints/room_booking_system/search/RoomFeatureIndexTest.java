@@ -0,0 +1,81 @@
+package com.sprints.room_booking_system.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class RoomFeatureIndexTest {
+
+    private static final long PROJECTOR = 1L;
+    private static final long WHITEBOARD = 2L;
+    private static final long LAB_BENCHES = 3L;
+
+    private final RoomFeatureIndex index = new RoomFeatureIndex();
+
+    @BeforeEach
+    void setUp() {
+        index.put(1L, 10L, 30, true, List.of(PROJECTOR, WHITEBOARD));
+        index.put(2L, 10L, 80, true, List.of(PROJECTOR));
+        index.put(3L, 20L, 20, true, List.of(WHITEBOARD, LAB_BENCHES));
+        index.put(4L, 20L, 120, false, List.of(PROJECTOR, WHITEBOARD));
+    }
+
+    @Test
+    void testAllAnyAndNoneFeatures() {
+        assertThat(ids(index.match(List.of(PROJECTOR, WHITEBOARD), null, null, null, null))).containsExactly(1L);
+        assertThat(ids(index.match(null, List.of(PROJECTOR, LAB_BENCHES), null, null, null))).containsExactly(1L, 2L, 3L);
+        assertThat(ids(index.match(List.of(WHITEBOARD), null, List.of(LAB_BENCHES), null, null))).containsExactly(1L);
+        assertThat(ids(index.match(List.of(99L), null, null, null, null))).isEmpty();
+    }
+
+    @Test
+    void testBuildingAndCapacityNarrowTheMatch() {
+        assertThat(ids(index.match(List.of(PROJECTOR), null, null, 10L, 50))).containsExactly(2L);
+        assertThat(ids(index.match(null, null, null, 20L, null))).containsExactly(3L);
+        assertThat(ids(index.match(null, null, null, null, 200))).isEmpty();
+    }
+
+    @Test
+    void testUpdatesMoveRoomsBetweenBitsets() {
+        index.put(2L, 20L, 80, true, null);
+        index.put(4L, 20L, 120, true, List.of(LAB_BENCHES));
+        index.remove(3L);
+
+        assertThat(ids(index.match(List.of(PROJECTOR), null, null, 20L, null))).containsExactly(2L);
+        assertThat(ids(index.match(List.of(LAB_BENCHES), null, null, null, null))).containsExactly(4L);
+
+        index.removeFeature(PROJECTOR);
+        assertThat(ids(index.match(null, List.of(PROJECTOR), null, null, null))).isEmpty();
+        assertThat(ids(index.match(List.of(WHITEBOARD), null, null, null, null))).containsExactly(1L);
+    }
+
+    @Test
+    void testBusyRoomsAreSubtractedWithBits() {
+        BitSet free = index.match(null, null, null, null, null);
+        free.andNot(RoomFeatureIndex.bits(List.of(1L, 3L)));
+
+        assertThat(ids(free)).containsExactly(2L);
+        assertThat(ids(index.match(null, null, null, null, null))).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void testFacetsCountFeaturesBuildingsAndCapacityInOnePass() {
+        BitSet free = index.match(null, null, null, null, null);
+        free.clear(2);
+
+        RoomFeatureIndex.Facets facets = index.facets(free, new int[]{25, 50});
+
+        assertThat(facets.features()).containsOnly(entry(PROJECTOR, 1), entry(WHITEBOARD, 2), entry(LAB_BENCHES, 1));
+        assertThat(facets.buildings()).containsOnly(entry(10L, 1), entry(20L, 1));
+        assertThat(facets.capacityAtLeast()).containsExactly(1, 0);
+    }
+
+    private static List<Long> ids(BitSet bits) {
+        return bits.stream().mapToObj(Long::valueOf).toList();
+    }
+}
@@ -0,0 +1,72 @@
+package com.sprints.room_booking_system.search;
+
+import com.sprints.room_booking_system.search.TypeaheadIndex.Hit;
+import com.sprints.room_booking_system.search.TypeaheadIndex.Kind;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class TypeaheadIndexTest {
+
+    private static final Set<Kind> ALL = EnumSet.allOf(Kind.class);
+
+    private final TypeaheadIndex index = new TypeaheadIndex();
+
+    @Test
+    void testRanksExactThenPrefixThenWordPrefixThenSubstring() {
+        index.put(Kind.ROOM, 1L, "Main Lab", null);
+        index.put(Kind.ROOM, 2L, "Lab", null);
+        index.put(Kind.ROOM, 3L, "Laboratory 4", null);
+        index.put(Kind.BUILDING, 4L, "Science Hall", "Collab Street");
+
+        assertThat(index.search("lab", ALL, 10))
+                .extracting(Hit::id, Hit::rank)
+                .containsExactly(
+                        tuple(2L, 0),
+                        tuple(3L, 1),
+                        tuple(1L, 2),
+                        tuple(4L, 3));
+    }
+
+    @Test
+    void testShortQueriesMatchWordPrefixes() {
+        index.put(Kind.ROOM, 1L, "Room 101", "Engineering");
+        index.put(Kind.FEATURE, 2L, "Projector", null);
+        index.put(Kind.USER, 3L, "Sara Ahmed", "sara@university.edu");
+
+        assertThat(index.search("10", ALL, 10)).extracting(Hit::id).containsExactly(1L);
+        assertThat(index.search("p", ALL, 10)).extracting(Hit::id).containsExactly(2L);
+        assertThat(index.search("a", ALL, 10)).extracting(Hit::id).containsExactly(3L);
+        assertThat(index.search("a", EnumSet.of(Kind.ROOM, Kind.FEATURE), 10)).isEmpty();
+    }
+
+    @Test
+    void testPutReplacesAndRemoveForgets() {
+        index.put(Kind.BUILDING, 1L, "Old Wing", "North");
+        index.put(Kind.BUILDING, 1L, "New Wing", "North");
+
+        assertThat(index.search("old", ALL, 10)).isEmpty();
+        assertThat(index.search("wing", ALL, 10)).extracting(Hit::label).containsExactly("New Wing");
+
+        index.remove(Kind.BUILDING, 1L);
+        assertThat(index.search("wing", ALL, 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void testLimitKeepsTheBestHits() {
+        for (long id = 1; id <= 1_000; id++) {
+            index.put(Kind.ROOM, id, "Room " + id, null);
+        }
+
+        List<Hit> hits = index.search("room 1", ALL, 3);
+
+        assertThat(hits).extracting(Hit::label).containsExactly("Room 1", "Room 10", "Room 11");
+        assertThat(hits.get(0).rank()).isZero();
+    }
+}
@@ -0,0 +1,154 @@
+package com.sprints.room_booking_system.service;
+
+import com.sprints.room_booking_system.model.Booking;
+import com.sprints.room_booking_system.model.BookingHistory;
+import com.sprints.room_booking_system.repository.BookingHistoryRepository;
+import com.sprints.room_booking_system.service.impl.BookingHistoryWriterImpl;
+import com.sprints.room_booking_system.service.impl.BookingHistoryWriterImpl.Durability;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookingHistoryWriterTest {
+
+    @Mock
+    private BookingHistoryRepository bookingHistoryRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    private BookingHistoryWriterImpl writer;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        lenient().doAnswer(invocation -> batchSizes.add(invocation.<List<?>>getArgument(0).size()))
+                .when(bookingHistoryRepository).insertAll(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.stop();
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testAsync_FlushesFullBatches() {
+        // Given
+        writer = writer(Durability.ASYNC, 100, 10, Duration.ofSeconds(5));
+        writer.start();
+
+        // When
+        for (int i = 0; i < 25; i++) {
+            writer.write(history(i));
+        }
+        writer.stop();
+
+        // Then
+        assertThat(batchSizes).startsWith(10, 10);
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(25);
+        verify(bookingHistoryRepository, never()).save(any());
+    }
+
+    @Test
+    void testAsync_FlushesPartialBatchAfterInterval() throws Exception {
+        // Given
+        writer = writer(Durability.ASYNC, 100, 50, Duration.ofMillis(50));
+        writer.start();
+
+        // When
+        writer.writeAll(List.of(history(1), history(2), history(3)));
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (batchSizes.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // Then
+        assertThat(batchSizes).containsExactly(3);
+        assertThat(writer.isRunning()).isTrue();
+    }
+
+    @Test
+    void testAsync_QueuesOnlyAfterCommit() {
+        // Given
+        writer = writer(Durability.ASYNC, 100, 10, Duration.ofSeconds(5));
+        writer.start();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        writer.write(history(1));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        writer.stop();
+
+        // Then
+        assertThat(batchSizes).isEmpty();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        assertThat(batchSizes).containsExactly(1);
+    }
+
+    @Test
+    void testAsync_FullQueueWritesOnCallerThread() {
+        // Given
+        writer = writer(Durability.ASYNC, 2, 10, Duration.ofSeconds(5));
+
+        // When
+        writer.writeAll(List.of(history(1), history(2), history(3)));
+
+        // Then
+        assertThat(batchSizes).containsExactly(3);
+    }
+
+    @Test
+    void testSync_SavesInCallerTransaction() {
+        // Given
+        writer = writer(Durability.SYNC, 100, 10, Duration.ofSeconds(5));
+        writer.start();
+
+        // When
+        writer.write(history(1));
+
+        // Then
+        verify(bookingHistoryRepository).save(any(BookingHistory.class));
+        verify(bookingHistoryRepository, never()).insertAll(any());
+        assertThat(writer.isRunning()).isFalse();
+    }
+
+    private BookingHistoryWriterImpl writer(Durability durability, int capacity, int batchSize, Duration flushInterval) {
+        return new BookingHistoryWriterImpl(bookingHistoryRepository, transactionManager, registry,
+                durability, capacity, batchSize, flushInterval, Duration.ofSeconds(5));
+    }
+
+    private static BookingHistory history(long bookingId) {
+        return BookingHistory.builder()
+                .booking(Booking.builder().id(bookingId).build())
+                .action("CREATED")
+                .reason("Booking created")
+                .actionTime(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,138 @@
+package com.sprints.room_booking_system.service;
+
+import com.sprints.room_booking_system.event.BookingLifecycleEvent;
+import com.sprints.room_booking_system.metrics.OutboxMetrics;
+import com.sprints.room_booking_system.model.BookingEventType;
+import com.sprints.room_booking_system.model.BookingOutboxEvent;
+import com.sprints.room_booking_system.repository.BookingOutboxRepository;
+import com.sprints.room_booking_system.service.impl.BookingOutboxRelay;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookingOutboxRelayTest {
+
+    @Mock
+    private BookingOutboxRepository outboxRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private BookingOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        relay = new BookingOutboxRelay(outboxRepository, eventPublisher, new OutboxMetrics(registry),
+                transactionManager, 2, 3, Duration.ofDays(7), 2);
+    }
+
+    @Test
+    void testRelay_DeliversInOrderUntilDrained() {
+        // Given
+        when(outboxRepository.findUndelivered(eq(3), any()))
+                .thenReturn(List.of(event(1L, 0), event(2L, 0)))
+                .thenReturn(List.of(event(3L, 0)));
+        when(outboxRepository.countUndelivered(3)).thenReturn(0L);
+
+        // When
+        relay.relay();
+
+        // Then
+        ArgumentCaptor<BookingLifecycleEvent> published = ArgumentCaptor.forClass(BookingLifecycleEvent.class);
+        verify(eventPublisher, times(3)).publishEvent(published.capture());
+        assertThat(published.getAllValues()).extracting(BookingLifecycleEvent::eventId).containsExactly(1L, 2L, 3L);
+        verify(outboxRepository).markPublished(eq(List.of(1L, 2L)), any());
+        verify(outboxRepository).markPublished(eq(List.of(3L)), any());
+        assertThat(registry.get("booking.outbox.delivery.lag").timer().count()).isEqualTo(3);
+        assertThat(registry.get("booking.outbox.backlog").gauge().value()).isZero();
+    }
+
+    @Test
+    void testDeliverBatch_StopsAtFailingListenerAndCountsAttempt() {
+        // Given
+        BookingOutboxEvent failing = event(2L, 0);
+        when(outboxRepository.findUndelivered(eq(3), any())).thenReturn(List.of(event(1L, 0), failing, event(3L, 0)));
+        doNothing().doThrow(new IllegalStateException("cache unavailable"))
+                .when(eventPublisher).publishEvent(any(Object.class));
+
+        // When
+        int delivered = relay.deliverBatch();
+
+        // Then
+        assertThat(delivered).isEqualTo(1);
+        verify(eventPublisher, times(2)).publishEvent(any(Object.class));
+        verify(outboxRepository).markPublished(eq(List.of(1L)), any());
+        assertThat(failing.getAttempts()).isEqualTo(1);
+        assertThat(failing.getLastError()).isEqualTo("cache unavailable");
+        assertThat(registry.get("booking.outbox.delivery.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testDeliverBatch_NothingToDeliver() {
+        // Given
+        when(outboxRepository.findUndelivered(anyInt(), any())).thenReturn(List.of());
+
+        // When
+        int delivered = relay.deliverBatch();
+
+        // Then
+        assertThat(delivered).isZero();
+        verify(outboxRepository, never()).markPublished(any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testPurge_DeletesDeliveredEventsInChunks() {
+        // Given
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(7);
+        when(outboxRepository.findPublishedIdsBefore(eq(cutoff), any()))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L))
+                .thenReturn(List.of());
+        when(outboxRepository.deleteByIdIn(any())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        // When
+        int purged = relay.purgePublishedBefore(cutoff);
+
+        // Then
+        assertThat(purged).isEqualTo(3);
+        verify(outboxRepository).deleteByIdIn(List.of(1L, 2L));
+        verify(outboxRepository).deleteByIdIn(List.of(3L));
+    }
+
+    private static BookingOutboxEvent event(Long id, int attempts) {
+        return BookingOutboxEvent.builder()
+                .id(id)
+                .eventType(BookingEventType.CREATED)
+                .bookingId(100L + id)
+                .roomId(1L)
+                .userId(1L)
+                .createdAt(LocalDateTime.now().minusSeconds(1))
+                .attempts(attempts)
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.sprints.room_booking_system.service;
+
+import com.sprints.room_booking_system.service.impl.BookingPartitionMaintainer;
+import com.sprints.room_booking_system.service.impl.BookingPartitionMaintainer.Partition;
+import com.sprints.room_booking_system.service.impl.BookingPartitionMaintainer.Plan;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingPartitionMaintainerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2027, 2, 10);
+
+    private static final List<Partition> PARTITIONS = List.of(
+            new Partition("p202609", LocalDate.of(2026, 10, 1)),
+            new Partition("p202610", LocalDate.of(2026, 11, 1)),
+            new Partition("p202611", LocalDate.of(2026, 12, 1)),
+            new Partition("p202612", LocalDate.of(2027, 1, 1)),
+            new Partition("p_future", null));
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testPlan_AddsMonthsUpToTheHorizonAndDropsExpiredPartitions() {
+        Plan plan = BookingPartitionMaintainer.plan(PARTITIONS, TODAY, 3, LocalDate.of(2026, 11, 15));
+
+        assertThat(plan.add()).containsExactly(
+                YearMonth.of(2027, 1), YearMonth.of(2027, 2), YearMonth.of(2027, 3),
+                YearMonth.of(2027, 4), YearMonth.of(2027, 5));
+        assertThat(plan.drop()).containsExactly("p202609", "p202610");
+    }
+
+    @Test
+    void testPlan_NothingToDoWhenAhead() {
+        Plan plan = BookingPartitionMaintainer.plan(PARTITIONS, LocalDate.of(2026, 9, 20), 2, LocalDate.of(2026, 3, 1));
+
+        assertThat(plan.isEmpty()).isTrue();
+    }
+
+    @Test
+    void testInitialMonths_CoverTheDataAndTheHorizon() {
+        List<YearMonth> months = BookingPartitionMaintainer.initialMonths(
+                LocalDate.of(2026, 11, 20), LocalDate.of(2027, 7, 3), TODAY, 2);
+
+        assertThat(months).first().isEqualTo(YearMonth.of(2026, 11));
+        assertThat(months).last().isEqualTo(YearMonth.of(2027, 7));
+        assertThat(months).hasSize(9);
+    }
+
+    @Test
+    void testInitialMonths_EmptyTableStartsAtTheCurrentMonth() {
+        assertThat(BookingPartitionMaintainer.initialMonths(null, null, TODAY, 2))
+                .containsExactly(YearMonth.of(2027, 2), YearMonth.of(2027, 3), YearMonth.of(2027, 4));
+        assertThat(BookingPartitionMaintainer.partitionBySql(List.of(YearMonth.of(2027, 2))))
+                .isEqualTo("ALTER TABLE bookings PARTITION BY RANGE COLUMNS (start_time) ("
+                        + "PARTITION p202702 VALUES LESS THAN ('2027-03-01'), "
+                        + "PARTITION p_future VALUES LESS THAN (MAXVALUE))");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testMaintain_SplitsFutureAndDropsOnlyEmptyPartitions() {
+        BookingPartitionMaintainer maintainer = new BookingPartitionMaintainer(jdbcTemplate, true, 1, Duration.ofDays(100));
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class))).thenReturn(PARTITIONS);
+        when(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bookings PARTITION (p202609)", Integer.class)).thenReturn(12);
+        when(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bookings PARTITION (p202610)", Integer.class)).thenReturn(0);
+
+        maintainer.maintain(TODAY);
+
+        verify(jdbcTemplate).execute("ALTER TABLE bookings REORGANIZE PARTITION p_future INTO ("
+                + "PARTITION p202701 VALUES LESS THAN ('2027-02-01'), "
+                + "PARTITION p202702 VALUES LESS THAN ('2027-03-01'), "
+                + "PARTITION p202703 VALUES LESS THAN ('2027-04-01'), "
+                + "PARTITION p_future VALUES LESS THAN (MAXVALUE))");
+        verify(jdbcTemplate).execute("ALTER TABLE bookings DROP PARTITION p202610");
+        verify(jdbcTemplate, never()).execute(eq("ALTER TABLE bookings DROP PARTITION p202609"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testMaintain_SkipsUnpartitionedTable() {
+        BookingPartitionMaintainer maintainer = new BookingPartitionMaintainer(jdbcTemplate, true, 3, Duration.ofDays(180));
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class))).thenReturn(List.of());
+
+        assertThat(maintainer.maintain(TODAY).isEmpty()).isTrue();
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+}
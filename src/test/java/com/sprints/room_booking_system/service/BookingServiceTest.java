@@ -1,16 +1,26 @@
 package com.sprints.room_booking_system.service;
 
+import com.sprints.room_booking_system.dto.BookingDecisionResultDto;
+import com.sprints.room_booking_system.dto.BookingDecisionResultDto.Outcome;
 import com.sprints.room_booking_system.dto.BookingDto;
+import com.sprints.room_booking_system.dto.BulkBookingDecisionDto;
 import com.sprints.room_booking_system.exception.BookingConflictException;
 import com.sprints.room_booking_system.exception.InvalidBookingDateException;
 import com.sprints.room_booking_system.exception.UnauthorizedOperationException;
+import com.sprints.room_booking_system.metrics.BookingMetrics;
 import com.sprints.room_booking_system.model.*;
+import com.sprints.room_booking_system.repository.ArchivedBookingHistoryRepository;
+import com.sprints.room_booking_system.repository.ArchivedBookingRepository;
 import com.sprints.room_booking_system.repository.BookingHistoryRepository;
+import com.sprints.room_booking_system.repository.BookingOutboxRepository;
 import com.sprints.room_booking_system.repository.BookingRepository;
+import com.sprints.room_booking_system.repository.BookingSlot;
 import com.sprints.room_booking_system.repository.HolidayRepository;
 import com.sprints.room_booking_system.repository.RoomRepository;
 import com.sprints.room_booking_system.repository.UserRepository;
 import com.sprints.room_booking_system.service.impl.BookingServiceImpl;
+import com.sprints.room_booking_system.service.impl.RoomOccupancy;
+import com.sprints.room_booking_system.tracing.SpanAttributes;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,12 +31,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -48,6 +62,27 @@ class BookingServiceTest {
     @Mock
     private BookingHistoryRepository bookingHistoryRepository;
 
+    @Mock
+    private BookingOutboxRepository bookingOutboxRepository;
+
+    @Mock
+    private ArchivedBookingRepository archivedBookingRepository;
+
+    @Mock
+    private ArchivedBookingHistoryRepository archivedBookingHistoryRepository;
+
+    @Mock
+    private BookingHistoryWriter bookingHistoryWriter;
+
+    @Mock
+    private BookingMetrics bookingMetrics;
+
+    @Mock
+    private SpanAttributes spanAttributes;
+
+    @Mock
+    private RoomOccupancy roomOccupancy;
+
     @InjectMocks
     private BookingServiceImpl bookingService;
 
@@ -113,7 +148,6 @@ class BookingServiceTest {
         when(holidayRepository.findByDateRange(any(LocalDate.class), any(LocalDate.class))).thenReturn(Arrays.asList());
         when(bookingRepository.hasOverlappingBookings(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(false);
         when(bookingRepository.save(any(Booking.class))).thenReturn(createSampleBooking());
-        when(bookingHistoryRepository.save(any(BookingHistory.class))).thenReturn(new BookingHistory());
 
         // When
         BookingDto createdBookingDto = bookingService.createBooking(bookingDto, 1L);
@@ -125,7 +159,62 @@ class BookingServiceTest {
         verify(holidayRepository).findByDateRange(any(LocalDate.class), any(LocalDate.class));
         verify(bookingRepository).hasOverlappingBookings(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class));
         verify(bookingRepository).save(any(Booking.class));
-        verify(bookingHistoryRepository).save(any(BookingHistory.class));
+        verify(bookingHistoryWriter).write(any(BookingHistory.class));
+        verify(bookingOutboxRepository).save(argThat(event -> event.getEventType() == BookingEventType.CREATED));
+    }
+
+    @Test
+    void testCreateBooking_WithOccupancy_ClaimsSlotsWithoutRangeQuery() {
+        // Given
+        when(roomOccupancy.isEnabled()).thenReturn(true);
+        when(roomOccupancy.isAuthoritative()).thenReturn(true);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(roomRepository.findById(1L)).thenReturn(Optional.of(room));
+        when(holidayRepository.findByDateRange(any(LocalDate.class), any(LocalDate.class))).thenReturn(Arrays.asList());
+        when(bookingRepository.save(any(Booking.class))).thenReturn(createSampleBooking());
+
+        // When
+        bookingService.createBooking(bookingDto, 1L);
+
+        // Then
+        verify(roomOccupancy).requireAligned(startTime, endTime);
+        verify(roomOccupancy).occupy(eq(1L), eq(1L), any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(roomRepository, never()).lockForBookingChange(any());
+        verify(bookingRepository, never()).hasOverlappingBookings(any(), any(), any());
+    }
+
+    @Test
+    void testCreateBooking_WithOccupancyBeforeFirstReconcile_KeepsRangeQuery() {
+        // Given
+        when(roomOccupancy.isEnabled()).thenReturn(true);
+        when(bookingRepository.hasOverlappingBookings(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> bookingService.createBooking(bookingDto, 1L))
+                .isInstanceOf(BookingConflictException.class);
+        verify(roomRepository).lockForBookingChange(1L);
+        verify(roomOccupancy).requireAligned(startTime, endTime);
+        verify(roomOccupancy, never()).occupy(any(), any(), any(), any());
+        verify(bookingRepository, never()).save(any());
+    }
+
+    @Test
+    void testCreateBooking_WithOccupancy_SlotTaken() {
+        // Given
+        when(roomOccupancy.isEnabled()).thenReturn(true);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(roomRepository.findById(1L)).thenReturn(Optional.of(room));
+        when(holidayRepository.findByDateRange(any(LocalDate.class), any(LocalDate.class))).thenReturn(Arrays.asList());
+        when(bookingRepository.save(any(Booking.class))).thenReturn(createSampleBooking());
+        doThrow(new BookingConflictException("Room is not available for the specified time period"))
+                .when(roomOccupancy).occupy(any(), any(), any(), any());
+
+        // When & Then
+        assertThatThrownBy(() -> bookingService.createBooking(bookingDto, 1L))
+                .isInstanceOf(BookingConflictException.class);
+        verify(bookingMetrics).createConflict();
+        verify(bookingHistoryWriter, never()).write(any());
     }
 
     @Test
@@ -188,6 +277,19 @@ class BookingServiceTest {
         verify(bookingRepository, never()).save(any());
     }
 
+    @Test
+    void testCreateBooking_LongerThanMaxDuration() {
+        // Given
+        bookingDto.setEndTime(startTime.plusHours(25));
+
+        // When & Then
+        assertThatThrownBy(() -> bookingService.createBooking(bookingDto, 1L))
+                .isInstanceOf(InvalidBookingDateException.class)
+                .hasMessage("Booking cannot be longer than 24 hours");
+
+        verify(bookingRepository, never()).save(any());
+    }
+
     @Test
     void testCreateBooking_RoomNotAvailable() {
         // Given
@@ -200,6 +302,8 @@ class BookingServiceTest {
                 .hasMessage("Room is not available for the specified time period");
 
         verify(bookingRepository).hasOverlappingBookings(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(bookingMetrics).createConflict();
+        verify(spanAttributes, atLeastOnce()).roomId(1L);
         verify(userRepository, never()).findById(any());
         verify(roomRepository, never()).findById(any());
         verify(bookingRepository, never()).save(any());
@@ -224,6 +328,7 @@ class BookingServiceTest {
                 .hasMessage("Cannot book on holidays: New Year");
 
         verify(holidayRepository).findByDateRange(any(LocalDate.class), any(LocalDate.class));
+        verify(bookingMetrics).holidayRejection();
         verify(userRepository, never()).findById(any());
         verify(roomRepository, never()).findById(any());
         verify(bookingRepository, never()).save(any());
@@ -273,7 +378,6 @@ class BookingServiceTest {
         when(holidayRepository.findByDateRange(any(LocalDate.class), any(LocalDate.class))).thenReturn(Arrays.asList());
         when(bookingRepository.hasOverlappingBookings(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class), eq(1L))).thenReturn(false);
         when(bookingRepository.save(any(Booking.class))).thenReturn(existingBooking);
-        when(bookingHistoryRepository.save(any(BookingHistory.class))).thenReturn(new BookingHistory());
 
         // When
         BookingDto updatedBookingDto = bookingService.updateBooking(1L, bookingDto, 1L);
@@ -282,7 +386,7 @@ class BookingServiceTest {
         assertThat(updatedBookingDto).isNotNull();
         verify(bookingRepository).findById(1L);
         verify(bookingRepository).save(existingBooking);
-        verify(bookingHistoryRepository).save(any(BookingHistory.class));
+        verify(bookingHistoryWriter).write(any(BookingHistory.class));
     }
 
     @Test
@@ -337,7 +441,6 @@ class BookingServiceTest {
         when(bookingRepository.findById(1L)).thenReturn(Optional.of(pendingBooking));
         when(bookingRepository.hasOverlappingBookings(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(false);
         when(bookingRepository.save(any(Booking.class))).thenReturn(pendingBooking);
-        when(bookingHistoryRepository.save(any(BookingHistory.class))).thenReturn(new BookingHistory());
 
         // When
         BookingDto approvedBooking = bookingService.approveBooking(1L, 2L);
@@ -347,7 +450,7 @@ class BookingServiceTest {
         verify(userRepository).findById(2L);
         verify(bookingRepository).findById(1L);
         verify(bookingRepository).save(pendingBooking);
-        verify(bookingHistoryRepository).save(any(BookingHistory.class));
+        verify(bookingHistoryWriter).write(any(BookingHistory.class));
     }
 
     @Test
@@ -413,7 +516,6 @@ class BookingServiceTest {
         when(userRepository.findById(2L)).thenReturn(Optional.of(admin));
         when(bookingRepository.findById(1L)).thenReturn(Optional.of(pendingBooking));
         when(bookingRepository.save(any(Booking.class))).thenReturn(pendingBooking);
-        when(bookingHistoryRepository.save(any(BookingHistory.class))).thenReturn(new BookingHistory());
 
         // When
         BookingDto rejectedBooking = bookingService.rejectBooking(1L, 2L, "Room not available");
@@ -423,7 +525,7 @@ class BookingServiceTest {
         verify(userRepository).findById(2L);
         verify(bookingRepository).findById(1L);
         verify(bookingRepository).save(pendingBooking);
-        verify(bookingHistoryRepository).save(any(BookingHistory.class));
+        verify(bookingHistoryWriter).write(any(BookingHistory.class));
     }
 
     // Cancel Booking Tests
@@ -437,7 +539,6 @@ class BookingServiceTest {
         when(bookingRepository.findById(1L)).thenReturn(Optional.of(approvedBooking));
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
         when(bookingRepository.save(any(Booking.class))).thenReturn(approvedBooking);
-        when(bookingHistoryRepository.save(any(BookingHistory.class))).thenReturn(new BookingHistory());
 
         // When
         BookingDto cancelledBooking = bookingService.cancelBooking(1L, 1L, false);
@@ -447,7 +548,7 @@ class BookingServiceTest {
         verify(bookingRepository).findById(1L);
         verify(userRepository).findById(1L);
         verify(bookingRepository).save(approvedBooking);
-        verify(bookingHistoryRepository).save(any(BookingHistory.class));
+        verify(bookingHistoryWriter).write(any(BookingHistory.class));
     }
 
     @Test
@@ -465,7 +566,6 @@ class BookingServiceTest {
         when(bookingRepository.findById(1L)).thenReturn(Optional.of(approvedBooking));
         when(userRepository.findById(2L)).thenReturn(Optional.of(admin));
         when(bookingRepository.save(any(Booking.class))).thenReturn(approvedBooking);
-        when(bookingHistoryRepository.save(any(BookingHistory.class))).thenReturn(new BookingHistory());
 
         // When
         BookingDto cancelledBooking = bookingService.cancelBooking(1L, 2L, true);
@@ -475,7 +575,7 @@ class BookingServiceTest {
         verify(bookingRepository).findById(1L);
         verify(userRepository).findById(2L);
         verify(bookingRepository).save(approvedBooking);
-        verify(bookingHistoryRepository).save(any(BookingHistory.class));
+        verify(bookingHistoryWriter).write(any(BookingHistory.class));
     }
 
     @Test
@@ -564,7 +664,187 @@ class BookingServiceTest {
         verify(bookingRepository).hasOverlappingBookings(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class));
     }
 
+    // Archive Tests
+
+    @Test
+    void testFindBookingsByUser_IncludesArchivedBookings() {
+        // Given
+        Booking hot = createSampleBooking();
+        hot.setId(5L);
+        ArchivedBooking archived = ArchivedBooking.builder()
+                .id(2L)
+                .roomId(1L)
+                .userId(1L)
+                .startTime(startTime.minusYears(1))
+                .endTime(endTime.minusYears(1))
+                .purpose("Old Study Group")
+                .status(BookingStatus.COMPLETED)
+                .archivedAt(LocalDateTime.now())
+                .build();
+        when(bookingRepository.findByUserId(1L)).thenReturn(List.of(hot));
+        when(archivedBookingRepository.findByUserId(1L)).thenReturn(List.of(archived));
+
+        // When
+        List<BookingDto> current = bookingService.findBookingsByUser(1L, false);
+        List<BookingDto> all = bookingService.findBookingsByUser(1L, true);
+
+        // Then
+        assertThat(current).extracting(BookingDto::getId).containsExactly(5L);
+        assertThat(all).extracting(BookingDto::getId, BookingDto::getStatus)
+                .containsExactly(tuple(2L, BookingStatus.COMPLETED), tuple(5L, BookingStatus.PENDING));
+        verify(archivedBookingRepository, times(1)).findByUserId(1L);
+    }
+
+    @Test
+    void testGetBookingHistory_ReadsArchiveForArchivedBooking() {
+        // Given
+        when(bookingHistoryRepository.findByBookingId(2L)).thenReturn(List.of());
+        when(archivedBookingHistoryRepository.findByBookingIdOrderByActionTimeAscIdAsc(2L)).thenReturn(List.of(
+                ArchivedBookingHistory.builder().id(7L).bookingId(2L).userId(1L)
+                        .action("CREATED").reason("Booking created").actionTime(startTime.minusYears(1)).build(),
+                ArchivedBookingHistory.builder().id(8L).bookingId(2L)
+                        .action("COMPLETED").reason("Booking ended").actionTime(endTime.minusYears(1)).build()));
+        when(userRepository.findAllById(any())).thenReturn(List.of(user));
+
+        // When
+        List<Object> history = bookingService.getBookingHistory(2L);
+
+        // Then
+        assertThat(history).extracting(entry -> (Object) ((Map<?, ?>) entry).get("user"))
+                .containsExactly("John Doe", "system");
+    }
+
+    @Test
+    void testGetBookingHistory_ToleratesMissingReason() {
+        // Given
+        BookingHistory hot = BookingHistory.builder().id(3L).user(user)
+                .action("CREATED").actionTime(startTime.minusDays(1)).build();
+        when(bookingHistoryRepository.findByBookingId(1L)).thenReturn(List.of(hot));
+        when(bookingHistoryRepository.findByBookingId(2L)).thenReturn(List.of());
+        when(archivedBookingHistoryRepository.findByBookingIdOrderByActionTimeAscIdAsc(2L)).thenReturn(List.of(
+                ArchivedBookingHistory.builder().id(7L).bookingId(2L).userId(1L)
+                        .action("CREATED").actionTime(startTime.minusYears(1)).build()));
+        when(userRepository.findAllById(any())).thenReturn(List.of(user));
+
+        // When
+        List<Object> current = bookingService.getBookingHistory(1L);
+        List<Object> archived = bookingService.getBookingHistory(2L);
+
+        // Then
+        assertThat(current).singleElement().satisfies(entry -> assertThat((Map<String, Object>) entry)
+                .containsEntry("action", "CREATED").containsEntry("reason", null).containsEntry("user", "John Doe"));
+        assertThat(archived).singleElement().satisfies(entry -> assertThat((Map<String, Object>) entry)
+                .containsEntry("action", "CREATED").containsEntry("reason", null).containsEntry("user", "John Doe"));
+    }
+
     // Helper method to create sample booking
+    // Bulk Decision Tests
+
+    @Test
+    void testDecideBookings_ApprovesOldestCandidateAndReportsConflicts() {
+        // Given
+        User admin = User.builder().id(2L).name("Admin User").role(UserRole.ADMIN).build();
+        LocalDateTime created = LocalDateTime.now().minusDays(1);
+        BookingSlot older = new BookingSlot(10L, 1L, 1L, startTime, endTime, BookingStatus.PENDING, created, 0L);
+        BookingSlot newer = new BookingSlot(11L, 1L, 1L, startTime.plusMinutes(30), endTime.plusMinutes(30),
+                BookingStatus.PENDING, created.plusMinutes(5), 0L);
+        BookingSlot blocked = new BookingSlot(12L, 2L, 1L, startTime, endTime, BookingStatus.PENDING, created, 0L);
+        BookingSlot decided = new BookingSlot(13L, 2L, 1L, startTime, endTime, BookingStatus.APPROVED, created, 0L);
+
+        when(userRepository.findById(2L)).thenReturn(Optional.of(admin));
+        when(bookingRepository.findSlotsByIdIn(any())).thenReturn(List.of(newer, decided, older, blocked));
+        when(bookingRepository.findActiveSlotsInRooms(any(), eq(startTime), eq(endTime.plusMinutes(30))))
+                .thenReturn(List.of(older, newer, blocked, decided));
+        when(bookingRepository.updatePendingStatus(List.of(10L), BookingStatus.APPROVED)).thenReturn(1);
+
+        // When
+        List<BookingDecisionResultDto> outcomes = bookingService.decideBookings(
+                decisionRequest(BulkBookingDecisionDto.Decision.APPROVE, null, 10L, 11L, 12L, 13L, 99L), 2L);
+
+        // Then
+        assertThat(outcomes).extracting(BookingDecisionResultDto::getBookingId, BookingDecisionResultDto::getOutcome)
+                .containsExactly(
+                        tuple(10L, Outcome.APPROVED),
+                        tuple(11L, Outcome.CONFLICT),
+                        tuple(12L, Outcome.CONFLICT),
+                        tuple(13L, Outcome.NOT_PENDING),
+                        tuple(99L, Outcome.NOT_FOUND));
+        assertThat(outcomes.get(1).getMessage()).isEqualTo("Overlaps booking 10");
+        assertThat(outcomes.get(2).getMessage()).isEqualTo("Overlaps booking 13");
+        verify(bookingHistoryWriter).writeAll(argThat(history -> history.size() == 1
+                && history.get(0).getBooking().getId().equals(10L)
+                && history.get(0).getAction().equals("APPROVED")));
+        verify(bookingOutboxRepository).insertAll(argThat(events -> events.size() == 1
+                && events.get(0).getBookingId().equals(10L)
+                && events.get(0).getActorUserId().equals(2L)));
+        verify(bookingMetrics, times(2)).approveConflict();
+        verify(bookingRepository, never()).save(any());
+    }
+
+    @Test
+    void testDecideBookings_RejectsWithoutConflictCheck() {
+        // Given
+        User admin = User.builder().id(2L).name("Admin User").role(UserRole.ADMIN).build();
+        LocalDateTime created = LocalDateTime.now().minusDays(1);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(admin));
+        when(bookingRepository.findSlotsByIdIn(any())).thenReturn(List.of(
+                new BookingSlot(10L, 1L, 1L, startTime, endTime, BookingStatus.PENDING, created, 0L),
+                new BookingSlot(11L, 1L, 1L, startTime, endTime, BookingStatus.PENDING, created, 0L)));
+        when(bookingRepository.updatePendingStatus(any(), eq(BookingStatus.REJECTED))).thenReturn(2);
+
+        // When
+        List<BookingDecisionResultDto> outcomes = bookingService.decideBookings(
+                decisionRequest(BulkBookingDecisionDto.Decision.REJECT, "Room closed", 10L, 11L), 2L);
+
+        // Then
+        assertThat(outcomes).extracting(BookingDecisionResultDto::getOutcome)
+                .containsExactly(Outcome.REJECTED, Outcome.REJECTED);
+        assertThat(outcomes.get(0).getMessage()).isEqualTo("Booking rejected: Room closed");
+        verify(bookingRepository, never()).findActiveSlotsInRooms(any(), any(), any());
+        verify(bookingHistoryWriter).writeAll(argThat(history -> history.size() == 2));
+    }
+
+    @Test
+    void testDecideBookings_RejectRequiresReason() {
+        // Given
+        User admin = User.builder().id(2L).name("Admin User").role(UserRole.ADMIN).build();
+        when(userRepository.findById(2L)).thenReturn(Optional.of(admin));
+
+        // When & Then
+        assertThatThrownBy(() -> bookingService.decideBookings(
+                decisionRequest(BulkBookingDecisionDto.Decision.REJECT, " ", 10L), 2L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("A reason is required to reject bookings");
+
+        verify(bookingRepository, never()).findSlotsByIdIn(any());
+    }
+
+    @Test
+    void testDecideBookings_ConcurrentDecisionAbortsBatch() {
+        // Given
+        User admin = User.builder().id(2L).name("Admin User").role(UserRole.ADMIN).build();
+        LocalDateTime created = LocalDateTime.now().minusDays(1);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(admin));
+        when(bookingRepository.findSlotsByIdIn(any())).thenReturn(List.of(
+                new BookingSlot(10L, 1L, 1L, startTime, endTime, BookingStatus.PENDING, created, 0L)));
+        when(bookingRepository.updatePendingStatus(any(), eq(BookingStatus.REJECTED))).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> bookingService.decideBookings(
+                decisionRequest(BulkBookingDecisionDto.Decision.REJECT, "Room closed", 10L), 2L))
+                .isInstanceOf(BookingConflictException.class);
+
+        verify(bookingHistoryWriter, never()).writeAll(any());
+    }
+
+    private BulkBookingDecisionDto decisionRequest(BulkBookingDecisionDto.Decision decision, String reason, Long... ids) {
+        return BulkBookingDecisionDto.builder()
+                .bookingIds(new LinkedHashSet<>(Arrays.asList(ids)))
+                .decision(decision)
+                .reason(reason)
+                .build();
+    }
+
     private Booking createSampleBooking() {
         return Booking.builder()
                 .id(1L)
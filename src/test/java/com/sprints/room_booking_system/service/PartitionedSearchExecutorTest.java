@@ -0,0 +1,108 @@
+package com.sprints.room_booking_system.service;
+
+import com.sprints.room_booking_system.service.impl.PartitionedSearchExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionedSearchExecutorTest {
+
+    private static final List<Integer> PARTITIONS = IntStream.rangeClosed(1, 40).boxed().toList();
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+    private final AtomicInteger started = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+    }
+
+    @Test
+    void testSearch_CollectsAllPartitionsWhenResultsAreScarce() {
+        PartitionedSearchExecutor executor = new PartitionedSearchExecutor(transactionManager, 4, Duration.ofSeconds(10));
+
+        PartitionedSearchExecutor.Result<Integer> result = executor.search(PARTITIONS, 1_000, partition -> slowQuery(partition, 1));
+
+        assertThat(result.found()).containsExactlyInAnyOrderElementsOf(PARTITIONS);
+        assertThat(result.complete()).isTrue();
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void testSearch_StopsOnceEnoughResultsAreFound() {
+        PartitionedSearchExecutor executor = new PartitionedSearchExecutor(transactionManager, 2, Duration.ofSeconds(10));
+
+        List<Integer> found = executor.search(PARTITIONS, 3, partition -> slowQuery(partition, 20)).found();
+
+        assertThat(found).hasSizeGreaterThanOrEqualTo(3);
+        assertThat(started.get()).isLessThan(PARTITIONS.size());
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+        assertThat(running.get()).isZero();
+    }
+
+    @Test
+    void testSearch_ReturnsPartialResultsOnTimeout() {
+        PartitionedSearchExecutor executor = new PartitionedSearchExecutor(transactionManager, 1, Duration.ofMillis(150));
+
+        PartitionedSearchExecutor.Result<Integer> result = executor.search(PARTITIONS, 1_000, partition -> slowQuery(partition, 50));
+
+        assertThat(result.found()).isNotEmpty().hasSizeLessThan(PARTITIONS.size());
+        assertThat(result.complete()).isFalse();
+    }
+
+    @Test
+    void testSearch_BoundsEachPartitionTransactionByTheRemainingTime() {
+        PartitionedSearchExecutor executor = new PartitionedSearchExecutor(transactionManager, 4, Duration.ofMillis(1_500));
+
+        executor.search(PARTITIONS.subList(0, 4), 1_000, partition -> slowQuery(partition, 1));
+
+        verify(transactionManager, times(4)).getTransaction(argThat(definition ->
+                definition.isReadOnly() && definition.getTimeout() >= 1 && definition.getTimeout() <= 2));
+    }
+
+    @Test
+    void testSearch_PropagatesPartitionFailure() {
+        PartitionedSearchExecutor executor = new PartitionedSearchExecutor(transactionManager, 4, Duration.ofSeconds(10));
+
+        assertThatThrownBy(() -> executor.search(PARTITIONS, 1_000, partition -> {
+            throw new IllegalArgumentException("Building not found with ID: " + partition);
+        }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Building not found");
+    }
+
+    private List<Integer> slowQuery(int partition, long millis) {
+        started.incrementAndGet();
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            running.decrementAndGet();
+        }
+        return List.of(partition);
+    }
+}
@@ -1,6 +1,8 @@
 package com.sprints.room_booking_system.service;
 
+import com.sprints.room_booking_system.dto.RoomAvailabilityResultDto;
 import com.sprints.room_booking_system.dto.RoomDto;
+import com.sprints.room_booking_system.dto.RoomSearchDto;
 import com.sprints.room_booking_system.model.Building;
 import com.sprints.room_booking_system.model.Room;
 import com.sprints.room_booking_system.model.RoomFeature;
@@ -8,7 +10,10 @@ import com.sprints.room_booking_system.repository.BookingRepository;
 import com.sprints.room_booking_system.repository.BuildingRepository;
 import com.sprints.room_booking_system.repository.RoomFeatureRepository;
 import com.sprints.room_booking_system.repository.RoomRepository;
+import com.sprints.room_booking_system.service.impl.PartitionedSearchExecutor;
+import com.sprints.room_booking_system.service.impl.RoomFeatureIndexer;
 import com.sprints.room_booking_system.service.impl.RoomServiceImpl;
+import com.sprints.room_booking_system.tracing.SpanAttributes;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,9 +22,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -42,6 +50,15 @@ class RoomServiceTest {
     @Mock
     private BookingRepository bookingRepository;
     
+    @Mock
+    private SpanAttributes spanAttributes;
+    
+    @Mock
+    private PartitionedSearchExecutor partitionedSearch;
+    
+    @Mock
+    private RoomFeatureIndexer roomFeatureIndexer;
+    
     @InjectMocks
     private RoomServiceImpl roomService;
     
@@ -350,6 +367,84 @@ class RoomServiceTest {
         verify(roomRepository).findAvailableRoomsWithFeatures(startTime, endTime, featureIds);
     }
     
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFindAnyAvailableRooms_MergesBuildingPartitions() {
+        // Given
+        LocalDateTime startTime = LocalDateTime.now().plusHours(1);
+        LocalDateTime endTime = LocalDateTime.now().plusHours(2);
+        Room otherRoom = Room.builder()
+                .id(7L)
+                .name("Room 201")
+                .capacity(40)
+                .floorNumber(2)
+                .building(building)
+                .features(new ArrayList<>())
+                .isActive(true)
+                .build();
+        
+        when(roomRepository.findBuildingIdsWithActiveRooms()).thenReturn(Arrays.asList(2L, 1L));
+        when(roomRepository.findAvailableRoomsInBuilding(2L, startTime, endTime)).thenReturn(Arrays.asList(otherRoom));
+        when(roomRepository.findAvailableRoomsInBuilding(1L, startTime, endTime)).thenReturn(Arrays.asList(room));
+        when(partitionedSearch.search(eq(Arrays.asList(2L, 1L)), eq(1), any())).thenAnswer(invocation -> {
+            Function<Long, List<RoomDto>> query = invocation.getArgument(2);
+            List<RoomDto> found = new ArrayList<>(query.apply(2L));
+            found.addAll(query.apply(1L));
+            return new PartitionedSearchExecutor.Result<>(found, true);
+        });
+        
+        // When
+        RoomAvailabilityResultDto available = roomService.findAnyAvailableRooms(startTime, endTime, 1);
+        
+        // Then
+        assertThat(available.getRooms()).extracting(RoomDto::getId).containsExactly(room.getId());
+        assertThat(available.isTruncated()).isFalse();
+    }
+    
+    @Test
+    void testSearchAvailableRooms_RemovesBusyRoomsFromIndexMatches() {
+        // Given
+        LocalDateTime startTime = LocalDateTime.now().plusHours(1);
+        LocalDateTime endTime = LocalDateTime.now().plusHours(2);
+        RoomSearchDto search = RoomSearchDto.builder()
+                .startTime(startTime)
+                .endTime(endTime)
+                .allFeatureIds(Arrays.asList(1L))
+                .minCapacity(20)
+                .build();
+        BitSet matches = new BitSet();
+        matches.set(1);
+        matches.set(2);
+        
+        when(roomFeatureIndexer.match(Arrays.asList(1L), null, null, null, 20)).thenReturn(matches);
+        when(roomRepository.findBusyRoomIds(startTime, endTime)).thenReturn(Arrays.asList(2L, 9L));
+        when(roomRepository.findWithBuildingAndFeaturesByIdIn(Arrays.asList(1L))).thenReturn(Arrays.asList(room));
+        
+        // When
+        List<RoomDto> available = roomService.searchAvailableRooms(search);
+        
+        // Then
+        assertThat(available).extracting(RoomDto::getId).containsExactly(1L);
+    }
+    
+    @Test
+    void testSearchAvailableRooms_NoIndexMatchSkipsQueries() {
+        // Given
+        RoomSearchDto search = RoomSearchDto.builder()
+                .startTime(LocalDateTime.now().plusHours(1))
+                .endTime(LocalDateTime.now().plusHours(2))
+                .allFeatureIds(Arrays.asList(5L))
+                .build();
+        when(roomFeatureIndexer.match(Arrays.asList(5L), null, null, null, null)).thenReturn(new BitSet());
+        
+        // When
+        List<RoomDto> available = roomService.searchAvailableRooms(search);
+        
+        // Then
+        assertThat(available).isEmpty();
+        verifyNoInteractions(roomRepository);
+    }
+    
     @Test
     void testFindAvailableRoomsWithFeatures_NoFeatures() {
         // Given
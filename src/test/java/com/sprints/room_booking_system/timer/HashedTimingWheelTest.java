@@ -0,0 +1,85 @@
+package com.sprints.room_booking_system.timer;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashedTimingWheelTest {
+
+    private static final Duration TICK = Duration.ofMillis(100);
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private final List<List<String>> fired = new ArrayList<>();
+    private final HashedTimingWheel<String> wheel = new HashedTimingWheel<>(TICK, 8, fired::add, clock::get);
+
+    @Test
+    void testFiresOnTheTickOfTheDeadlineAndNeverEarly() {
+        wheel.schedule("a", Duration.ofMillis(250));
+        wheel.schedule("b", Duration.ofMillis(300));
+
+        advanceBy(Duration.ofMillis(200));
+        assertThat(fired).isEmpty();
+
+        advanceBy(Duration.ofMillis(100));
+        assertThat(fired).containsExactly(List.of("a", "b"));
+        assertThat(wheel.pending()).isZero();
+    }
+
+    @Test
+    void testTimersMoreThanOneRevolutionAwayWaitForTheirRound() {
+        wheel.schedule("late", Duration.ofMillis(2_050));
+
+        advanceBy(Duration.ofMillis(2_000));
+        assertThat(fired).isEmpty();
+        assertThat(wheel.pending()).isEqualTo(1);
+
+        advanceBy(Duration.ofMillis(100));
+        assertThat(fired).containsExactly(List.of("late"));
+    }
+
+    @Test
+    void testOverdueTimersFireOnTheNextTick() {
+        advanceBy(Duration.ofMillis(500));
+        wheel.schedule("overdue", Duration.ofMinutes(-5));
+
+        advanceBy(Duration.ofMillis(100));
+        assertThat(fired).containsExactly(List.of("overdue"));
+    }
+
+    @Test
+    void testCancelledTimersAreDropped() {
+        HashedTimingWheel.Timeout<String> cancelled = wheel.schedule("cancelled", Duration.ofMillis(100));
+        wheel.schedule("kept", Duration.ofMillis(100));
+        cancelled.cancel();
+
+        advanceBy(Duration.ofMillis(100));
+        assertThat(fired).containsExactly(List.of("kept"));
+        assertThat(wheel.pending()).isZero();
+    }
+
+    @Test
+    void testHandlesHundredsOfThousandsOfTimers() {
+        HashedTimingWheel<Integer> large = new HashedTimingWheel<>(TICK, 4096, expired -> fired.add(List.of(String.valueOf(expired.size()))), clock::get);
+        int timers = 300_000;
+        for (int i = 0; i < timers; i++) {
+            large.schedule(i, Duration.ofMillis((i * 7919L) % 3_600_000));
+        }
+        assertThat(large.pending()).isEqualTo(timers);
+
+        clock.addAndGet(Duration.ofHours(1).toNanos());
+        large.advance();
+
+        assertThat(fired.stream().mapToInt(batch -> Integer.parseInt(batch.get(0))).sum()).isEqualTo(timers);
+        assertThat(large.pending()).isZero();
+    }
+
+    private void advanceBy(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+        wheel.advance();
+    }
+}